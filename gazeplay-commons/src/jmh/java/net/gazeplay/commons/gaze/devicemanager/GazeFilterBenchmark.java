@@ -0,0 +1,65 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of each {@link GazeFilterType} for one gaze sample, it must stay well under a microsecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GazeFilterBenchmark {
+
+    private static final int SAMPLE_COUNT = 1024;
+
+    private static final long PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1) / 120;
+
+    @Param({"NONE", "MOVING_AVERAGE", "ONE_EURO", "FIXATION"})
+    private GazeFilterType filterType;
+
+    private GazeFilter filter;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    private int sampleIndex = 0;
+
+    private long sampleNanoTime = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        filter = filterType.newFilter();
+        final Random random = new Random(42);
+        xs = new double[SAMPLE_COUNT];
+        ys = new double[SAMPLE_COUNT];
+        double x = 960;
+        double y = 540;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            if (i % 40 == 0) {
+                // saccade to a new fixation
+                x = random.nextDouble() * 1920;
+                y = random.nextDouble() * 1080;
+            }
+            xs[i] = x + random.nextGaussian() * 8;
+            ys[i] = y + random.nextGaussian() * 8;
+        }
+    }
+
+    @Benchmark
+    public void filter(final Blackhole blackhole) {
+        sampleIndex = (sampleIndex + 1) % SAMPLE_COUNT;
+        sampleNanoTime += PERIOD_NANOS;
+        filter.update(xs[sampleIndex], ys[sampleIndex], sampleNanoTime);
+        blackhole.consume(filter.getX());
+        blackhole.consume(filter.getY());
+    }
+
+}
@@ -0,0 +1,164 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.application.Platform;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Circle;
+import javafx.stage.Stage;
+import net.gazeplay.commons.configuration.ActiveConfigurationContext;
+import net.gazeplay.commons.configuration.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of processing one gaze sample depending on the number of registered event filters.
+ * <p>
+ * {@code linearScan} reproduces the former behaviour (hit-testing every registered node and posting one runnable per
+ * event to the JavaFX thread), {@code indexedLookup} goes through {@link AbstractGazeDeviceManager#onGazeUpdate(Point2D)}
+ * and the {@link GazeTargetIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GazeHitTestingBenchmark {
+
+    private static final int SCREEN_WIDTH = 1920;
+
+    private static final int SCREEN_HEIGHT = 1080;
+
+    private static final int SAMPLE_COUNT = 1024;
+
+    @Param({"10", "100", "1000"})
+    private int targetCount;
+
+    private AbstractGazeDeviceManager gazeDeviceManager;
+
+    private Stage stage;
+
+    private GazeInfos legacyGameScene;
+
+    private Point2D[] samples;
+
+    private int sampleIndex = 0;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        startToolkit();
+
+        gazeDeviceManager = new AbstractGazeDeviceManager() {
+            @Override
+            public void init(final Supplier<Dimension2D> currentScreenDimensionSupplier, final Supplier<Point2D> currentScreenPositionSupplier) {
+            }
+
+            @Override
+            public void destroy() {
+            }
+        };
+
+        final Random random = new Random(42);
+        final CountDownLatch stageShown = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            final Pane root = new Pane();
+            for (int i = 0; i < targetCount; i++) {
+                final Circle target = new Circle(random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT, 40);
+                root.getChildren().add(target);
+                gazeDeviceManager.addEventFilter(target);
+            }
+            stage = new Stage();
+            stage.setX(0);
+            stage.setY(0);
+            stage.setScene(new Scene(root, SCREEN_WIDTH, SCREEN_HEIGHT));
+            stage.show();
+            gazeDeviceManager.setGameSceneRoot(root);
+            legacyGameScene = new GazeInfos(root);
+            stageShown.countDown();
+        });
+        stageShown.await();
+        // the registrations are applied by an update queued on the JavaFX thread
+        final CountDownLatch targetsRegistered = new CountDownLatch(1);
+        Platform.runLater(targetsRegistered::countDown);
+        targetsRegistered.await();
+
+        samples = new Point2D[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            samples[i] = new Point2D(random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gazeDeviceManager.clear();
+        Platform.runLater(() -> stage.close());
+    }
+
+    @Benchmark
+    public void indexedLookup() {
+        gazeDeviceManager.onGazeUpdate(nextSample());
+    }
+
+    @Benchmark
+    public void linearScan() {
+        final Point2D sample = nextSample();
+        final Configuration config = ActiveConfigurationContext.getInstance();
+        if (config.isGazeMouseEnable() && !config.isMouseFree()) {
+            throw new IllegalStateException("gaze mouse must be disabled for this benchmark");
+        }
+        for (final GazeInfos gi : gazeDeviceManager.getShapesEventFilter().values()) {
+            final Node node = gi.getNode();
+            if (node != legacyGameScene.getNode()) {
+                legacyEventFire(sample.getX(), sample.getY(), gi, node);
+            }
+        }
+        legacyEventFire(sample.getX(), sample.getY(), legacyGameScene, legacyGameScene.getNode());
+    }
+
+    private static void legacyEventFire(final double positionX, final double positionY, final GazeInfos gi, final Node node) {
+        if (node.isDisable()) {
+            return;
+        }
+        final Point2D localPosition = node.screenToLocal(positionX, positionY);
+        if (localPosition != null && node.contains(localPosition)) {
+            if (gi.isOn()) {
+                Platform.runLater(() -> node.fireEvent(new GazeEvent(GazeEvent.GAZE_MOVED, gi.getTime(), localPosition.getX(), localPosition.getY())));
+            } else {
+                gi.setOn(true);
+                gi.setTime(System.currentTimeMillis());
+                Platform.runLater(() -> node.fireEvent(new GazeEvent(GazeEvent.GAZE_ENTERED, gi.getTime(), localPosition.getX(), localPosition.getY())));
+            }
+        } else if (gi.isOn()) {
+            gi.setOn(false);
+            gi.setTime(-1);
+            if (localPosition != null) {
+                Platform.runLater(() -> node.fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, gi.getTime(), localPosition.getX(), localPosition.getY())));
+            }
+        }
+    }
+
+    private Point2D nextSample() {
+        sampleIndex = (sampleIndex + 1) % SAMPLE_COUNT;
+        return samples[sampleIndex];
+    }
+
+    private static void startToolkit() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (final IllegalStateException e) {
+            // toolkit already running
+            started.countDown();
+        }
+        Platform.setImplicitExit(false);
+        started.await();
+    }
+
+}
@@ -0,0 +1,96 @@
+package net.gazeplay.commons.utils.games;
+
+import org.openjdk.jmh.annotations.*;
+import org.reflections.Reflections;
+import org.reflections.scanners.ResourcesScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of the resource lookups made to set up a round of WhereIsIt : listing the folders of images, then the images of
+ * the chosen folders.
+ * <p>
+ * {@code reflectionsScan} reproduces the former behaviour (a scan of the classpath by lookup), {@code indexedLookup}
+ * goes through the {@link ResourceIndex} of {@link ResourceFileManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(java.util.concurrent.TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceLookupBenchmark {
+
+    private static final String IMAGES_DIRECTORY = "benchmark/whereisit/images";
+
+    private static final int FOLDER_COUNT = 40;
+
+    private static final int IMAGES_BY_FOLDER = 10;
+
+    private static final int FOLDERS_BY_ROUND = 4;
+
+    private ClassLoader previousClassLoader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final Path root = Files.createTempDirectory("resources");
+        for (int i = 0; i < FOLDER_COUNT; i++) {
+            final Path folder = Files.createDirectories(root.resolve(IMAGES_DIRECTORY + "/folder" + i));
+            for (int j = 0; j < IMAGES_BY_FOLDER; j++) {
+                Files.createFile(folder.resolve("image" + j + ".png"));
+            }
+        }
+        previousClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[]{root.toUri().toURL()}, previousClassLoader));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Thread.currentThread().setContextClassLoader(previousClassLoader);
+    }
+
+    @Benchmark
+    public int indexedLookup() {
+        final List<String> folders = new ArrayList<>(ResourceFileManager.getResourceFolders(IMAGES_DIRECTORY));
+        int count = 0;
+        for (int i = 0; i < FOLDERS_BY_ROUND; i++) {
+            count += ResourceFileManager.getResourcePaths(folders.get(i)).size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int reflectionsScan() {
+        final List<String> folders = new ArrayList<>(legacyGetResourceFolders(IMAGES_DIRECTORY));
+        int count = 0;
+        for (int i = 0; i < FOLDERS_BY_ROUND; i++) {
+            count += legacyGetResourcePaths(folders.get(i)).size();
+        }
+        return count;
+    }
+
+    private static Set<String> legacyGetResourcePaths(final String path) {
+        final String packageName = path.replaceAll("[/\\\\]", ".");
+        final Reflections reflections = new Reflections(packageName, new ResourcesScanner());
+        return reflections.getResources(Pattern.compile(ResourceFileManager.createExtensionRegex(ImageUtils.supportedFilesExtensions)));
+    }
+
+    private static Set<String> legacyGetResourceFolders(final String path) {
+        final Set<String> result = new HashSet<>();
+        for (final String resource : legacyGetResourcePaths(path)) {
+            result.add(new File(resource).getParent());
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,110 @@
+package net.gazeplay.commons.utils.stats;
+
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Shape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of finding the areas of interest to combine, at the end of a session producing {@code areaCount} areas.
+ * <p>
+ * {@code shapeIntersect} reproduces the former behaviour (a {@link Shape#intersect(Shape, Shape)} of every pair of
+ * areas), {@code clipOverlappingBounds} goes through {@link AreaOfInterestGeometry}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class AreaOfInterestMergeBenchmark {
+
+    private static final double COMBINATION_THRESHOLD = 0.70;
+
+    @Param({"1000"})
+    private int areaCount;
+
+    private List<double[]> polygons;
+
+    private List<Polygon> shapes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(42);
+        polygons = new ArrayList<>(areaCount);
+        shapes = new ArrayList<>(areaCount);
+        final int[] xs = new int[20];
+        final int[] ys = new int[20];
+        for (int i = 0; i < areaCount; i++) {
+            // the fixations of an area are spread around a point of a 1920x1080 screen
+            final int centerX = random.nextInt(1920);
+            final int centerY = random.nextInt(1080);
+            final int spread = 10 + random.nextInt(60);
+            for (int j = 0; j < xs.length; j++) {
+                xs[j] = centerX + (int) (random.nextGaussian() * spread);
+                ys[j] = centerY + (int) (random.nextGaussian() * spread);
+            }
+            final double[] polygon = AreaOfInterestGeometry.convexHull(xs, ys, xs.length);
+            polygons.add(polygon);
+            final Polygon shape = new Polygon(polygon);
+            shapes.add(shape);
+        }
+    }
+
+    @Benchmark
+    public int[] clipOverlappingBounds() {
+        final int[] areaMap = new int[areaCount];
+        Arrays.fill(areaMap, -1);
+        final int[][] neighbours = AreaOfInterestGeometry.overlappingBounds(polygons);
+        for (int i = 0; i < areaCount; i++) {
+            final double areaSize = AreaOfInterestGeometry.area(polygons.get(i));
+            for (final int j : neighbours[i]) {
+                final double intersectionSize = AreaOfInterestGeometry.area(
+                    AreaOfInterestGeometry.intersection(polygons.get(i), polygons.get(j)));
+                if (intersectionSize / areaSize > COMBINATION_THRESHOLD) {
+                    combine(areaMap, i, j);
+                    break;
+                }
+            }
+        }
+        return areaMap;
+    }
+
+    @Benchmark
+    public int[] shapeIntersect() {
+        final int[] areaMap = new int[areaCount];
+        Arrays.fill(areaMap, -1);
+        for (int i = 0; i < areaCount; i++) {
+            final Polygon shape = shapes.get(i);
+            final double areaSize = shape.getBoundsInLocal().getWidth() * shape.getBoundsInLocal().getHeight();
+            for (int j = 0; j < areaCount; j++) {
+                if (j != i) {
+                    final Shape intersect = Shape.intersect(shape, shapes.get(j));
+                    if (intersect.getBoundsInLocal().getWidth() != -1) {
+                        final double intersectionSize = intersect.getBoundsInLocal().getWidth() * intersect.getBoundsInLocal().getHeight();
+                        if (intersectionSize / areaSize > COMBINATION_THRESHOLD) {
+                            combine(areaMap, i, j);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return areaMap;
+    }
+
+    private static void combine(final int[] areaMap, final int i, final int j) {
+        if (areaMap[j] != -1) {
+            areaMap[i] = areaMap[j];
+        } else {
+            areaMap[i] = i;
+            areaMap[j] = i;
+        }
+    }
+
+}
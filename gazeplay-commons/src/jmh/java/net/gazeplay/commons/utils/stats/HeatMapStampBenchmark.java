@@ -0,0 +1,79 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of adding one position to the heatmap.
+ * <p>
+ * {@code cellByCell} reproduces the former behaviour (a square root and a bounds check for each cell of the square
+ * around the position), {@code precomputedStamp} goes through {@link HeatMapAccumulator#stamp(int, int)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeatMapStampBenchmark {
+
+    private static final int ROWS = 200;
+
+    private static final int COLUMNS = 356;
+
+    private static final int TRAIL = 10;
+
+    private static final int SAMPLE_COUNT = 1024;
+
+    private double[][] legacyHeatMap;
+
+    private HeatMapAccumulator accumulator;
+
+    private int[] rows;
+
+    private int[] columns;
+
+    private int sampleIndex = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        legacyHeatMap = new double[ROWS][COLUMNS];
+        accumulator = new HeatMapAccumulator(ROWS, COLUMNS, TRAIL);
+        final Random random = new Random(42);
+        rows = new int[SAMPLE_COUNT];
+        columns = new int[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            rows[i] = random.nextInt(ROWS);
+            columns[i] = random.nextInt(COLUMNS);
+        }
+    }
+
+    @Benchmark
+    public void cellByCell() {
+        sampleIndex = (sampleIndex + 1) % SAMPLE_COUNT;
+        final int x = rows[sampleIndex];
+        final int y = columns[sampleIndex];
+        for (int i = -TRAIL; i <= TRAIL; i++) {
+            for (int j = -TRAIL; j <= TRAIL; j++) {
+                if (Math.sqrt(i * i + j * j) < TRAIL) {
+                    legacyIncrement(x + i, y + j);
+                }
+            }
+        }
+    }
+
+    private void legacyIncrement(final int x, final int y) {
+        if (legacyHeatMap != null && x >= 0 && y >= 0 && x < legacyHeatMap.length && y < legacyHeatMap[0].length) {
+            legacyHeatMap[x][y]++;
+        }
+    }
+
+    @Benchmark
+    public void precomputedStamp() {
+        sampleIndex = (sampleIndex + 1) % SAMPLE_COUNT;
+        accumulator.stamp(rows[sampleIndex], columns[sampleIndex]);
+    }
+
+}
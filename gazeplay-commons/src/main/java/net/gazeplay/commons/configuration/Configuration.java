@@ -9,13 +9,12 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.configuration.observableproperties.*;
 import net.gazeplay.commons.gaze.EyeTracker;
+import net.gazeplay.commons.gaze.devicemanager.GazeFilterType;
 import net.gazeplay.commons.utils.games.GazePlayDirectories;
 
 import java.beans.PropertyChangeListener;
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -45,6 +44,7 @@ public class Configuration {
     private static final String PROPERTY_NAME_HEATMAP_COLORS = "HEATMAP_COLORS";
     private static final String PROPERTY_NAME_AREA_OF_INTEREST_DISABLED = "AREA_OF_INTEREST_DISABLED";
     private static final String PROPERTY_NAME_CONVEX_HULL_DISABLED = "CONVEX_HULL_DISABLED";
+    private static final String PROPERTY_NAME_SESSION_RECORDING_DISABLED = "SESSION_RECORDING_DISABLED";
     private static final String PROPERTY_NAME_VIDEO_RECORDING_ENABLED = "VIDEO_RECORDING_ENABLED";
     private static final String PROPERTY_NAME_FIXATIONSEQUENCE_DISABLED = "FIXATIONSEQUENCE_DISABLED";
     private static final String PROPERTY_NAME_MUSIC_VOLUME = "MUSIC_VOLUME";
@@ -52,6 +52,8 @@ public class Configuration {
     private static final String PROPERTY_NAME_EFFECTS_VOLUME = "EFFECTS_VOLUME";
     private static final String PROPERTY_NAME_GAZE_MENU = "GAZE_MENU";
     private static final String PROPERTY_NAME_GAZE_MOUSE = "GAZE_MOUSE";
+    private static final String PROPERTY_NAME_GAZE_SAMPLING_RATE = "GAZE_SAMPLING_RATE";
+    private static final String PROPERTY_NAME_GAZE_FILTER = "GAZE_FILTER";
     private static final String PROPERTY_NAME_BACKGROUND_STYLE = "BACKGROUND_STYLE";
     private static final String PROPERTY_NAME_BACKGROUND_ENABLED = "BACKGROUND_ENABLED";
     private static final String PROPERTY_NAME_ANIMATION_SPEED_RATIO = "ANIMATION_SPEED_RATIO";
@@ -83,6 +85,7 @@ public class Configuration {
     public static final String DEFAULT_VALUE_HEATMAP_COLORS = "0000FF,00FF00,FFFF00,FF0000";
     private static final boolean DEFAULT_VALUE_AREA_OF_INTEREST_DISABLED = false;
     private static final boolean DEFAULT_VALUE_CONVEX_HULL_DISABLED = false;
+    private static final boolean DEFAULT_VALUE_SESSION_RECORDING_DISABLED = false;
     private static final boolean DEFAULT_VALUE_VIDEO_RECORDING_ENABLED = false;
     private static final boolean DEFAULT_VALUE_FIXATIONSEQUENCE_DISABLED = false;
     public static final double DEFAULT_VALUE_MUSIC_VOLUME = 0.25d;
@@ -92,6 +95,8 @@ public class Configuration {
     private static final boolean DEFAULT_VALUE_FORCE_DISPLAY_NEWS = false;
     private static final boolean DEFAULT_VALUE_GAZE_MENU = false;
     private static final boolean DEFAULT_VALUE_GAZE_MOUSE = false;
+    private static final int DEFAULT_VALUE_GAZE_SAMPLING_RATE = 120;
+    private static final GazeFilterType DEFAULT_VALUE_GAZE_FILTER = GazeFilterType.NONE;
     private static final BackgroundStyle DEFAULT_VALUE_BACKGROUND_STYLE = BackgroundStyle.DARK;
     private static final boolean DEFAULT_VALUE_BACKGROUND_ENABLED = false;
     private static final double DEFAULT_VALUE_ANIMATION_SPEED_RATIO = 1;
@@ -182,6 +187,9 @@ public class Configuration {
     @Getter
     private final BooleanProperty convexHullDisabledProperty;
 
+    @Getter
+    private final BooleanProperty sessionRecordingDisabledProperty;
+
     @Getter
     private final BooleanProperty videoRecordingEnabledProperty;
 
@@ -191,6 +199,12 @@ public class Configuration {
     @Getter
     private final BooleanProperty gazeMouseEnabledProperty;
 
+    @Getter
+    private final IntegerProperty gazeSamplingRateProperty;
+
+    @Getter
+    private final ObjectProperty<GazeFilterType> gazeFilterProperty;
+
     @Getter
     private final ObjectProperty<BackgroundStyle> backgroundStyleProperty;
 
@@ -228,11 +242,14 @@ public class Configuration {
 
     private final ApplicationConfig applicationConfig;
 
+    private final ConfigurationWriter configurationWriter;
+
     protected Configuration(final File configFile, final ApplicationConfig applicationConfig) {
         this.configFile = configFile;
         this.applicationConfig = applicationConfig;
 
-        final PropertyChangeListener propertyChangeListener = evt -> saveConfigIgnoringExceptions();
+        configurationWriter = new ConfigurationWriter(configFile, outputStream -> applicationConfig.store(outputStream, "Automatically generated by GazePlay"));
+        final PropertyChangeListener propertyChangeListener = evt -> configurationWriter.requestSave();
 
         languageProperty = new ApplicationConfigBackedStringProperty(applicationConfig, PROPERTY_NAME_LANGUAGE, Locale.getDefault().getISO3Language(), propertyChangeListener);
         countryProperty = new ApplicationConfigBackedStringProperty(applicationConfig, PROPERTY_NAME_COUNTRY, Locale.getDefault().getCountry(), propertyChangeListener);
@@ -261,10 +278,15 @@ public class Configuration {
 
         areaOfInterestDisabledProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_AREA_OF_INTEREST_DISABLED, DEFAULT_VALUE_AREA_OF_INTEREST_DISABLED, propertyChangeListener);
         convexHullDisabledProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_CONVEX_HULL_DISABLED, DEFAULT_VALUE_CONVEX_HULL_DISABLED, propertyChangeListener);
+        sessionRecordingDisabledProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_SESSION_RECORDING_DISABLED, DEFAULT_VALUE_SESSION_RECORDING_DISABLED, propertyChangeListener);
         videoRecordingEnabledProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_VIDEO_RECORDING_ENABLED, DEFAULT_VALUE_VIDEO_RECORDING_ENABLED, propertyChangeListener);
         fixationSequenceDisabledProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_FIXATIONSEQUENCE_DISABLED, DEFAULT_VALUE_FIXATIONSEQUENCE_DISABLED, propertyChangeListener);
         gazeMenuEnabledProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_GAZE_MENU, DEFAULT_VALUE_GAZE_MENU, propertyChangeListener);
         gazeMouseEnabledProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_GAZE_MOUSE, DEFAULT_VALUE_GAZE_MOUSE, propertyChangeListener);
+        gazeSamplingRateProperty = new ApplicationConfigBackedIntegerProperty(applicationConfig, PROPERTY_NAME_GAZE_SAMPLING_RATE, DEFAULT_VALUE_GAZE_SAMPLING_RATE, propertyChangeListener);
+        gazeFilterProperty = new ApplicationConfigBackedObjectProperty<>(applicationConfig, PROPERTY_NAME_GAZE_FILTER, DEFAULT_VALUE_GAZE_FILTER, propertyChangeListener,
+            new EnumMarshaller<>(),
+            new EnumUnmarshaller<>(GazeFilterType.class));
         backgroundStyleProperty = new ApplicationConfigBackedObjectProperty<>(applicationConfig, PROPERTY_NAME_BACKGROUND_STYLE, DEFAULT_VALUE_BACKGROUND_STYLE, propertyChangeListener,
             new EnumMarshaller<>(),
             new EnumUnmarshaller<>(BackgroundStyle.class));
@@ -295,11 +317,14 @@ public class Configuration {
     }
 
     private void saveConfig() throws IOException {
-        log.info("Saving Config {} ...", configFile);
-        try (final OutputStream fileOutputStream = Files.newOutputStream(configFile.toPath())) {
-            final String fileComment = "Automatically generated by GazePlay";
-            applicationConfig.store(fileOutputStream, fileComment);
-        }
+        configurationWriter.save();
+    }
+
+    /**
+     * Writes the pending changes now, if any.
+     */
+    void flushPendingChanges() {
+        configurationWriter.flush();
     }
 
     /**
@@ -409,6 +434,18 @@ public class Configuration {
         return fixationSequenceDisabledProperty.getValue();
     }
 
+    public Boolean isAreaOfInterestDisabled() {
+        return areaOfInterestDisabledProperty.getValue();
+    }
+
+    public Boolean isConvexHullDisabled() {
+        return convexHullDisabledProperty.getValue();
+    }
+
+    public Boolean isSessionRecordingDisabled() {
+        return sessionRecordingDisabledProperty.getValue();
+    }
+
     public String getMusicFolder() {
         return musicFolderProperty.getValue();
     }
@@ -425,6 +462,14 @@ public class Configuration {
         return gazeMouseEnabledProperty.getValue();
     }
 
+    public Integer getGazeSamplingRate() {
+        return gazeSamplingRateProperty.getValue();
+    }
+
+    public GazeFilterType getGazeFilter() {
+        return gazeFilterProperty.getValue();
+    }
+
     public BackgroundStyle getBackgroundStyle() {
         return backgroundStyleProperty.getValue();
     }
@@ -0,0 +1,144 @@
+package net.gazeplay.commons.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind persistence of a configuration file.
+ * <p>
+ * A change only schedules a write on a background thread, so that a burst of changes (a slider being dragged) results
+ * in a single write, and the thread changing the configuration (usually the JavaFX thread) never waits for the disk.
+ * The file is written to a temporary file which then replaces the configuration file, so that it is never left half
+ * written. Pending changes are written when the JVM shuts down.
+ */
+@Slf4j
+class ConfigurationWriter {
+
+    static final long DEFAULT_DELAY_MILLIS = 500;
+
+    private static final ScheduledExecutorService executorService = createExecutorService();
+
+    /**
+     * writers with changes not written yet.
+     */
+    private static final Set<ConfigurationWriter> pendingWriters = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ConfigurationWriter::flushAll, "ConfigurationWriter-shutdown"));
+    }
+
+    interface ConfigurationStore {
+
+        void store(OutputStream outputStream) throws IOException;
+
+    }
+
+    private final File configFile;
+
+    private final ConfigurationStore configurationStore;
+
+    private final long delayMillis;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private final Object writeLock = new Object();
+
+    ConfigurationWriter(final File configFile, final ConfigurationStore configurationStore) {
+        this(configFile, configurationStore, DEFAULT_DELAY_MILLIS);
+    }
+
+    ConfigurationWriter(final File configFile, final ConfigurationStore configurationStore, final long delayMillis) {
+        this.configFile = configFile;
+        this.configurationStore = configurationStore;
+        this.delayMillis = delayMillis;
+    }
+
+    private static ScheduledExecutorService createExecutorService() {
+        final GroupingThreadFactory threadFactory = new GroupingThreadFactory("ConfigurationWriter");
+        // pending changes are written by the shutdown hook, the thread must not keep the JVM alive
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadScheduledExecutor(new CustomThreadFactory("ConfigurationWriter", threadFactory));
+    }
+
+    static void flushAll() {
+        for (final ConfigurationWriter writer : pendingWriters) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Schedules a write of the configuration, changes requested before the write are written together.
+     */
+    void requestSave() {
+        if (dirty.compareAndSet(false, true)) {
+            pendingWriters.add(this);
+            executorService.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    boolean isDirty() {
+        return dirty.get();
+    }
+
+    /**
+     * Writes the pending changes now, if any.
+     */
+    void flush() {
+        synchronized (writeLock) {
+            pendingWriters.remove(this);
+            if (!dirty.getAndSet(false)) {
+                return;
+            }
+            try {
+                write();
+            } catch (final IOException e) {
+                log.error("Exception while writing configuration to file {}", configFile, e);
+            }
+        }
+    }
+
+    /**
+     * Writes the configuration now, whether there are pending changes or not.
+     */
+    void save() throws IOException {
+        synchronized (writeLock) {
+            pendingWriters.remove(this);
+            dirty.set(false);
+            write();
+        }
+    }
+
+    private void write() throws IOException {
+        log.info("Saving Config {} ...", configFile);
+        final Path target = configFile.toPath().toAbsolutePath();
+        final Path temporaryFile = Files.createTempFile(target.getParent(), configFile.getName(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                configurationStore.store(outputStream);
+            }
+            try {
+                Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package net.gazeplay.commons.configuration.observableproperties;
+
+import java.util.function.Supplier;
+
+/**
+ * Value of a property read from the backing configuration, kept until the property is set again, so that reading a
+ * setting on the event path does not parse a string each time.
+ * <p>
+ * The value is loaded without holding the lock, and only kept if no {@link #write(Runnable)} happened meanwhile : a
+ * read racing with a write can never keep the previous value.
+ */
+class CachedPropertyValue<T> {
+
+    private final Supplier<T> loader;
+
+    /**
+     * the loaded value, null until the first read and after each write
+     */
+    private volatile Holder<T> holder;
+
+    /**
+     * number of writes, guarded by this
+     */
+    private long version;
+
+    CachedPropertyValue(final Supplier<T> loader) {
+        this.loader = loader;
+    }
+
+    T get() {
+        final Holder<T> current = holder;
+        if (current != null) {
+            return current.value;
+        }
+        final long loadVersion;
+        synchronized (this) {
+            loadVersion = version;
+        }
+        final T value = loader.get();
+        synchronized (this) {
+            if (version == loadVersion) {
+                holder = new Holder<>(value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Writes the property to the backing configuration, then forgets the loaded value.
+     */
+    synchronized void write(final Runnable writer) {
+        try {
+            writer.run();
+        } finally {
+            version++;
+            holder = null;
+        }
+    }
+
+    private static class Holder<T> {
+
+        private final T value;
+
+        Holder(final T value) {
+            this.value = value;
+        }
+
+    }
+
+}
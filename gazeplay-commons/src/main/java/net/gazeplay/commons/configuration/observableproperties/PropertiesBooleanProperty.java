@@ -17,6 +17,8 @@ public abstract class PropertiesBooleanProperty extends BooleanPropertyBase {
 
     private final PropertyChangeListener propertyChangeListener;
 
+    private final CachedPropertyValue<Boolean> cachedValue = new CachedPropertyValue<>(this::loadValue);
+
     @Override
     public Object getBean() {
         return null;
@@ -33,17 +35,18 @@ public abstract class PropertiesBooleanProperty extends BooleanPropertyBase {
 
     @Override
     public boolean get() {
+        return cachedValue.get();
+    }
+
+    private Boolean loadValue() {
         final String propertyValue = getProperty(propertyName);
-        if (propertyValue == null) {
-            return defaultValue;
-        }
-        return Boolean.parseBoolean(propertyValue);
+        return propertyValue == null ? defaultValue : Boolean.parseBoolean(propertyValue);
     }
 
     @Override
     public void set(final boolean value) {
         log.info("Set property {} to {}", propertyName, value);
-        setProperty(propertyName, Boolean.toString(value));
+        cachedValue.write(() -> setProperty(propertyName, Boolean.toString(value)));
         propertyChangeListener.propertyChange(new PropertyChangeEvent(this, propertyName, null, value));
     }
 
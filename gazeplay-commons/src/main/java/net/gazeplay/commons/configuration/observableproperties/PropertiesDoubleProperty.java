@@ -17,6 +17,8 @@ public abstract class PropertiesDoubleProperty extends DoublePropertyBase {
 
     private final PropertyChangeListener propertyChangeListener;
 
+    private final CachedPropertyValue<Double> cachedValue = new CachedPropertyValue<>(this::loadValue);
+
     @Override
     public Object getBean() {
         return null;
@@ -33,17 +35,18 @@ public abstract class PropertiesDoubleProperty extends DoublePropertyBase {
 
     @Override
     public double get() {
+        return cachedValue.get();
+    }
+
+    private Double loadValue() {
         final String propertyValue = getProperty(propertyName);
-        if (propertyValue == null) {
-            return defaultValue;
-        }
-        return Double.parseDouble(propertyValue);
+        return propertyValue == null ? defaultValue : Double.parseDouble(propertyValue);
     }
 
     @Override
     public void set(final double value) {
         log.info("Set property {} to {}", propertyName, value);
-        setProperty(propertyName, Double.toString(value));
+        cachedValue.write(() -> setProperty(propertyName, Double.toString(value)));
         propertyChangeListener.propertyChange(new PropertyChangeEvent(this, propertyName, null, value));
     }
 
@@ -17,6 +17,8 @@ public abstract class PropertiesIntegerProperty extends IntegerPropertyBase {
 
     private final PropertyChangeListener propertyChangeListener;
 
+    private final CachedPropertyValue<Integer> cachedValue = new CachedPropertyValue<>(this::loadValue);
+
     @Override
     public Object getBean() {
         return null;
@@ -33,17 +35,18 @@ public abstract class PropertiesIntegerProperty extends IntegerPropertyBase {
 
     @Override
     public int get() {
+        return cachedValue.get();
+    }
+
+    private Integer loadValue() {
         final String propertyValue = getProperty(propertyName);
-        if (propertyValue == null) {
-            return defaultValue;
-        }
-        return Integer.parseInt(propertyValue);
+        return propertyValue == null ? defaultValue : Integer.parseInt(propertyValue);
     }
 
     @Override
     public void set(final int value) {
         log.info("Set property {} to {}", propertyName, value);
-        setProperty(propertyName, Integer.toString(value));
+        cachedValue.write(() -> setProperty(propertyName, Integer.toString(value)));
         propertyChangeListener.propertyChange(new PropertyChangeEvent(this, propertyName, null, value));
     }
 
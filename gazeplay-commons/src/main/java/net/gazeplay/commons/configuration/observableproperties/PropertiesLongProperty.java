@@ -17,6 +17,8 @@ public abstract class PropertiesLongProperty extends LongPropertyBase {
 
     private final PropertyChangeListener propertyChangeListener;
 
+    private final CachedPropertyValue<Long> cachedValue = new CachedPropertyValue<>(this::loadValue);
+
     @Override
     public Object getBean() {
         return null;
@@ -33,17 +35,18 @@ public abstract class PropertiesLongProperty extends LongPropertyBase {
 
     @Override
     public long get() {
+        return cachedValue.get();
+    }
+
+    private Long loadValue() {
         final String propertyValue = getProperty(propertyName);
-        if (propertyValue == null) {
-            return defaultValue;
-        }
-        return Long.parseLong(propertyValue);
+        return propertyValue == null ? defaultValue : Long.parseLong(propertyValue);
     }
 
     @Override
     public void set(final long value) {
         log.info("Set property {} to {}", propertyName, value);
-        setProperty(propertyName, Long.toString(value));
+        cachedValue.write(() -> setProperty(propertyName, Long.toString(value)));
         propertyChangeListener.propertyChange(new PropertyChangeEvent(this, propertyName, null, value));
     }
 
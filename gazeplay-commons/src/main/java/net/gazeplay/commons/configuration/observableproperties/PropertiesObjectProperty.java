@@ -17,6 +17,8 @@ public abstract class PropertiesObjectProperty<T> extends ObjectPropertyBase<T>
 
     private final PropertyChangeListener propertyChangeListener;
 
+    private final CachedPropertyValue<T> cachedValue = new CachedPropertyValue<>(this::loadValue);
+
     @Override
     public Object getBean() {
         return null;
@@ -33,17 +35,18 @@ public abstract class PropertiesObjectProperty<T> extends ObjectPropertyBase<T>
 
     @Override
     public T get() {
+        return cachedValue.get();
+    }
+
+    private T loadValue() {
         final T propertyValue = getProperty(propertyName);
-        if (propertyValue == null) {
-            return defaultValue;
-        }
-        return propertyValue;
+        return propertyValue == null ? defaultValue : propertyValue;
     }
 
     @Override
     public void set(final T value) {
         log.info("Set property {} to {}", propertyName, value);
-        setProperty(propertyName, value);
+        cachedValue.write(() -> setProperty(propertyName, value));
         propertyChangeListener.propertyChange(new PropertyChangeEvent(this, propertyName, null, value));
     }
 
@@ -17,6 +17,8 @@ public abstract class PropertiesStringProperty extends StringPropertyBase {
 
     private final PropertyChangeListener propertyChangeListener;
 
+    private final CachedPropertyValue<String> cachedValue = new CachedPropertyValue<>(this::loadValue);
+
     @Override
     public Object getBean() {
         return null;
@@ -33,17 +35,18 @@ public abstract class PropertiesStringProperty extends StringPropertyBase {
 
     @Override
     public String get() {
+        return cachedValue.get();
+    }
+
+    private String loadValue() {
         final String propertyValue = getProperty(propertyName);
-        if (propertyValue == null) {
-            return defaultValue;
-        }
-        return propertyValue;
+        return propertyValue == null ? defaultValue : propertyValue;
     }
 
     @Override
     public void set(final String value) {
         log.info("Set property {} to {}", propertyName, value);
-        setProperty(propertyName, value);
+        cachedValue.write(() -> setProperty(propertyName, value));
         propertyChangeListener.propertyChange(new PropertyChangeEvent(this, propertyName, null, value));
     }
 
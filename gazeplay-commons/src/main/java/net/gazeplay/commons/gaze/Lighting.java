@@ -2,7 +2,6 @@ package net.gazeplay.commons.gaze;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
-import javafx.animation.SequentialTransition;
 import javafx.animation.Timeline;
 import javafx.event.Event;
 import javafx.event.EventHandler;
@@ -22,6 +21,11 @@ public class Lighting extends Parent {
     private final int lightingLength;
     private final Color lightingColor;
 
+    /**
+     * built on the first lighting of the pixel, then replayed
+     */
+    private Timeline timeline;
+
     Lighting(int x, int y, int pixelWidth, int lightingLength, Color lightingColor) {
         this.lightingLength = lightingLength * 1000;
         this.lightingColor = lightingColor;
@@ -42,16 +46,13 @@ public class Lighting extends Parent {
 
     public void enter() {
 
-        Timeline timeline = new Timeline();
-        Timeline timeline2 = new Timeline();
-
-        timeline.getKeyFrames().add(new KeyFrame(new Duration(1), new KeyValue(pixel.fillProperty(), lightingColor)));
-        timeline2.getKeyFrames()
-            .add(new KeyFrame(new Duration(lightingLength), new KeyValue(pixel.fillProperty(), Color.BLACK)));
-
-        SequentialTransition sequence = new SequentialTransition(timeline, timeline2);
+        if (timeline == null) {
+            timeline = new Timeline(
+                new KeyFrame(new Duration(1), new KeyValue(pixel.fillProperty(), lightingColor)),
+                new KeyFrame(new Duration(1 + lightingLength), new KeyValue(pixel.fillProperty(), Color.BLACK)));
+        }
 
-        sequence.play();
+        timeline.playFromStart();
     }
 
 }
@@ -1,10 +1,13 @@
 package net.gazeplay.commons.gaze.devicemanager;
 
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.layout.Pane;
+import javafx.stage.Window;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.configuration.ActiveConfigurationContext;
@@ -17,28 +20,92 @@ import net.gazeplay.commons.utils.stats.Stats;
 import java.awt.*;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
  * Created by schwab on 04/10/2017.
+ * <p>
+ * Gaze samples are processed on the thread of the eye-tracker ({@link #onGazeUpdate(Point2D)}) : the targets whose
+ * snapshot bounds contain the gaze are selected there, with the position of the gaze in their coordinates, and sent to
+ * the JavaFX thread in a single {@link GazeEventBatch}, which runs the exact hit-test and the ENTERED / MOVED / EXITED
+ * state machine. No node is read on the gaze thread.
+ * <p>
+ * Registrations can be requested from any thread, they only enqueue the node. The JavaFX thread applies them, watches
+ * the targets and their scenes and takes the snapshots of their positions on the screen, in a single update per pulse,
+ * then hands the changed targets over to the gaze thread through {@link #pendingTargets}. The gaze thread owns the
+ * spatial index and drains that queue at the beginning of each sample, so that no lock is shared with the game code.
  */
 @Slf4j
 public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
 
     private final List<GazeMotionListener> gazeMotionListeners = new CopyOnWriteArrayList<>();
 
+    /**
+     * Event filters by node, owned by the JavaFX thread.
+     */
     @Getter
-    private final Map<IdentityKey<Node>, GazeInfos> shapesEventFilter = Collections.synchronizedMap(new HashMap<>());
+    private final Map<IdentityKey<Node>, GazeInfos> shapesEventFilter = new ConcurrentHashMap<>();
 
     @Getter
-    private final Map<IdentityKey<Node>, GazeInfos> shapesEventHandler = Collections.synchronizedMap(new HashMap<>());
+    private final Map<IdentityKey<Node>, GazeInfos> shapesEventHandler = new ConcurrentHashMap<>();
+
+    private final Queue<Node> toRemove = new ConcurrentLinkedQueue<>();
+    private final Queue<Node> toAdd = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Targets whose scene, transform or bounds changed and need a new snapshot, filled by the listeners on the JavaFX
+     * thread.
+     */
+    private final Queue<GazeInfos> staleTargets = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Targets added, moved or removed since the previous sample, drained by the gaze thread.
+     */
+    private final Queue<GazeInfos> pendingTargets = new ConcurrentLinkedQueue<>();
 
-    private final List<Node> toRemove = new LinkedList<>();
-    private final List<Node> toAdd = new LinkedList<>();
+    private final AtomicReference<GazeInfos> gameScene = new AtomicReference<>();
+
+    private final AtomicBoolean targetsUpdateScheduled = new AtomicBoolean(false);
+
+    /**
+     * Scenes of the targets whose position on the screen is watched, owned by the JavaFX thread. They are kept as long
+     * as the manager, there is in practice only the scene of the primary stage.
+     */
+    private final Set<Scene> watchedScenes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /*
+     * Owned by the gaze thread
+     */
+
+    /**
+     * Spatial index of the event filters, one per scene (in practice there is only the scene of the primary stage).
+     */
+    private final Map<Scene, GazeTargetIndex> sceneIndexes = new IdentityHashMap<>();
+
+    /**
+     * Event filters that had the gaze in their bounds, or on them, after the last sample : they must be visited on the
+     * next sample even if they are no longer under the gaze, so that they receive their GAZE_EXITED event.
+     */
+    private final List<GazeInfos> targetsUnderGaze = new ArrayList<>();
+
+    private final List<GazeInfos> candidates = new ArrayList<>();
+
+    private int sampleCounter = 0;
+
+    private GazeFilterType gazeFilterType;
+
+    private GazeFilter gazeFilter;
 
     private final Supplier<Robot> robotSupplier = new ImmutableCachingSupplier<>(new RobotSupplier());
 
+    @Getter
+    private final GazeSamplingMetrics samplingMetrics = new GazeSamplingMetrics();
+
     public AbstractGazeDeviceManager() {
 
     }
@@ -68,23 +135,24 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
     @Override
     public void addEventFilter(Node gs) {
         toAdd.add(gs);
+        scheduleTargetsUpdate();
     }
 
-    public void add() {
-        synchronized (shapesEventFilter) {
-            List<Node> temp = new LinkedList<>(toAdd);
-            for (Node node : temp) {
-                shapesEventFilter.put(new IdentityKey<>(node), new GazeInfos(node));
-                toAdd.remove(node);
+    private void add() {
+        Node node;
+        while ((node = toAdd.poll()) != null) {
+            GazeInfos gi = new GazeInfos(node);
+            GazeInfos previous = shapesEventFilter.put(new IdentityKey<>(node), gi);
+            if (previous != null) {
+                unregister(previous);
             }
+            watch(gi);
         }
     }
 
     @Override
     public void addEventHandler(Node gs) {
-        synchronized (shapesEventFilter) {
-            shapesEventHandler.put(new IdentityKey<>(gs), new GazeInfos(gs));
-        }
+        shapesEventHandler.put(new IdentityKey<>(gs), new GazeInfos(gs));
     }
 
     @Override
@@ -95,42 +163,39 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
                 removeEventFilter(child);
             }
         }
+        scheduleTargetsUpdate();
     }
 
+    public void addStats(Stats stats) {
+        setGameSceneRoot(stats.gameContextScene.getRoot());
+    }
 
-    public GazeInfos gameScene = null;
+    void setGameSceneRoot(Node root) {
+        final GazeInfos gi = new GazeInfos(root);
+        final GazeInfos previous = gameScene.getAndSet(gi);
+        if (previous != null) {
+            unwatch(previous);
+        }
+        watch(gi);
+    }
 
-    public void addStats(Stats stats) {
-        gameScene = new GazeInfos(stats.gameContextScene.getRoot());
-    }
-
-    public void delete() {
-        synchronized (shapesEventFilter) {
-            List<Node> temp = new LinkedList<>(toRemove);
-            for (Node node : temp) {
-                GazeInfos removed = shapesEventFilter.remove(new IdentityKey<>(node));
-                if (removed == null) {
-                    log.warn("EventFilter to remove not found");
-                } else {
-                    if (removed.isOn()) {
-                        Platform.runLater(
-                            () ->
-                                removed.getNode().fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, System.currentTimeMillis(), 0, 0))
-                        );
-                    }
-                }
-                toRemove.remove(node);
+    private void delete() {
+        Node node;
+        while ((node = toRemove.poll()) != null) {
+            GazeInfos removed = shapesEventFilter.remove(new IdentityKey<>(node));
+            if (removed == null) {
+                log.warn("EventFilter to remove not found");
+            } else {
+                unregister(removed);
             }
         }
     }
 
     @Override
     public void removeEventHandler(Node gs) {
-        synchronized (shapesEventFilter) {
-            GazeInfos removed = shapesEventHandler.remove(new IdentityKey<>(gs));
-            if (removed == null) {
-                log.warn("EventHandler to remove not found");
-            }
+        GazeInfos removed = shapesEventHandler.remove(new IdentityKey<>(gs));
+        if (removed == null) {
+            log.warn("EventHandler to remove not found");
         }
     }
 
@@ -139,87 +204,302 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
      */
     @Override
     public void clear() {
-        synchronized (shapesEventFilter) {
-            shapesEventFilter.clear();
-            shapesEventHandler.clear();
-            gazeMotionListeners.clear();
+        for (GazeInfos gi : shapesEventFilter.values()) {
+            unregister(gi);
         }
+        final GazeInfos previousGameScene = gameScene.getAndSet(null);
+        if (previousGameScene != null) {
+            unwatch(previousGameScene);
+        }
+        shapesEventFilter.clear();
+        shapesEventHandler.clear();
+        gazeMotionListeners.clear();
+    }
+
+    /**
+     * Processes a gaze sample, called on the thread of the eye-tracker.
+     */
+    void onGazeUpdate(Point2D gazePositionOnScreen) {
+        onGazeUpdate(gazePositionOnScreen, System.nanoTime());
     }
 
-    synchronized void onGazeUpdate(Point2D gazePositionOnScreen) {
+    /**
+     * Processes a gaze sample acquired at the given {@link System#nanoTime()}, called on the thread of the eye-tracker.
+     */
+    synchronized void onGazeUpdate(Point2D gazePositionOnScreen, long sampleNanoTime) {
+
+        Configuration config = ActiveConfigurationContext.getInstance();
+
+        final GazeFilter filter = gazeFilter(config.getGazeFilter());
+        filter.update(gazePositionOnScreen.getX(), gazePositionOnScreen.getY(), sampleNanoTime);
 
         // notifyAllGazeMotionListeners(gazePositionOnScreen);
-        final double positionX = gazePositionOnScreen.getX();
-        final double positionY = gazePositionOnScreen.getY();
+        final double positionX = filter.getX();
+        final double positionY = filter.getY();
 
-        Configuration config = ActiveConfigurationContext.getInstance();
+        samplingMetrics.recordSample(sampleNanoTime);
+
+        final GazeEventBatch batch = new GazeEventBatch(robotSupplier, samplingMetrics, sampleNanoTime);
 
         if (config.isGazeMouseEnable() && !config.isMouseFree()) {
-            Platform.runLater(
-                () -> robotSupplier.get().mouseMove((int) positionX, (int) positionY)
-            );
+            batch.moveMouse((int) positionX, (int) positionY);
         }
 
-        add();
-        delete();
+        final GazeInfos currentGameScene = gameScene.get();
 
-        Collection<GazeInfos> c = shapesEventFilter.values();
+        applyPendingTargets(currentGameScene, batch);
 
-        synchronized (shapesEventFilter) {
-            for (GazeInfos gi : c) {
-                final Node node = gi.getNode();
-                if (gameScene != null && node != gameScene.getNode()) {
-                    eventFire(positionX, positionY, gi, node);
-                }
-            }
+        if (currentGameScene != null) {
+            collectCandidates(positionX, positionY);
+            final int sample = ++sampleCounter;
 
-            if (gameScene != null) {
-                eventFire(positionX, positionY, gameScene, gameScene.getNode());
+            for (int i = 0; i < candidates.size(); i++) {
+                visit(positionX, positionY, candidates.get(i), sample, currentGameScene, batch, true);
             }
+            for (int i = 0; i < targetsUnderGaze.size(); i++) {
+                visit(positionX, positionY, targetsUnderGaze.get(i), sample, currentGameScene, batch, false);
+            }
+            trackTargetsUnderGaze();
+            candidates.clear();
+
+            batch.hitTest(currentGameScene, screenToLocal(currentGameScene, positionX, positionY), false);
+        }
+
+        if (!batch.isEmpty()) {
+            Platform.runLater(batch);
+        }
+    }
 
+    /**
+     * @return the filter of the given type, a new one when the type changed in the configuration
+     */
+    private GazeFilter gazeFilter(GazeFilterType type) {
+        if (type == null) {
+            type = GazeFilterType.NONE;
         }
+        if (type != gazeFilterType) {
+            gazeFilterType = type;
+            gazeFilter = type.newFilter();
+        }
+        return gazeFilter;
     }
 
-    public void eventFire(double positionX, double positionY, GazeInfos gi, Node node) {
-        if (!node.isDisable()) {
+    /**
+     * @param candidate true when the gaze is in the bounds of the target, so that the hit-test may enter it
+     */
+    private void visit(double positionX, double positionY, GazeInfos gi, int sample, GazeInfos currentGameScene, GazeEventBatch batch,
+                       boolean candidate) {
+        if (gi.getLastVisitedSample() == sample) {
+            return;
+        }
+        gi.setLastVisitedSample(sample);
+        if (gi.getNode() != currentGameScene.getNode()) {
+            batch.hitTest(gi, screenToLocal(gi, positionX, positionY), candidate);
+        }
+    }
 
-            Point2D localPosition = node.screenToLocal(positionX, positionY);
+    /**
+     * Keeps the candidates of this sample, and the targets that the JavaFX thread has entered or may still enter.
+     */
+    private void trackTargetsUnderGaze() {
+        targetsUnderGaze.removeIf(gi -> {
+            // the pending hit-tests are read first : once they are run, the state of the target is up to date
+            if (gi.getPendingHitTests().get() > 0 || gi.isOn()) {
+                return false;
+            }
+            gi.setUnderGaze(false);
+            return true;
+        });
+        for (int i = 0; i < candidates.size(); i++) {
+            final GazeInfos gi = candidates.get(i);
+            if (!gi.isUnderGaze()) {
+                gi.setUnderGaze(true);
+                targetsUnderGaze.add(gi);
+            }
+        }
+    }
 
-            if (localPosition != null && node.contains(localPosition)) {
-                if (gi.isOn()) {
-                    Platform.runLater(
-                        () ->
-                            node.fireEvent(new GazeEvent(GazeEvent.GAZE_MOVED, gi.getTime(), localPosition.getX(), localPosition.getY()))
-                    );
-                } else {
+    /**
+     * Fills {@link #candidates} with the event filters whose cached screen bounds contain the gaze position.
+     */
+    private void collectCandidates(double screenX, double screenY) {
+        for (GazeTargetIndex index : sceneIndexes.values()) {
+            index.collectCandidates(screenX, screenY, candidates);
+        }
+    }
 
-                    gi.setOn(true);
-                    gi.setTime(System.currentTimeMillis());
-                    Platform.runLater(
-                        () ->
-                            node.fireEvent(new GazeEvent(GazeEvent.GAZE_ENTERED, gi.getTime(), localPosition.getX(), localPosition.getY()))
-                    );
+    /**
+     * Applies on the gaze thread the targets added, moved or removed by the JavaFX thread. Allocation-free.
+     */
+    private void applyPendingTargets(GazeInfos currentGameScene, GazeEventBatch batch) {
+        GazeInfos gi;
+        while ((gi = pendingTargets.poll()) != null) {
+            gi.getPending().set(false);
+            if (gi.getRemoved().get()) {
+                unindex(gi);
+                if (gi.isUnderGaze()) {
+                    gi.setUnderGaze(false);
+                    targetsUnderGaze.remove(gi);
+                    batch.exit(gi);
                 }
-            } else {// gaze is not on the shape
-
-                if (gi.isOn()) {// gaze was on the shape previously
-                    gi.setOn(false);
-                    gi.setTime(-1);
-                    if (localPosition != null) {
-                        Platform.runLater(
-                            () ->
-                                node.fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, gi.getTime(), localPosition.getX(), localPosition.getY()))
-                        );
-                    } else {
-                        // nothing to do
-                    }
-                } else {// gaze was not on the shape previously
-                    // nothing to do
+            } else if (gi != currentGameScene) {
+                reindex(gi);
+            }
+        }
+    }
 
-                }
+    private void reindex(GazeInfos gi) {
+        unindex(gi);
+        final GazeTargetSnapshot snapshot = gi.getSnapshot().get();
+        if (snapshot == null) {
+            return;
+        }
+        final Scene scene = snapshot.getScene();
+        final GazeTargetIndex index = sceneIndexes.computeIfAbsent(scene, s -> new GazeTargetIndex());
+        index.insert(gi, snapshot.getScreenBounds());
+        gi.setIndexedScene(scene);
+    }
+
+    private void unindex(GazeInfos gi) {
+        final Scene indexedScene = gi.getIndexedScene();
+        if (indexedScene == null) {
+            return;
+        }
+        final GazeTargetIndex index = sceneIndexes.get(indexedScene);
+        if (index != null) {
+            index.remove(gi);
+            if (index.isEmpty()) {
+                sceneIndexes.remove(indexedScene);
+            }
+        }
+        gi.setIndexedScene(null);
+    }
 
+    private void scheduleTargetsUpdate() {
+        if (targetsUpdateScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::updateTargets);
+        }
+    }
+
+    /**
+     * Applies the pending registrations and takes a new snapshot of the moved targets, on the JavaFX thread.
+     */
+    private void updateTargets() {
+        targetsUpdateScheduled.set(false);
+        add();
+        delete();
+        GazeInfos gi;
+        while ((gi = staleTargets.poll()) != null) {
+            gi.getStale().set(false);
+            if (gi.getRemoved().get()) {
+                continue;
+            }
+            final Node node = gi.getNode();
+            final Scene scene = node.getScene();
+            final Window window = scene == null ? null : scene.getWindow();
+            if (scene != null) {
+                watchScene(scene);
             }
+            if (window == null) {
+                gi.getSnapshot().set(null);
+            } else {
+                gi.getSnapshot().set(new GazeTargetSnapshot(scene, window.getX() + scene.getX(), window.getY() + scene.getY(),
+                    node.getLocalToSceneTransform(), node.localToScene(node.getBoundsInLocal())));
+            }
+            publish(gi);
+        }
+    }
+
+    /**
+     * Takes new snapshots of the targets of the scene when the scene moves on the screen.
+     */
+    private void watchScene(Scene scene) {
+        if (!watchedScenes.add(scene)) {
+            return;
+        }
+        final InvalidationListener positionListener = observable -> markSceneStale(scene);
+        scene.xProperty().addListener(positionListener);
+        scene.yProperty().addListener(positionListener);
+        scene.windowProperty().addListener((observable, oldWindow, newWindow) -> {
+            if (oldWindow != null) {
+                oldWindow.xProperty().removeListener(positionListener);
+                oldWindow.yProperty().removeListener(positionListener);
+            }
+            if (newWindow != null) {
+                newWindow.xProperty().addListener(positionListener);
+                newWindow.yProperty().addListener(positionListener);
+            }
+            markSceneStale(scene);
+        });
+        final Window window = scene.getWindow();
+        if (window != null) {
+            window.xProperty().addListener(positionListener);
+            window.yProperty().addListener(positionListener);
+        }
+    }
+
+    private void markSceneStale(Scene scene) {
+        for (GazeInfos gi : shapesEventFilter.values()) {
+            if (gi.getNode().getScene() == scene) {
+                markStale(gi);
+            }
+        }
+        final GazeInfos currentGameScene = gameScene.get();
+        if (currentGameScene != null && currentGameScene.getNode().getScene() == scene) {
+            markStale(currentGameScene);
+        }
+    }
+
+    private void watch(GazeInfos gi) {
+        final InvalidationListener boundsListener = observable -> markStale(gi);
+        gi.setBoundsListener(boundsListener);
+        final Node node = gi.getNode();
+        node.sceneProperty().addListener(boundsListener);
+        node.localToSceneTransformProperty().addListener(boundsListener);
+        node.boundsInLocalProperty().addListener(boundsListener);
+        markStale(gi);
+    }
+
+    private void unwatch(GazeInfos gi) {
+        gi.getRemoved().set(true);
+        final InvalidationListener boundsListener = gi.getBoundsListener();
+        if (boundsListener != null) {
+            final Node node = gi.getNode();
+            node.sceneProperty().removeListener(boundsListener);
+            node.localToSceneTransformProperty().removeListener(boundsListener);
+            node.boundsInLocalProperty().removeListener(boundsListener);
+            gi.setBoundsListener(null);
+        }
+    }
+
+    private void unregister(GazeInfos gi) {
+        unwatch(gi);
+        publish(gi);
+    }
+
+    private void markStale(GazeInfos gi) {
+        if (gi.getStale().compareAndSet(false, true)) {
+            staleTargets.add(gi);
+            scheduleTargetsUpdate();
+        }
+    }
+
+    private void publish(GazeInfos gi) {
+        if (gi.getPending().compareAndSet(false, true)) {
+            pendingTargets.add(gi);
+        }
+    }
+
+    /**
+     * @return the position of the gaze in the coordinates of the target, computed from its snapshot, or null when it is
+     * unknown
+     */
+    private static Point2D screenToLocal(GazeInfos gi, double screenX, double screenY) {
+        final GazeTargetSnapshot snapshot = gi.getSnapshot().get();
+        if (snapshot == null) {
+            return null;
         }
+        return snapshot.screenToLocal(screenX, screenY);
     }
 
 }
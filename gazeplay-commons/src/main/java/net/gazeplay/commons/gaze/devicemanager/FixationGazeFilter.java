@@ -0,0 +1,86 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+
+/**
+ * Velocity-threshold fixation detection (I-VT) : while the gaze moves slower than the threshold it is considered as a
+ * fixation and the filtered position is the centroid of the samples of the fixation, faster samples are saccades and
+ * are passed through.
+ */
+class FixationGazeFilter implements GazeFilter {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final double velocityThreshold;
+
+    private boolean initialized = false;
+
+    private long previousNanoTime;
+
+    private double previousX;
+
+    private double previousY;
+
+    private double fixationSumX;
+
+    private double fixationSumY;
+
+    private int fixationSampleCount;
+
+    @Getter
+    private boolean fixation;
+
+    @Getter
+    private double x;
+
+    @Getter
+    private double y;
+
+    /**
+     * @param velocityThreshold speed of the gaze (in pixels per second) above which a sample belongs to a saccade
+     */
+    FixationGazeFilter(final double velocityThreshold) {
+        this.velocityThreshold = velocityThreshold;
+    }
+
+    @Override
+    public void update(final double x, final double y, final long sampleNanoTime) {
+        if (initialized) {
+            final long elapsedNanos = sampleNanoTime - previousNanoTime;
+            final double distance = Math.hypot(x - previousX, y - previousY);
+            // samples with the same timestamp only belong to the same fixation if they are at the same place
+            fixation = elapsedNanos > 0 ? distance * NANOS_PER_SECOND / elapsedNanos < velocityThreshold : distance == 0;
+        }
+        initialized = true;
+        previousNanoTime = sampleNanoTime;
+        previousX = x;
+        previousY = y;
+
+        if (fixation) {
+            fixationSumX += x;
+            fixationSumY += y;
+            fixationSampleCount++;
+            this.x = fixationSumX / fixationSampleCount;
+            this.y = fixationSumY / fixationSampleCount;
+        } else {
+            // the sample may be the first one of the next fixation
+            fixationSumX = x;
+            fixationSumY = y;
+            fixationSampleCount = 1;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+        fixation = false;
+        fixationSumX = 0;
+        fixationSumY = 0;
+        fixationSampleCount = 0;
+        x = 0;
+        y = 0;
+    }
+
+}
@@ -0,0 +1,141 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * All the effects of one gaze sample that must happen on the JavaFX thread : the exact hit-tests of the targets
+ * selected on the gaze thread, the GazeEvents they fire and the optional move of the mouse pointer. A batch is built on
+ * the gaze thread and delivered with a single {@link javafx.application.Platform#runLater(Runnable)}.
+ * <p>
+ * {@link Node#contains(Point2D)} and {@link Node#isDisable()} read the state of the scene graph, so they are only
+ * called here, on the JavaFX thread, together with the ENTERED / MOVED / EXITED state machine of the targets.
+ */
+class GazeEventBatch implements Runnable {
+
+    private final Supplier<Robot> robotSupplier;
+
+    private final GazeSamplingMetrics metrics;
+
+    private final long sampleNanoTime;
+
+    /**
+     * targets no longer registered, which receive a GAZE_EXITED event if the gaze was on them
+     */
+    private final List<GazeInfos> removedTargets = new ArrayList<>(2);
+
+    private final List<GazeInfos> hitTestTargets = new ArrayList<>(4);
+
+    /**
+     * position of the gaze in the coordinates of each hit-tested target, null when it is unknown
+     */
+    private final List<Point2D> hitTestPositions = new ArrayList<>(4);
+
+    /**
+     * whether each hit-tested target was counted in its {@link GazeInfos#getPendingHitTests()}
+     */
+    private final List<Boolean> hitTestsCounted = new ArrayList<>(4);
+
+    private boolean mouseMoveRequested = false;
+
+    private int mouseX;
+
+    private int mouseY;
+
+    GazeEventBatch(Supplier<Robot> robotSupplier, GazeSamplingMetrics metrics, long sampleNanoTime) {
+        this.robotSupplier = robotSupplier;
+        this.metrics = metrics;
+        this.sampleNanoTime = sampleNanoTime;
+    }
+
+    void exit(GazeInfos target) {
+        removedTargets.add(target);
+    }
+
+    /**
+     * @param localPosition the position of the gaze in the coordinates of the target, or null when it is unknown
+     * @param counted       true when the hit-test was counted in the pending hit-tests of the target
+     */
+    void hitTest(GazeInfos target, Point2D localPosition, boolean counted) {
+        if (counted) {
+            target.getPendingHitTests().incrementAndGet();
+        }
+        hitTestTargets.add(target);
+        hitTestPositions.add(localPosition);
+        hitTestsCounted.add(counted);
+    }
+
+    void moveMouse(int x, int y) {
+        mouseMoveRequested = true;
+        mouseX = x;
+        mouseY = y;
+    }
+
+    boolean isEmpty() {
+        return removedTargets.isEmpty() && hitTestTargets.isEmpty() && !mouseMoveRequested;
+    }
+
+    int size() {
+        return removedTargets.size() + hitTestTargets.size();
+    }
+
+    @Override
+    public void run() {
+        if (mouseMoveRequested) {
+            robotSupplier.get().mouseMove(mouseX, mouseY);
+        }
+        for (int i = 0; i < removedTargets.size(); i++) {
+            final GazeInfos gi = removedTargets.get(i);
+            if (gi.isOn()) {
+                gi.setOn(false);
+                gi.getNode().fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, System.currentTimeMillis(), 0, 0));
+            }
+        }
+        for (int i = 0; i < hitTestTargets.size(); i++) {
+            final GazeInfos gi = hitTestTargets.get(i);
+            try {
+                if (!gi.getRemoved().get()) {
+                    eventFire(gi, hitTestPositions.get(i));
+                }
+            } finally {
+                if (hitTestsCounted.get(i)) {
+                    gi.getPendingHitTests().decrementAndGet();
+                }
+            }
+        }
+        metrics.recordLatency(System.nanoTime() - sampleNanoTime);
+    }
+
+    private static void eventFire(GazeInfos gi, Point2D localPosition) {
+        final Node node = gi.getNode();
+        if (!node.isDisable()) {
+
+            if (localPosition != null && node.contains(localPosition)) {
+                if (gi.isOn()) {
+                    node.fireEvent(new GazeEvent(GazeEvent.GAZE_MOVED, gi.getTime(), localPosition.getX(), localPosition.getY()));
+                } else {
+
+                    gi.setOn(true);
+                    gi.setTime(System.currentTimeMillis());
+                    node.fireEvent(new GazeEvent(GazeEvent.GAZE_ENTERED, gi.getTime(), localPosition.getX(), localPosition.getY()));
+                }
+            } else {// gaze is not on the shape
+
+                if (gi.isOn()) {// gaze was on the shape previously
+                    gi.setOn(false);
+                    gi.setTime(-1);
+                    if (localPosition != null) {
+                        node.fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, gi.getTime(), localPosition.getX(), localPosition.getY()));
+                    }
+                }
+
+            }
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+/**
+ * Stage applied to the raw gaze samples before hit-testing, to reduce the jitter of the eye-tracker.
+ * <p>
+ * A filter is called for every sample on the gaze thread, so implementations must not allocate : the filtered
+ * position is kept by the filter and read with {@link #getX()} and {@link #getY()} after each {@link #update}.
+ */
+public interface GazeFilter {
+
+    /**
+     * @param x             raw position of the gaze on the screen
+     * @param y             raw position of the gaze on the screen
+     * @param sampleNanoTime {@link System#nanoTime()} of the acquisition of the sample
+     */
+    void update(double x, double y, long sampleNanoTime);
+
+    double getX();
+
+    double getY();
+
+    void reset();
+
+}
@@ -0,0 +1,28 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import java.util.function.Supplier;
+
+/**
+ * Filters that can be selected in the configuration.
+ */
+public enum GazeFilterType {
+
+    NONE(NoGazeFilter::new),
+
+    MOVING_AVERAGE(() -> new MovingAverageGazeFilter(5)),
+
+    ONE_EURO(() -> new OneEuroGazeFilter(1.0, 0.01, 1.0)),
+
+    FIXATION(() -> new FixationGazeFilter(1000));
+
+    private final Supplier<GazeFilter> filterSupplier;
+
+    GazeFilterType(final Supplier<GazeFilter> filterSupplier) {
+        this.filterSupplier = filterSupplier;
+    }
+
+    public GazeFilter newFilter() {
+        return filterSupplier.get();
+    }
+
+}
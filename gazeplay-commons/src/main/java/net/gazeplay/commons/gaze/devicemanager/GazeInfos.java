@@ -1,9 +1,16 @@
 package net.gazeplay.commons.gaze.devicemanager;
 
+import javafx.beans.InvalidationListener;
 import javafx.scene.Node;
+import javafx.scene.Scene;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Created by schwab on 24/08/2016.
  */
@@ -12,13 +19,93 @@ class GazeInfos {
     @Getter
     private final Node node;
 
+    /*
+     * Written by the JavaFX thread, which runs the hit-test and the ENTERED / MOVED / EXITED state machine
+     */
+
     @Getter
     @Setter
     private long time;
 
+    /**
+     * read by the gaze thread, to keep visiting the targets under gaze until they receive their GAZE_EXITED event.
+     */
     @Getter
     @Setter
-    private boolean on;
+    private volatile boolean on;
+
+    /*
+     * Shared between the JavaFX thread and the gaze thread
+     */
+
+    /**
+     * latest position of the node, published by the JavaFX thread.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final AtomicReference<GazeTargetSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * set when the node is no longer a gaze target.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final AtomicBoolean removed = new AtomicBoolean(false);
+
+    /**
+     * set while the target waits in the queue of targets to be applied by the gaze thread.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final AtomicBoolean pending = new AtomicBoolean(false);
+
+    /**
+     * number of hit-tests sent to the JavaFX thread while the gaze was in the bounds of the target, and not run yet :
+     * until they are run, the target may still be entered.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final AtomicInteger pendingHitTests = new AtomicInteger();
+
+    /*
+     * Owned by the JavaFX thread
+     */
+
+    /**
+     * set while the target waits for a new snapshot.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final AtomicBoolean stale = new AtomicBoolean(false);
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private InvalidationListener boundsListener;
+
+    /*
+     * Owned by the gaze thread : bookkeeping of the GazeTargetIndex and of the targets under gaze
+     */
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private Scene indexedScene;
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private boolean indexed;
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private boolean oversized;
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private int cellMinX, cellMinY, cellMaxX, cellMaxY;
+
+    private double indexedMinX, indexedMinY, indexedMaxX, indexedMaxY;
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private int lastVisitedSample;
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private boolean underGaze;
 
     GazeInfos(Node node) {
         this(node, 0, false);
@@ -30,6 +117,17 @@ class GazeInfos {
         this.on = on;
     }
 
+    void setIndexedBounds(double minX, double minY, double maxX, double maxY) {
+        this.indexedMinX = minX;
+        this.indexedMinY = minY;
+        this.indexedMaxX = maxX;
+        this.indexedMaxY = maxY;
+    }
+
+    boolean indexedBoundsContains(double screenX, double screenY) {
+        return screenX >= indexedMinX && screenX <= indexedMaxX && screenY >= indexedMinY && screenY <= indexedMaxY;
+    }
+
     public String toString() {
         return "At " + time + " on " + on + "Node " + node;
     }
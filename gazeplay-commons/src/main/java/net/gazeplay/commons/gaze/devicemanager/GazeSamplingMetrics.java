@@ -0,0 +1,95 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the gaze pipeline : rate of the samples actually processed, share of duplicate samples returned by the
+ * eye-tracker, and latency between the acquisition of a sample and the delivery of its events on the JavaFX thread.
+ * <p>
+ * Samples are recorded by the gaze thread and latencies by the JavaFX thread, so every counter is thread-safe.
+ */
+public class GazeSamplingMetrics {
+
+    private final AtomicLong firstSampleNanoTime = new AtomicLong(0);
+
+    private final AtomicLong lastSampleNanoTime = new AtomicLong(0);
+
+    private final LongAdder sampleCount = new LongAdder();
+
+    private final LongAdder duplicateCount = new LongAdder();
+
+    private final LongAdder latencyCount = new LongAdder();
+
+    private final LongAdder latencyTotalNanos = new LongAdder();
+
+    private final LongAccumulator latencyMaxNanos = new LongAccumulator(Math::max, 0);
+
+    void recordSample(final long sampleNanoTime) {
+        firstSampleNanoTime.compareAndSet(0, sampleNanoTime);
+        lastSampleNanoTime.set(sampleNanoTime);
+        sampleCount.increment();
+    }
+
+    void recordDuplicate() {
+        duplicateCount.increment();
+    }
+
+    void recordLatency(final long latencyNanos) {
+        latencyCount.increment();
+        latencyTotalNanos.add(latencyNanos);
+        latencyMaxNanos.accumulate(latencyNanos);
+    }
+
+    public long getSampleCount() {
+        return sampleCount.sum();
+    }
+
+    /**
+     * @return the number of samples processed per second, between the first and the last recorded sample
+     */
+    public double getAchievedRate() {
+        final long samples = sampleCount.sum();
+        final long elapsedNanos = lastSampleNanoTime.get() - firstSampleNanoTime.get();
+        if (samples < 2 || elapsedNanos <= 0) {
+            return 0;
+        }
+        return (samples - 1) * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * @return the share of the samples that were identical to the previous one
+     */
+    public double getDuplicateRatio() {
+        final long samples = sampleCount.sum();
+        return samples == 0 ? 0 : (double) duplicateCount.sum() / samples;
+    }
+
+    public double getAverageLatencyMillis() {
+        final long count = latencyCount.sum();
+        return count == 0 ? 0 : latencyTotalNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxLatencyMillis() {
+        return latencyMaxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public void reset() {
+        firstSampleNanoTime.set(0);
+        lastSampleNanoTime.set(0);
+        sampleCount.reset();
+        duplicateCount.reset();
+        latencyCount.reset();
+        latencyTotalNanos.reset();
+        latencyMaxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d samples at %.1f Hz, %.1f%% duplicates, sample to event latency avg %.2f ms max %.2f ms",
+            getSampleCount(), getAchievedRate(), getDuplicateRatio() * 100, getAverageLatencyMillis(), getMaxLatencyMillis());
+    }
+
+}
@@ -0,0 +1,94 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces the polling of an eye-tracker at a target rate.
+ * <p>
+ * Deadlines are absolute, so the time spent processing a sample does not add up to the period, and the thread is
+ * parked with {@link LockSupport#parkNanos(long)} which is far more precise than {@link Thread#sleep(long)}. When the
+ * eye-tracker keeps returning the same sample (no user in front of it, tracker slower than the target rate), the
+ * period is doubled up to {@link #MAX_PERIOD_NANOS}, and goes back to the target rate as soon as a fresh sample comes.
+ */
+class GazeSamplingScheduler {
+
+    static final int MIN_RATE = 1;
+
+    static final int MAX_RATE = 1000;
+
+    static final long MAX_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * number of consecutive duplicate samples tolerated before backing off, a tracker slightly slower than the target
+     * rate returns isolated duplicates that must not slow the polling down.
+     */
+    static final int DUPLICATES_BEFORE_BACK_OFF = 3;
+
+    private final LongSupplier nanoClock;
+
+    @Getter
+    private final long basePeriodNanos;
+
+    @Getter
+    private long currentPeriodNanos;
+
+    private long nextDeadline;
+
+    private int consecutiveDuplicates = 0;
+
+    GazeSamplingScheduler(final int targetRate) {
+        this(targetRate, System::nanoTime);
+    }
+
+    GazeSamplingScheduler(final int targetRate, final LongSupplier nanoClock) {
+        final int rate = Math.max(MIN_RATE, Math.min(MAX_RATE, targetRate));
+        this.nanoClock = nanoClock;
+        this.basePeriodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        this.currentPeriodNanos = basePeriodNanos;
+        this.nextDeadline = nanoClock.getAsLong();
+    }
+
+    /**
+     * Adapts the period to the last polled sample.
+     */
+    void onSample(final boolean duplicate) {
+        if (!duplicate) {
+            consecutiveDuplicates = 0;
+            currentPeriodNanos = basePeriodNanos;
+        } else if (++consecutiveDuplicates >= DUPLICATES_BEFORE_BACK_OFF) {
+            currentPeriodNanos = Math.min(MAX_PERIOD_NANOS, Math.max(basePeriodNanos, currentPeriodNanos * 2));
+        }
+    }
+
+    /**
+     * Computes the deadline of the next sample. A late poll does not trigger a burst of samples to catch up, the
+     * schedule restarts from now instead.
+     */
+    long nextDeadline() {
+        final long now = nanoClock.getAsLong();
+        nextDeadline += currentPeriodNanos;
+        if (nextDeadline - now < 0 || nextDeadline - now > currentPeriodNanos) {
+            nextDeadline = now + currentPeriodNanos;
+        }
+        return nextDeadline;
+    }
+
+    /**
+     * Parks the current thread until the deadline of the next sample.
+     */
+    void awaitNextSample() throws InterruptedException {
+        final long deadline = nextDeadline();
+        long remaining;
+        while ((remaining = deadline - nanoClock.getAsLong()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.Bounds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uniform grid over the screen coordinates of the registered gaze targets.
+ * <p>
+ * Every target is stored in the buckets of the cells covered by its cached screen bounds, so that a gaze sample only
+ * needs to look at the targets of a single cell instead of walking every registered node. Cells are hashed into a fixed
+ * number of buckets, which keeps the memory footprint independent of the screen size and makes lookups allocation-free.
+ * Targets covering too many cells (backgrounds, full screen panes) are kept in a separate list that is always tested.
+ */
+class GazeTargetIndex {
+
+    static final double CELL_SIZE = 64;
+
+    private static final int BUCKET_COUNT = 1024;
+
+    private static final int BUCKET_MASK = BUCKET_COUNT - 1;
+
+    private static final long MAX_CELLS_PER_TARGET = 256;
+
+    private final List<List<GazeInfos>> buckets = new ArrayList<>(BUCKET_COUNT);
+
+    private final List<GazeInfos> oversizedTargets = new ArrayList<>();
+
+    private int size = 0;
+
+    GazeTargetIndex() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.add(new ArrayList<>(4));
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void insert(final GazeInfos gi, final Bounds screenBounds) {
+        if (gi.isIndexed()) {
+            remove(gi);
+        }
+        if (screenBounds == null || screenBounds.isEmpty()) {
+            return;
+        }
+
+        gi.setIndexedBounds(screenBounds.getMinX(), screenBounds.getMinY(), screenBounds.getMaxX(), screenBounds.getMaxY());
+        gi.setCellMinX(cellOf(screenBounds.getMinX()));
+        gi.setCellMinY(cellOf(screenBounds.getMinY()));
+        gi.setCellMaxX(cellOf(screenBounds.getMaxX()));
+        gi.setCellMaxY(cellOf(screenBounds.getMaxY()));
+
+        final long cellCount = ((long) gi.getCellMaxX() - gi.getCellMinX() + 1) * ((long) gi.getCellMaxY() - gi.getCellMinY() + 1);
+        if (cellCount > MAX_CELLS_PER_TARGET) {
+            gi.setOversized(true);
+            oversizedTargets.add(gi);
+        } else {
+            gi.setOversized(false);
+            for (int cx = gi.getCellMinX(); cx <= gi.getCellMaxX(); cx++) {
+                for (int cy = gi.getCellMinY(); cy <= gi.getCellMaxY(); cy++) {
+                    final List<GazeInfos> bucket = buckets.get(bucketOf(cx, cy));
+                    if (!bucket.contains(gi)) {
+                        bucket.add(gi);
+                    }
+                }
+            }
+        }
+        gi.setIndexed(true);
+        size++;
+    }
+
+    void remove(final GazeInfos gi) {
+        if (!gi.isIndexed()) {
+            return;
+        }
+        if (gi.isOversized()) {
+            oversizedTargets.remove(gi);
+        } else {
+            for (int cx = gi.getCellMinX(); cx <= gi.getCellMaxX(); cx++) {
+                for (int cy = gi.getCellMinY(); cy <= gi.getCellMaxY(); cy++) {
+                    buckets.get(bucketOf(cx, cy)).remove(gi);
+                }
+            }
+        }
+        gi.setIndexed(false);
+        size--;
+    }
+
+    void clear() {
+        for (final List<GazeInfos> bucket : buckets) {
+            for (final GazeInfos gi : bucket) {
+                gi.setIndexed(false);
+            }
+            bucket.clear();
+        }
+        for (final GazeInfos gi : oversizedTargets) {
+            gi.setIndexed(false);
+        }
+        oversizedTargets.clear();
+        size = 0;
+    }
+
+    /**
+     * Appends to {@code result} every target whose cached screen bounds contain the given screen point. The precise
+     * hit-test ({@link javafx.scene.Node#contains(javafx.geometry.Point2D)}) is left to the caller.
+     */
+    void collectCandidates(final double screenX, final double screenY, final List<GazeInfos> result) {
+        final List<GazeInfos> bucket = buckets.get(bucketOf(cellOf(screenX), cellOf(screenY)));
+        for (int i = 0; i < bucket.size(); i++) {
+            final GazeInfos gi = bucket.get(i);
+            if (gi.indexedBoundsContains(screenX, screenY)) {
+                result.add(gi);
+            }
+        }
+        for (int i = 0; i < oversizedTargets.size(); i++) {
+            final GazeInfos gi = oversizedTargets.get(i);
+            if (gi.indexedBoundsContains(screenX, screenY)) {
+                result.add(gi);
+            }
+        }
+    }
+
+    private static int cellOf(final double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static int bucketOf(final int cellX, final int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & BUCKET_MASK;
+    }
+
+}
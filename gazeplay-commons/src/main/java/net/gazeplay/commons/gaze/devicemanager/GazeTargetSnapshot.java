@@ -0,0 +1,56 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Scene;
+import javafx.scene.transform.NonInvertibleTransformException;
+import javafx.scene.transform.Transform;
+import lombok.Getter;
+
+/**
+ * Immutable position of a gaze target on the screen, taken on the JavaFX thread and read on the gaze thread.
+ */
+class GazeTargetSnapshot {
+
+    @Getter
+    private final Scene scene;
+
+    /**
+     * position of the scene on the screen : the position of its window plus the position of the scene in the window
+     */
+    @Getter
+    private final double sceneScreenX;
+
+    @Getter
+    private final double sceneScreenY;
+
+    @Getter
+    private final Transform localToSceneTransform;
+
+    @Getter
+    private final Bounds screenBounds;
+
+    GazeTargetSnapshot(Scene scene, double sceneScreenX, double sceneScreenY, Transform localToSceneTransform, Bounds sceneBounds) {
+        this.scene = scene;
+        this.sceneScreenX = sceneScreenX;
+        this.sceneScreenY = sceneScreenY;
+        this.localToSceneTransform = localToSceneTransform;
+        this.screenBounds = new BoundingBox(sceneBounds.getMinX() + sceneScreenX, sceneBounds.getMinY() + sceneScreenY,
+            sceneBounds.getWidth(), sceneBounds.getHeight());
+    }
+
+    /**
+     * Same as {@link javafx.scene.Node#screenToLocal(double, double)}, computed from the snapshot.
+     *
+     * @return the position in the coordinates of the node, or null when its transform is not invertible
+     */
+    Point2D screenToLocal(double screenX, double screenY) {
+        try {
+            return localToSceneTransform.inverseTransform(screenX - sceneScreenX, screenY - sceneScreenY);
+        } catch (NonInvertibleTransformException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+
+/**
+ * Average of the last samples, kept in a ring buffer.
+ */
+class MovingAverageGazeFilter implements GazeFilter {
+
+    private final double[] xs;
+
+    private final double[] ys;
+
+    private int next = 0;
+
+    private int count = 0;
+
+    private double sumX = 0;
+
+    private double sumY = 0;
+
+    @Getter
+    private double x;
+
+    @Getter
+    private double y;
+
+    MovingAverageGazeFilter(final int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be positive : " + windowSize);
+        }
+        xs = new double[windowSize];
+        ys = new double[windowSize];
+    }
+
+    @Override
+    public void update(final double x, final double y, final long sampleNanoTime) {
+        if (count == xs.length) {
+            sumX -= xs[next];
+            sumY -= ys[next];
+        } else {
+            count++;
+        }
+        xs[next] = x;
+        ys[next] = y;
+        sumX += x;
+        sumY += y;
+        next = (next + 1) % xs.length;
+        if (next == 0) {
+            // recompute the sums once per turn of the buffer, so that rounding errors do not accumulate
+            sumX = 0;
+            sumY = 0;
+            for (int i = 0; i < count; i++) {
+                sumX += xs[i];
+                sumY += ys[i];
+            }
+        }
+        this.x = sumX / count;
+        this.y = sumY / count;
+    }
+
+    @Override
+    public void reset() {
+        next = 0;
+        count = 0;
+        sumX = 0;
+        sumY = 0;
+        x = 0;
+        y = 0;
+    }
+
+}
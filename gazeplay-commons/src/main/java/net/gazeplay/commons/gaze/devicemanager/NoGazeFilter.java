@@ -0,0 +1,28 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+
+/**
+ * Leaves the samples untouched.
+ */
+class NoGazeFilter implements GazeFilter {
+
+    @Getter
+    private double x;
+
+    @Getter
+    private double y;
+
+    @Override
+    public void update(final double x, final double y, final long sampleNanoTime) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public void reset() {
+        x = 0;
+        y = 0;
+    }
+
+}
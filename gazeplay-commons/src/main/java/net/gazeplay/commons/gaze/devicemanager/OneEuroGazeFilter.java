@@ -0,0 +1,84 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+
+/**
+ * One Euro filter (Casiez, Roussel and Vogel, CHI 2012) : a low-pass filter whose cutoff frequency increases with the
+ * speed of the gaze, which removes the jitter of the fixations without lagging behind the saccades.
+ */
+class OneEuroGazeFilter implements GazeFilter {
+
+    /**
+     * period assumed when two samples have the same timestamp.
+     */
+    private static final double DEFAULT_PERIOD_SECONDS = 1d / 120;
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final double minCutoff;
+
+    private final double beta;
+
+    private final double derivateCutoff;
+
+    private boolean initialized = false;
+
+    private long previousNanoTime;
+
+    private double speedX;
+
+    private double speedY;
+
+    @Getter
+    private double x;
+
+    @Getter
+    private double y;
+
+    /**
+     * @param minCutoff      cutoff frequency (in Hz) when the gaze does not move, lower means smoother fixations
+     * @param beta           increase of the cutoff frequency with the speed (in pixels per second), higher means less lag
+     * @param derivateCutoff cutoff frequency (in Hz) of the estimation of the speed
+     */
+    OneEuroGazeFilter(final double minCutoff, final double beta, final double derivateCutoff) {
+        this.minCutoff = minCutoff;
+        this.beta = beta;
+        this.derivateCutoff = derivateCutoff;
+    }
+
+    @Override
+    public void update(final double x, final double y, final long sampleNanoTime) {
+        if (!initialized) {
+            initialized = true;
+            previousNanoTime = sampleNanoTime;
+            this.x = x;
+            this.y = y;
+            return;
+        }
+        final long elapsedNanos = sampleNanoTime - previousNanoTime;
+        final double period = elapsedNanos > 0 ? elapsedNanos / NANOS_PER_SECOND : DEFAULT_PERIOD_SECONDS;
+        previousNanoTime = sampleNanoTime;
+
+        final double derivateAlpha = alpha(derivateCutoff, period);
+        speedX += derivateAlpha * ((x - this.x) / period - speedX);
+        speedY += derivateAlpha * ((y - this.y) / period - speedY);
+
+        this.x += alpha(minCutoff + beta * Math.abs(speedX), period) * (x - this.x);
+        this.y += alpha(minCutoff + beta * Math.abs(speedY), period) * (y - this.y);
+    }
+
+    private static double alpha(final double cutoff, final double period) {
+        final double tau = 1 / (2 * Math.PI * cutoff);
+        return 1 / (1 + tau / period);
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+        speedX = 0;
+        speedY = 0;
+        x = 0;
+        y = 0;
+    }
+
+}
@@ -1,6 +1,5 @@
 package net.gazeplay.commons.gaze.devicemanager;
 
-import javafx.application.Platform;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
 import lombok.Setter;
@@ -20,13 +19,28 @@ public class PositionPollerRunnable implements Runnable {
 
     private final TobiiGazeDeviceManager tobiiGazeDeviceManager;
 
+    private final GazeSamplingScheduler scheduler;
+
     @Setter
     private transient boolean stopRequested = false;
 
+    private float previousXRatio = Float.NaN;
+
+    private float previousYRatio = Float.NaN;
+
     public PositionPollerRunnable(final Supplier<Dimension2D> screenDimensionSupplier, final Supplier<Point2D> screenPositionSupplier, final TobiiGazeDeviceManager tobiiGazeDeviceManager) {
         this.screenDimensionSupplier = screenDimensionSupplier;
         this.screenPositionSupplier = screenPositionSupplier;
         this.tobiiGazeDeviceManager = tobiiGazeDeviceManager;
+
+        final Configuration config = ActiveConfigurationContext.getInstance();
+        int samplingRate = config.getGazeSamplingRate();
+        if (config.isGazeMenuEnable()) {
+            // the gaze menu used to be polled at half the rate
+            samplingRate = samplingRate / 2;
+        }
+        this.scheduler = new GazeSamplingScheduler(samplingRate);
+        log.info("Polling gaze position every {} ns", scheduler.getBasePeriodNanos());
     }
 
     @Override
@@ -38,25 +52,33 @@ public class PositionPollerRunnable implements Runnable {
                 log.warn("Exception while polling position of gaze", e);
             }
 
-            // sleep is mandatory to avoid too much calls to gazePosition()
+            // waiting is mandatory to avoid too much calls to gazePosition()
             try {
-                Thread.sleep(10);
-                final Configuration config = ActiveConfigurationContext.getInstance();
-                if (config.isGazeMenuEnable()) {
-                    Thread.sleep(10);
-                }
-            } catch (InterruptedException | RuntimeException e) {
-                log.warn("Exception while sleeping until next poll", e);
+                scheduler.awaitNextSample();
+            } catch (final InterruptedException e) {
+                log.info("Gaze position poller interrupted");
+                Thread.currentThread().interrupt();
+                return;
             }
         }
     }
 
     private void poll() {
         final float[] pointAsFloatArray = Tobii.gazePosition();
+        final long sampleNanoTime = System.nanoTime();
 
         final float xRatio = pointAsFloatArray[0];
         final float yRatio = pointAsFloatArray[1];
 
+        final boolean duplicate = xRatio == previousXRatio && yRatio == previousYRatio;
+        previousXRatio = xRatio;
+        previousYRatio = yRatio;
+        scheduler.onSample(duplicate);
+        if (duplicate) {
+            // still processed : the targets may have moved under a steady gaze
+            tobiiGazeDeviceManager.getSamplingMetrics().recordDuplicate();
+        }
+
         final Dimension2D screenDimension = screenDimensionSupplier.get();
         final double positionX = xRatio * screenDimension.getWidth();
         final double positionY = yRatio * screenDimension.getHeight();
@@ -68,7 +90,8 @@ public class PositionPollerRunnable implements Runnable {
 
         final Point2D point = new Point2D(positionX + offsetX, positionY + offsetY);
 
-        Platform.runLater(() -> tobiiGazeDeviceManager.onGazeUpdate(point));
+        // hit-testing runs on this thread, only the resulting events are delivered to the JavaFX thread
+        tobiiGazeDeviceManager.onGazeUpdate(point, sampleNanoTime);
     }
 
 }
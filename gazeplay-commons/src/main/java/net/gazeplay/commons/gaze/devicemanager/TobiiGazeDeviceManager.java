@@ -3,6 +3,8 @@ package net.gazeplay.commons.gaze.devicemanager;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
 import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -22,7 +24,7 @@ public class TobiiGazeDeviceManager extends AbstractGazeDeviceManager {
     @Override
     public void init(Supplier<Dimension2D> currentScreenDimensionSupplier, Supplier<Point2D> currentScreenPositionSupplier) {
         positionPollerRunnable = new PositionPollerRunnable(currentScreenDimensionSupplier, currentScreenPositionSupplier, this);
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = Executors.newSingleThreadExecutor(new CustomThreadFactory("GazePipeline", new GroupingThreadFactory("GazePipeline")));
         executorService.submit(positionPollerRunnable);
     }
 
@@ -30,6 +32,7 @@ public class TobiiGazeDeviceManager extends AbstractGazeDeviceManager {
     @Override
     public void destroy() {
         positionPollerRunnable.setStopRequested(true);
+        log.info("Gaze sampling : {}", getSamplingMetrics());
         ExecutorService executorService = this.executorService;
         if (executorService != null) {
             executorService.shutdown();
@@ -0,0 +1,75 @@
+package net.gazeplay.commons.soundsmanager;
+
+import javafx.beans.value.ObservableValue;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Supplier;
+
+@Slf4j
+class MediaSoundEffectPlayer implements SoundEffectPlayer {
+
+    private final MediaPlayer mediaPlayer;
+
+    private final Supplier<? extends ObservableValue<? extends Number>> volumeSupplier;
+
+    /**
+     * the volume the player is bound to
+     */
+    private ObservableValue<? extends Number> volume;
+
+    MediaSoundEffectPlayer(final Media media, final Supplier<? extends ObservableValue<? extends Number>> volumeSupplier) {
+        mediaPlayer = new MediaPlayer(media);
+        this.volumeSupplier = volumeSupplier;
+        bindVolume();
+    }
+
+    /**
+     * Binds the player to the current volume, which changes with the active configuration.
+     */
+    private void bindVolume() {
+        final ObservableValue<? extends Number> currentVolume = volumeSupplier == null ? null : volumeSupplier.get();
+        if (currentVolume != volume) {
+            mediaPlayer.volumeProperty().unbind();
+            if (currentVolume != null) {
+                mediaPlayer.volumeProperty().bind(currentVolume);
+            }
+            volume = currentVolume;
+        }
+    }
+
+    @Override
+    public void play() {
+        bindVolume();
+        mediaPlayer.seek(Duration.ZERO);
+        mediaPlayer.play();
+    }
+
+    @Override
+    public void stop() {
+        mediaPlayer.stop();
+    }
+
+    @Override
+    public void dispose() {
+        mediaPlayer.volumeProperty().unbind();
+        mediaPlayer.dispose();
+    }
+
+    @Override
+    public void setOnPlaying(final Runnable onPlaying) {
+        mediaPlayer.setOnPlaying(onPlaying);
+    }
+
+    @Override
+    public void setOnFinished(final Runnable onFinished) {
+        mediaPlayer.setOnEndOfMedia(onFinished);
+        mediaPlayer.setOnError(() -> {
+            log.warn("Sound effect {} can't be played", mediaPlayer.getMedia().getSource(), mediaPlayer.getError());
+            onFinished.run();
+        });
+    }
+
+}
@@ -0,0 +1,251 @@
+package net.gazeplay.commons.soundsmanager;
+
+import javafx.beans.value.ObservableValue;
+import javafx.scene.media.Media;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Plays sound effects through a bounded pool of voices.
+ * <p>
+ * Each effect is decoded once, and its players are reused from one play to the next instead of creating a new
+ * {@link javafx.scene.media.MediaPlayer} each time. When all the voices are playing, the oldest one is stolen to play
+ * the new effect, so that rapid-fire games never pile up players.
+ */
+@Slf4j
+public class SoundEffectEngine {
+
+    public static final int DEFAULT_MAX_VOICES = 8;
+
+    private final int maxVoices;
+
+    private final PlayerFactory playerFactory;
+
+    /**
+     * idle voices of each effect, most recently used first
+     */
+    private final Map<String, Deque<Voice>> idleVoices = new HashMap<>();
+
+    /**
+     * playing voices, oldest first
+     */
+    private final Deque<Voice> activeVoices = new ArrayDeque<>();
+
+    @Getter
+    private final SoundEffectMetrics metrics = new SoundEffectMetrics();
+
+    private static class Voice {
+
+        private final String resource;
+
+        private final SoundEffectPlayer player;
+
+        private long requestNanoTime;
+
+        /**
+         * completed once the effect played by this voice is finished or stopped
+         */
+        private CompletableFuture<Void> playback;
+
+        Voice(final String resource, final SoundEffectPlayer player) {
+            this.resource = resource;
+            this.player = player;
+        }
+
+    }
+
+    /**
+     * Creates the players of the effects.
+     */
+    interface PlayerFactory {
+
+        SoundEffectPlayer create(String resource);
+
+        /**
+         * Forgets the effects decoded so far.
+         */
+        default void clear() {
+        }
+
+    }
+
+    /**
+     * @param volume supplies the volume of the effects each time an effect is played, so that it follows the active
+     *               configuration ; the supplier or its result may be null to keep the default volume
+     */
+    public SoundEffectEngine(final int maxVoices, final Supplier<? extends ObservableValue<? extends Number>> volume) {
+        this(maxVoices, new MediaPlayerFactory(volume));
+    }
+
+    SoundEffectEngine(final int maxVoices, final PlayerFactory playerFactory) {
+        this.maxVoices = Math.max(1, maxVoices);
+        this.playerFactory = playerFactory;
+    }
+
+    /**
+     * Decodes the given effects and prepares a voice for each of them, so that their first play is not delayed.
+     */
+    public synchronized void preload(final String... resources) {
+        for (final String resource : resources) {
+            final Deque<Voice> voices = idleVoices.computeIfAbsent(resource, r -> new ArrayDeque<>());
+            if (voices.isEmpty() && activeVoices.stream().noneMatch(voice -> voice.resource.equals(resource))) {
+                try {
+                    voices.push(newVoice(resource));
+                } catch (final RuntimeException e) {
+                    log.warn("Sound effect {} can't be preloaded", resource, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return completed once the effect is finished, or stopped to free its voice
+     */
+    public synchronized CompletableFuture<Void> play(final String resource) {
+        final long requestNanoTime = System.nanoTime();
+        if (activeVoices.size() >= maxVoices) {
+            release(activeVoices.peekFirst());
+            metrics.recordStolenVoice();
+        }
+        final Deque<Voice> voices = idleVoices.computeIfAbsent(resource, r -> new ArrayDeque<>());
+        final Voice voice = voices.isEmpty() ? newVoice(resource) : voices.pop();
+        voice.requestNanoTime = requestNanoTime;
+        voice.playback = new CompletableFuture<>();
+        activeVoices.addLast(voice);
+        metrics.recordPlay(activeVoices.size());
+        final CompletableFuture<Void> playback = voice.playback;
+        voice.player.play();
+        return playback;
+    }
+
+    /**
+     * Stops the effects playing the given resource.
+     */
+    public synchronized void stop(final String resource) {
+        for (final Voice voice : new ArrayDeque<>(activeVoices)) {
+            if (voice.resource.equals(resource)) {
+                release(voice);
+            }
+        }
+    }
+
+    /**
+     * Stops the effect played last.
+     */
+    public synchronized void stopLast() {
+        final Voice voice = activeVoices.peekLast();
+        if (voice != null) {
+            release(voice);
+        }
+    }
+
+    public synchronized void stopAll() {
+        while (!activeVoices.isEmpty()) {
+            release(activeVoices.peekFirst());
+        }
+    }
+
+    public synchronized int getActiveVoiceCount() {
+        return activeVoices.size();
+    }
+
+    /**
+     * Releases all the players, the effects will be decoded again when played.
+     */
+    public synchronized void dispose() {
+        stopAll();
+        for (final Deque<Voice> voices : idleVoices.values()) {
+            for (final Voice voice : voices) {
+                voice.player.dispose();
+            }
+        }
+        idleVoices.clear();
+        playerFactory.clear();
+        log.info("Sound effects : {}", metrics);
+    }
+
+    private Voice newVoice(final String resource) {
+        final Voice voice = new Voice(resource, playerFactory.create(resource));
+        voice.player.setOnPlaying(() -> onPlaying(voice));
+        voice.player.setOnFinished(() -> onFinished(voice));
+        return voice;
+    }
+
+    private synchronized void onPlaying(final Voice voice) {
+        if (voice.requestNanoTime != 0) {
+            metrics.recordLatency(System.nanoTime() - voice.requestNanoTime);
+            voice.requestNanoTime = 0;
+        }
+    }
+
+    private synchronized void onFinished(final Voice voice) {
+        if (activeVoices.contains(voice)) {
+            release(voice);
+        }
+    }
+
+    private void release(final Voice voice) {
+        activeVoices.remove(voice);
+        voice.requestNanoTime = 0;
+        voice.player.stop();
+        if (voice.playback != null) {
+            voice.playback.complete(null);
+            voice.playback = null;
+        }
+        idleVoices.computeIfAbsent(voice.resource, r -> new ArrayDeque<>()).push(voice);
+    }
+
+    /**
+     * @return the URL of a resource of the classpath, or else of a file
+     */
+    public static String toMediaSource(final String resource) {
+        final URL url = ClassLoader.getSystemResource(resource);
+        if (url == null) {
+            final File file = new File(resource);
+            log.debug("using file");
+            if (!file.exists()) {
+                log.warn("file doesn't exist : {}", resource);
+            }
+            return file.toURI().toString();
+        } else {
+            log.debug("using url");
+            return url.toString();
+        }
+    }
+
+    /**
+     * Creates {@link javafx.scene.media.MediaPlayer}s, decoding each effect once until the engine is disposed.
+     */
+    private static class MediaPlayerFactory implements PlayerFactory {
+
+        private final Supplier<? extends ObservableValue<? extends Number>> volume;
+
+        private final Map<String, Media> medias = new HashMap<>();
+
+        MediaPlayerFactory(final Supplier<? extends ObservableValue<? extends Number>> volume) {
+            this.volume = volume;
+        }
+
+        @Override
+        public SoundEffectPlayer create(final String resource) {
+            final Media media = medias.computeIfAbsent(resource, r -> new Media(toMediaSource(r)));
+            return new MediaSoundEffectPlayer(media, volume);
+        }
+
+        @Override
+        public void clear() {
+            medias.clear();
+        }
+
+    }
+
+}
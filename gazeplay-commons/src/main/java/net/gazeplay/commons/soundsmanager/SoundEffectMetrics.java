@@ -0,0 +1,76 @@
+package net.gazeplay.commons.soundsmanager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the sound effects : number of effects played, number of voices stolen to play a new effect, peak of
+ * voices playing at the same time, and latency between the request of an effect and the moment it is heard.
+ */
+public class SoundEffectMetrics {
+
+    private final LongAdder playCount = new LongAdder();
+
+    private final LongAdder stolenVoiceCount = new LongAdder();
+
+    private final LongAccumulator peakActiveVoices = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder latencyCount = new LongAdder();
+
+    private final LongAdder latencyTotalNanos = new LongAdder();
+
+    private final LongAccumulator latencyMaxNanos = new LongAccumulator(Math::max, 0);
+
+    void recordPlay(final int activeVoices) {
+        playCount.increment();
+        peakActiveVoices.accumulate(activeVoices);
+    }
+
+    void recordStolenVoice() {
+        stolenVoiceCount.increment();
+    }
+
+    void recordLatency(final long latencyNanos) {
+        latencyCount.increment();
+        latencyTotalNanos.add(latencyNanos);
+        latencyMaxNanos.accumulate(latencyNanos);
+    }
+
+    public long getPlayCount() {
+        return playCount.sum();
+    }
+
+    public long getStolenVoiceCount() {
+        return stolenVoiceCount.sum();
+    }
+
+    public long getPeakActiveVoices() {
+        return peakActiveVoices.get();
+    }
+
+    public double getAverageLatencyMillis() {
+        final long count = latencyCount.sum();
+        return count == 0 ? 0 : latencyTotalNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxLatencyMillis() {
+        return latencyMaxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public void reset() {
+        playCount.reset();
+        stolenVoiceCount.reset();
+        peakActiveVoices.reset();
+        latencyCount.reset();
+        latencyTotalNanos.reset();
+        latencyMaxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d effects played, %d voices stolen, %d voices at most, request to sound latency avg %.2f ms max %.2f ms",
+            getPlayCount(), getStolenVoiceCount(), getPeakActiveVoices(), getAverageLatencyMillis(), getMaxLatencyMillis());
+    }
+
+}
@@ -0,0 +1,27 @@
+package net.gazeplay.commons.soundsmanager;
+
+/**
+ * Player of one sound effect, reused each time the effect is played.
+ */
+interface SoundEffectPlayer {
+
+    /**
+     * Plays the effect from its beginning.
+     */
+    void play();
+
+    void stop();
+
+    void dispose();
+
+    /**
+     * @param onPlaying called when the effect is actually heard
+     */
+    void setOnPlaying(Runnable onPlaying);
+
+    /**
+     * @param onFinished called when the effect reached its end or failed
+     */
+    void setOnFinished(Runnable onFinished);
+
+}
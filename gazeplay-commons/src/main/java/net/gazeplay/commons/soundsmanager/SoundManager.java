@@ -5,51 +5,249 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.utils.games.ForegroundSoundsUtils;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Plays the sounds requested by a game, one after the other.
+ * <p>
+ * The requests wait in a thread-safe priority queue, taken by a background thread which sleeps until a request comes,
+ * hands it to the JavaFX thread and waits for the sound to be finished before taking the next one. A request which
+ * waited for too long is dropped, as the sound would no longer match what happens in the game.
+ */
 @Slf4j
 public class SoundManager {
+
+    static final long DEFAULT_STALE_AFTER_MILLIS = 3000;
+
+    /**
+     * Plays the sounds, on the thread of the playback executor.
+     */
+    interface SoundPlayer {
+
+        /**
+         * @return completed once the sound is finished or stopped
+         */
+        CompletableFuture<Void> play(String resource);
+
+        void stop(String resource);
+
+    }
+
     @Getter
     private ExecutorService executorService;
 
     @Getter
     private SoundPlayerRunnable soundPlayerRunnable;
 
+    private final PriorityBlockingQueue<SoundRequest> requests = new PriorityBlockingQueue<>();
+
+    private final AtomicLong nextSequenceNumber = new AtomicLong(0);
+
+    /**
+     * sequence number of the last request of each sound requested with {@link #addLatest(String, SoundPriority)}
+     */
+    private final Map<String, Long> latestSequenceNumbers = new ConcurrentHashMap<>();
+
+    private final long staleAfterNanos;
+
+    private final SoundPlayer player;
+
+    private final Executor playbackExecutor;
+
     @Getter
-    private Queue<String> listOfMusicToPlay = new LinkedList<>();
+    private final SoundRequestMetrics metrics = new SoundRequestMetrics();
+
+    public SoundManager() {
+        this(DEFAULT_STALE_AFTER_MILLIS);
+    }
 
-    public void init() {
+    SoundManager(final long staleAfterMillis) {
+        this(staleAfterMillis, new SoundPlayer() {
+            @Override
+            public CompletableFuture<Void> play(final String resource) {
+                return ForegroundSoundsUtils.playSound(resource);
+            }
+
+            @Override
+            public void stop(final String resource) {
+                ForegroundSoundsUtils.stopSound(resource);
+            }
+        }, Platform::runLater);
+    }
+
+    SoundManager(final long staleAfterMillis, final SoundPlayer player, final Executor playbackExecutor) {
+        this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(staleAfterMillis);
+        this.player = player;
+        this.playbackExecutor = playbackExecutor;
+    }
+
+    public synchronized void init() {
         soundPlayerRunnable = new SoundPlayerRunnable(this);
         executorService = Executors.newSingleThreadExecutor();
         executorService.submit(soundPlayerRunnable);
     }
 
-    public void destroy() {
-        soundPlayerRunnable.setStopRequested(true);
-        if (executorService != null) {
-            executorService.shutdown();
+    /**
+     * Stops the sound thread, the calls after the first one do nothing.
+     */
+    public synchronized void destroy() {
+        if (executorService == null) {
+            return;
         }
+        soundPlayerRunnable.setStopRequested(true);
+        // interrupts the thread waiting for a request
+        executorService.shutdownNow();
+        executorService = null;
+        soundPlayerRunnable = null;
+        log.info("Sounds : {}", metrics);
+    }
+
+    /**
+     * Prepares the given sounds, so that they are played without delay when requested.
+     */
+    public void preload(String... resources) {
+        ForegroundSoundsUtils.preloadSounds(resources);
     }
 
+    /**
+     * Plays the next request, if any, on the current thread.
+     */
     public void playRequestedSounds() {
-        if (listOfMusicToPlay.size() > 0) {
-            String nextToPlay = listOfMusicToPlay.poll();
-            try {
-                ForegroundSoundsUtils.playSound(nextToPlay);
-            } catch (Exception e) {
-                log.info("Sound {} can't be played", listOfMusicToPlay);
-            }
+        final SoundRequest request = pollNextRequest();
+        if (request != null) {
+            play(request);
+        }
+    }
+
+    /**
+     * Plays the request on the thread of the playback executor.
+     *
+     * @return completed once the sound is finished, or dropped
+     */
+    CompletableFuture<Void> playLater(final SoundRequest request) {
+        final CompletableFuture<Void> playback = new CompletableFuture<>();
+        try {
+            playbackExecutor.execute(() -> play(request).whenComplete((result, error) -> playback.complete(null)));
+        } catch (RuntimeException e) {
+            log.warn("Exception while handing a sound request to the playback thread", e);
+            playback.complete(null);
         }
+        return playback;
+    }
+
+    /**
+     * Plays the request, unless it went stale or a later request of the same sound replaced it while it was handed
+     * over.
+     *
+     * @return completed once the sound is finished, or at once if it isn't played
+     */
+    CompletableFuture<Void> play(final SoundRequest request) {
+        if (isStale(request, System.nanoTime()) || isSuperseded(request)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        metrics.recordLatency(System.nanoTime() - request.getRequestNanoTime());
+        try {
+            return player.play(request.getResource());
+        } catch (Exception e) {
+            log.info("Sound {} can't be played", request.getResource());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Waits for the next request which is not stale.
+     */
+    SoundRequest takeNextRequest() throws InterruptedException {
+        SoundRequest request = requests.take();
+        while (isStale(request, System.nanoTime())) {
+            request = requests.take();
+        }
+        return request;
+    }
+
+    /**
+     * @return the next request which is not stale, or null if there is none
+     */
+    SoundRequest pollNextRequest() {
+        final long now = System.nanoTime();
+        SoundRequest request = requests.poll();
+        while (request != null && isStale(request, now)) {
+            request = requests.poll();
+        }
+        return request;
+    }
+
+    private boolean isStale(final SoundRequest request, final long now) {
+        if (now - request.getRequestNanoTime() > staleAfterNanos) {
+            log.debug("Dropping stale sound request {}", request);
+            metrics.recordDropped();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isSuperseded(final SoundRequest request) {
+        final Long latestSequenceNumber = latestSequenceNumbers.get(request.getResource());
+        if (latestSequenceNumber != null && latestSequenceNumber > request.getSequenceNumber()) {
+            log.debug("Dropping superseded sound request {}", request);
+            metrics.recordDropped();
+            return true;
+        }
+        return false;
     }
 
     public void clear() {
-            listOfMusicToPlay.clear();
+        requests.clear();
+        latestSequenceNumbers.clear();
+    }
+
+    public void add(String resource) {
+        add(resource, SoundPriority.NORMAL);
+    }
+
+    public void add(String resource, SoundPriority priority) {
+        add(new SoundRequest(resource, priority, nextSequenceNumber.getAndIncrement(), System.nanoTime()));
+    }
+
+    private void add(final SoundRequest request) {
+        final int queueDepth = requests.size() + 1;
+        requests.add(request);
+        metrics.recordRequest(queueDepth);
     }
 
-     public void add(String resource) {
-            listOfMusicToPlay.add(resource);
+    /**
+     * Requests a sound, dropping the requests of the same sound which are still waiting and stopping the same sound if
+     * it is playing, for sounds which can be replayed on demand.
+     */
+    public void addLatest(String resource, SoundPriority priority) {
+        final SoundRequest latest = new SoundRequest(resource, priority, nextSequenceNumber.getAndIncrement(),
+            System.nanoTime());
+        latestSequenceNumbers.merge(resource, latest.getSequenceNumber(), Math::max);
+        if (requests.removeIf(request -> request.getResource().equals(resource))) {
+            metrics.recordDropped();
+        }
+        try {
+            playbackExecutor.execute(() -> player.stop(resource));
+        } catch (RuntimeException e) {
+            log.warn("Exception while stopping sound {}", resource, e);
+        }
+        add(latest);
+    }
+
+    public boolean isPending(String resource) {
+        return requests.stream().anyMatch(request -> request.getResource().equals(resource));
     }
+
+    public int getQueueDepth() {
+        return requests.size();
+    }
+
 }
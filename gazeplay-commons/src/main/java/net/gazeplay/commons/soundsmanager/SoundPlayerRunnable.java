@@ -1,12 +1,20 @@
 package net.gazeplay.commons.soundsmanager;
 
-import javafx.application.Platform;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Slf4j
 public class SoundPlayerRunnable implements Runnable {
 
+    /**
+     * longest wait for a sound to be finished, in case the end of a sound is never reported
+     */
+    static final long MAX_PLAYBACK_MILLIS = 10000;
+
     private final SoundManager soundManager;
 
     @Setter
@@ -20,21 +28,17 @@ public class SoundPlayerRunnable implements Runnable {
     public void run() {
         while (!stopRequested) {
             try {
-                poll();
-            } catch (final RuntimeException e) {
-                log.warn("Exception while polling a sound request", e);
-            }
-
-            try {
-                Thread.sleep(10);
-            } catch (InterruptedException | RuntimeException e) {
-                log.warn("Exception while sleeping until next poll", e);
+                final SoundRequest request = soundManager.takeNextRequest();
+                soundManager.playLater(request).get(MAX_PLAYBACK_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                log.debug("Sound player stopped");
+                return;
+            } catch (final TimeoutException e) {
+                log.debug("Sound still playing after {} ms, playing the next one", MAX_PLAYBACK_MILLIS);
+            } catch (final ExecutionException e) {
+                log.warn("Exception while playing a sound", e);
             }
         }
     }
 
-    private void poll() {
-        Platform.runLater(soundManager::playRequestedSounds);
-    }
-
 }
@@ -0,0 +1,8 @@
+package net.gazeplay.commons.soundsmanager;
+
+/**
+ * Priority of a sound request, the requests of higher priority are played first.
+ */
+public enum SoundPriority {
+    LOW, NORMAL, HIGH
+}
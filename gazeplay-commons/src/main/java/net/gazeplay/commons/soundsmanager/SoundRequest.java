@@ -0,0 +1,30 @@
+package net.gazeplay.commons.soundsmanager;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Sound waiting to be played, ordered by priority then by order of request.
+ */
+@Getter(AccessLevel.PACKAGE)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@ToString
+class SoundRequest implements Comparable<SoundRequest> {
+
+    private final String resource;
+
+    private final SoundPriority priority;
+
+    private final long sequenceNumber;
+
+    private final long requestNanoTime;
+
+    @Override
+    public int compareTo(final SoundRequest other) {
+        final int byPriority = other.priority.compareTo(priority);
+        return byPriority != 0 ? byPriority : Long.compare(sequenceNumber, other.sequenceNumber);
+    }
+
+}
@@ -0,0 +1,67 @@
+package net.gazeplay.commons.soundsmanager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the sound requests : number of requests, peak of requests waiting at the same time, number of requests
+ * dropped because they waited for too long or were replaced, and latency between a request and its play.
+ */
+public class SoundRequestMetrics {
+
+    private final LongAdder requestCount = new LongAdder();
+
+    private final LongAccumulator peakQueueDepth = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder latencyCount = new LongAdder();
+
+    private final LongAdder latencyTotalNanos = new LongAdder();
+
+    private final LongAccumulator latencyMaxNanos = new LongAccumulator(Math::max, 0);
+
+    void recordRequest(final int queueDepth) {
+        requestCount.increment();
+        peakQueueDepth.accumulate(queueDepth);
+    }
+
+    void recordDropped() {
+        droppedCount.increment();
+    }
+
+    void recordLatency(final long latencyNanos) {
+        latencyCount.increment();
+        latencyTotalNanos.add(latencyNanos);
+        latencyMaxNanos.accumulate(latencyNanos);
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getPeakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public double getAverageLatencyMillis() {
+        final long count = latencyCount.sum();
+        return count == 0 ? 0 : latencyTotalNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxLatencyMillis() {
+        return latencyMaxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d sounds requested, %d waiting at most, %d dropped, request to play latency avg %.2f ms max %.2f ms",
+            getRequestCount(), getPeakQueueDepth(), getDroppedCount(), getAverageLatencyMillis(), getMaxLatencyMillis());
+    }
+
+}
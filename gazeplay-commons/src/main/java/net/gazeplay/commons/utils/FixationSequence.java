@@ -1,104 +1,148 @@
 package net.gazeplay.commons.utils;
 
 import javafx.embed.swing.SwingFXUtils;
-import javafx.geometry.VPos;
-import javafx.scene.SnapshotParameters;
-import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.effect.GaussianBlur;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.TextAlignment;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.*;
 
+/**
+ * The fixation sequence of a session, reduced and drawn as the path of the gaze with a circle for each fixation.
+ * <p>
+ * The sequence is reduced when it is created, and drawn on the first request of its image, once, with Java2D, into an
+ * image that can be drawn on each metrics image : no scene graph node is snapshot, so the sequence can be drawn out of
+ * the JavaFX thread.
+ */
 @Slf4j
 public class FixationSequence {
 
-    private static final Font sanSerifFont = new Font("SanSerif", 10);
-
     public static final int MOUSE_FIXATION_SEQUENCE = 0;
     public static final int GAZE_FIXATION_SEQUENCE = 1;
 
+    /**
+     * maximal number of points of the path of the gaze, which is simplified beyond
+     */
+    public static final int DEFAULT_PATH_BUDGET = 2000;
+
+    private static final double VERTEX_REDUCTION_TOLERANCE = 15;
+
+    /**
+     * minimal duration of the fixations drawn as a circle (Johanna put 20 ; Didier 100)
+     */
+    private static final long MIN_FIXATION_DURATION = 100;
+
+    private static final Font labelFont = new Font("Verdana", Font.PLAIN, 25);
+
+    private static final int LABEL_MAX_WIDTH = 80;
+
     private final Color[][] colors = {
         {Color.INDIANRED, Color.DARKRED},
         {Color.LIGHTBLUE, Color.DARKBLUE}
     };
 
-    /**
-     * Writable image used to create the fixation Sequence image
-     */
-    @Getter
-    private final WritableImage image;
-    @Getter
-    private LinkedList<FixationPoint> sequence;
+    private final int width;
 
-    public FixationSequence(final int width, final int height, ArrayList<LinkedList<FixationPoint>> fixationPoints, int sequenceIndex) {
-        this.image = new WritableImage(width, height);
-        final Canvas canvas = new Canvas(width, height);
+    private final int height;
 
-        sequence = vertexReduction(fixationPoints.get(sequenceIndex), 15);
+    private final int sequenceIndex;
 
-        final GraphicsContext gc = drawFixationLines(canvas, sequence, colors[sequenceIndex][0]);
-        drawFixationCircles(gc, sequence, sequenceIndex);
+    private final int pathBudget;
 
-        final SnapshotParameters params = new SnapshotParameters();
-        params.setFill(Color.TRANSPARENT);
+    private final List<FixationPoint> reducedSequence;
 
-        try {
-            canvas.snapshot(params, image);
-        } catch (final Exception e) {
-            log.error("Can't take snapshot of Fixation Sequence: ", e);
-        }
+    /**
+     * Image of the fixation sequence, transparent around the path and the fixations
+     */
+    private BufferedImage bufferedImage;
 
-        sequence.removeIf(fixationPoint -> fixationPoint.getGazeDuration() == -1);
-    }
+    private WritableImage image;
 
-    private GraphicsContext drawFixationLines(Canvas canvas, LinkedList<FixationPoint> sequence, Color color) {
-        final GraphicsContext gc = canvas.getGraphicsContext2D();
+    @Getter
+    private final LinkedList<FixationPoint> sequence;
 
-        // draw the line of the sequence
-        final GaussianBlur gaussianBlur = new GaussianBlur();
-        gaussianBlur.setRadius(2.5);
-        gc.setEffect(gaussianBlur);
-        gc.setStroke(color);
-        gc.setLineWidth(4);
+    public FixationSequence(final int width, final int height, ArrayList<LinkedList<FixationPoint>> fixationPoints, int sequenceIndex) {
+        this(width, height, fixationPoints, sequenceIndex, DEFAULT_PATH_BUDGET);
+    }
 
-        for (int i = 0; i < sequence.size() - 1; i++) {
-            gc.strokeLine(
-                sequence.get(i).getY(),
-                sequence.get(i).getX(),
-                sequence.get(i + 1).getY(),
-                sequence.get(i + 1).getX()
-            );
+    /**
+     * @param pathBudget the maximal number of points of the path of the gaze, or 0 to draw the path without
+     *                   simplification
+     */
+    public FixationSequence(final int width, final int height, ArrayList<LinkedList<FixationPoint>> fixationPoints, int sequenceIndex,
+                            final int pathBudget) {
+        this.width = width;
+        this.height = height;
+        this.sequenceIndex = sequenceIndex;
+        this.pathBudget = pathBudget;
+        this.reducedSequence = vertexReduction(fixationPoints.get(sequenceIndex), VERTEX_REDUCTION_TOLERANCE);
+
+        sequence = new LinkedList<>();
+        for (final FixationPoint point : reducedSequence) {
+            if (point.getGazeDuration() > MIN_FIXATION_DURATION) {
+                sequence.add(point);
+            }
         }
+    }
 
-        return gc;
+    /**
+     * @return the image of the fixation sequence, drawn on the first call
+     */
+    public synchronized BufferedImage getBufferedImage() {
+        if (bufferedImage == null) {
+            bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D graphics = bufferedImage.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                drawFixationLines(graphics, simplify(reducedSequence, pathBudget), colors[sequenceIndex][0]);
+                drawFixationCircles(graphics, reducedSequence, sequenceIndex);
+            } finally {
+                graphics.dispose();
+            }
+        }
+        return bufferedImage;
     }
 
-    private void drawFixationCircles(GraphicsContext gc, LinkedList<FixationPoint> sequence, int sequenceIndex) {
-        gc.setEffect(null);
-        gc.setFont(sanSerifFont);
-        gc.setTextAlign(TextAlignment.CENTER);
-        gc.setTextBaseline(VPos.CENTER);
+    private static java.awt.Color toAwtColor(final Color color, final double opacity) {
+        return new java.awt.Color((float) color.getRed(), (float) color.getGreen(), (float) color.getBlue(), (float) opacity);
+    }
 
-        // draw the circles with the labels on top
-        gc.setLineWidth(1);
+    private void drawFixationLines(final Graphics2D graphics, final List<FixationPoint> path, final Color color) {
+        if (path.size() < 2) {
+            return;
+        }
+        // the points are swapped : the X of a fixation point is its vertical position
+        final Path2D.Double line = new Path2D.Double(Path2D.WIND_NON_ZERO, path.size());
+        line.moveTo(path.get(0).getY(), path.get(0).getX());
+        for (int i = 1; i < path.size(); i++) {
+            line.lineTo(path.get(i).getY(), path.get(i).getX());
+        }
 
-        int labelCount = 0;// for the labels of the fixation sequence
-        int x, y;
-        double radius, duration;
+        // the line is blurred by layering wider and more transparent strokes
+        final float[] widths = {9, 6, 4};
+        final double[] opacities = {0.2, 0.35, 0.8};
+        for (int i = 0; i < widths.length; i++) {
+            graphics.setStroke(new BasicStroke(widths[i], BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            graphics.setColor(toAwtColor(color, opacities[i]));
+            graphics.draw(line);
+        }
+    }
 
-        gc.setFill(colors[sequenceIndex][0]);
-        gc.setFont(Font.font("Verdana", 25));
+    private void drawFixationCircles(final Graphics2D graphics, final List<FixationPoint> sequence, final int sequenceIndex) {
+        final Color fillColor = colors[sequenceIndex][0];
+        final Color strokeColor = colors[sequenceIndex][1];
+        graphics.setFont(labelFont);
+        final FontMetrics fontMetrics = graphics.getFontMetrics();
 
         double maxDuration = 0;
         for (final FixationPoint point : sequence) {
@@ -107,33 +151,43 @@ public class FixationSequence {
             }
         }
 
+        int labelCount = 0; // for the labels of the fixation sequence
+        final Ellipse2D.Double circle = new Ellipse2D.Double();
         for (final FixationPoint point : sequence) {
-
-            gc.setStroke(colors[sequenceIndex][1]);
-            x = point.getY();
-            y = point.getX();
-            duration = point.getGazeDuration();
-
-            // modify this value in order to change the number of fixation points (Johanna put 20 ; Didier 100)
-            if (duration > 100) {
-                labelCount++;
-                // fixation circle size
-                radius = 40d + 25d * Math.sqrt(duration) / maxDuration;
-                gc.setLineWidth(25d * Math.sqrt(duration) / maxDuration);
-                gc.strokeOval(x - radius / 2d, y - radius / 2d, radius, radius);
-                gc.setFill(
-                    Color.color(
-                        Math.sqrt(duration) / maxDuration * colors[sequenceIndex][1].getRed(),
-                        Math.sqrt(duration) / maxDuration * colors[sequenceIndex][1].getGreen(),
-                        Math.sqrt(duration) / maxDuration * colors[sequenceIndex][1].getBlue(),
-                        1));
-                gc.fillOval(x - radius / 2d, y - radius / 2d, radius, radius);
-                gc.setFill(colors[sequenceIndex][0]);
-                gc.fillText(Integer.toString(labelCount), x, y, 80);
-            } else {
-                point.setGazeDuration(-1);
+            final long duration = point.getGazeDuration();
+            if (duration <= MIN_FIXATION_DURATION) {
+                continue;
             }
+            labelCount++;
+            final int x = point.getY();
+            final int y = point.getX();
+            final double ratio = Math.sqrt(duration) / maxDuration;
+
+            // fixation circle size
+            final double radius = 40d + 25d * ratio;
+            circle.setFrame(x - radius / 2d, y - radius / 2d, radius, radius);
+            graphics.setStroke(new BasicStroke((float) (25d * ratio)));
+            graphics.setColor(toAwtColor(strokeColor, 1));
+            graphics.draw(circle);
+            graphics.setColor(toAwtColor(Color.color(ratio * strokeColor.getRed(), ratio * strokeColor.getGreen(),
+                ratio * strokeColor.getBlue()), 1));
+            graphics.fill(circle);
+
+            final String label = Integer.toString(labelCount);
+            final int labelWidth = Math.min(fontMetrics.stringWidth(label), LABEL_MAX_WIDTH);
+            graphics.setColor(toAwtColor(fillColor, 1));
+            graphics.drawString(label, x - labelWidth / 2f, y + (fontMetrics.getAscent() - fontMetrics.getDescent()) / 2f);
+        }
+    }
+
+    /**
+     * @return the image of the fixation sequence, as a JavaFX image
+     */
+    public synchronized WritableImage getImage() {
+        if (image == null) {
+            image = SwingFXUtils.toFXImage(getBufferedImage(), null);
         }
+        return image;
     }
 
     /**
@@ -142,33 +196,115 @@ public class FixationSequence {
      * @param outputFile The output file (Must be open and writable)
      */
     public void saveToFile(final File outputFile) {
-        final BufferedImage bImage = SwingFXUtils.fromFXImage(image, null);
         try {
-            ImageIO.write(bImage, "png", outputFile);
+            ImageIO.write(getBufferedImage(), "png", outputFile);
         } catch (final IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    public static LinkedList<FixationPoint> vertexReduction(final LinkedList<FixationPoint> allPoints, final double tolerance) {
-        double distance;
-        FixationPoint pivotVertex = allPoints.get(0);
-
-        final LinkedList<FixationPoint> reducedPolyline = new LinkedList<>();
+    /**
+     * Merges the consecutive points closer than the tolerance to the first of them, which gets their durations. The
+     * last point of the sequence is left out.
+     *
+     * @return the reduced sequence, in a single pass
+     */
+    public static List<FixationPoint> vertexReduction(final List<FixationPoint> allPoints, final double tolerance) {
+        final List<FixationPoint> reducedPolyline = new ArrayList<>();
+        final Iterator<FixationPoint> iterator = allPoints.iterator();
+        if (!iterator.hasNext()) {
+            return reducedPolyline;
+        }
+        FixationPoint pivotVertex = iterator.next();
         reducedPolyline.add(pivotVertex);
 
+        final double squaredTolerance = tolerance * tolerance;
         for (int i = 1; i < allPoints.size() - 1; i++) {
-            distance = Math.sqrt(Math.pow(pivotVertex.getY() - allPoints.get(i).getY(), 2)
-                + Math.pow(pivotVertex.getX() - allPoints.get(i).getX(), 2));
+            final FixationPoint point = iterator.next();
+            final double dx = pivotVertex.getX() - point.getX();
+            final double dy = pivotVertex.getY() - point.getY();
 
-            if (distance <= tolerance) {
+            if (dx * dx + dy * dy <= squaredTolerance) {
                 // add to the accepted vertex the duration of the reduced vertices -- to adapt the radius
-                pivotVertex.setGazeDuration(pivotVertex.getGazeDuration() + allPoints.get(i).getGazeDuration());
+                pivotVertex.setGazeDuration(pivotVertex.getGazeDuration() + point.getGazeDuration());
             } else {
-                reducedPolyline.add(allPoints.get(i));
-                pivotVertex = allPoints.get(i);
+                reducedPolyline.add(point);
+                pivotVertex = point;
             }
         }
         return reducedPolyline;
     }
+
+    /**
+     * Simplifies a path with the Douglas-Peucker algorithm, within a budget : starting from its ends, the point of the
+     * path farthest from the simplified path is added, until the budget is reached.
+     *
+     * @param budget the maximal number of points of the simplified path, or 0 to keep all the points
+     * @return the simplified path, keeping the order of the points
+     */
+    public static List<FixationPoint> simplify(final List<FixationPoint> path, final int budget) {
+        if (budget <= 0 || path.size() <= Math.max(budget, 2)) {
+            return path;
+        }
+        final FixationPoint[] points = path.toArray(new FixationPoint[0]);
+        final boolean[] kept = new boolean[points.length];
+        kept[0] = true;
+        kept[points.length - 1] = true;
+        int keptCount = 2;
+
+        // the segments of the simplified path, the one with the farthest point first
+        final PriorityQueue<double[]> segments = new PriorityQueue<>(Comparator.comparingDouble(segment -> -segment[2]));
+        addSegment(segments, points, 0, points.length - 1);
+        while (keptCount < budget && !segments.isEmpty()) {
+            final double[] segment = segments.poll();
+            final int farthest = (int) segment[3];
+            kept[farthest] = true;
+            keptCount++;
+            addSegment(segments, points, (int) segment[0], farthest);
+            addSegment(segments, points, farthest, (int) segment[1]);
+        }
+
+        final List<FixationPoint> simplifiedPath = new ArrayList<>(keptCount);
+        for (int i = 0; i < points.length; i++) {
+            if (kept[i]) {
+                simplifiedPath.add(points[i]);
+            }
+        }
+        return simplifiedPath;
+    }
+
+    /**
+     * Queues the segment with its point farthest from it, as {first, last, squared distance, farthest}, if it has
+     * points between its ends.
+     */
+    private static void addSegment(final PriorityQueue<double[]> segments, final FixationPoint[] points, final int first, final int last) {
+        if (last - first < 2) {
+            return;
+        }
+        final double ax = points[first].getX();
+        final double ay = points[first].getY();
+        final double dx = points[last].getX() - ax;
+        final double dy = points[last].getY() - ay;
+        final double squaredLength = dx * dx + dy * dy;
+
+        int farthest = first + 1;
+        double maxDistance = -1;
+        for (int i = first + 1; i < last; i++) {
+            final double px = points[i].getX() - ax;
+            final double py = points[i].getY() - ay;
+            final double distance;
+            if (squaredLength == 0) {
+                distance = px * px + py * py;
+            } else {
+                final double cross = dx * py - dy * px;
+                distance = cross * cross / squaredLength;
+            }
+            if (distance > maxDistance) {
+                maxDistance = distance;
+                farthest = i;
+            }
+        }
+        segments.add(new double[]{first, last, maxDistance, farthest});
+    }
+
 }
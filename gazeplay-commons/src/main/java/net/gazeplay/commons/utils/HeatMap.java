@@ -5,7 +5,7 @@ import javafx.geometry.VPos;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.PixelWriter;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
@@ -15,21 +15,52 @@ import javafx.scene.text.Font;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ConvolveOp;
+import java.awt.image.Kernel;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Creates a heatmap image from a given 2D array
+ * <p>
+ * The pixels are computed in an ARGB array through a lookup table of the interpolated colors, without any JavaFX
+ * call, so that a heatmap can be rendered outside of the JavaFX thread. Only {@link #getColorKey(int, int)} needs the
+ * JavaFX thread.
  */
 @Slf4j
 public class HeatMap {
 
     /**
-     * Writable image used to create the heatmap image
+     * Number of entries of the color lookup table
+     */
+    static final int LOOKUP_TABLE_SIZE = 256;
+
+    /**
+     * Blur applied to the heatmap when it is drawn over the screenshot
+     */
+    private static final float[] BLUR_KERNEL = new float[]{1 / 16f, 1 / 8f, 1 / 16f, 1 / 8f, 1 / 4f, 1 / 8f, 1 / 16f, 1 / 8f, 1 / 16f};
+
+    /**
+     * Width of the heatmap image
+     */
+    @Getter
+    private final int width;
+    /**
+     * Height of the heatmap image
      */
     @Getter
-    private final WritableImage image;
+    private final int height;
+    /**
+     * ARGB pixels of the heatmap image, row by row
+     */
+    private final int[] pixels;
+    /**
+     * Writable image used to create the heatmap image, created on first use
+     */
+    private WritableImage image;
     /**
      * Array of the different colors used to interpolate
      */
@@ -61,7 +92,8 @@ public class HeatMap {
      */
     public HeatMap(final double[][] data, final double opacity, final List<Color> colors) {
 
-        this.image = new WritableImage(data[0].length, data.length);
+        this.width = data[0].length;
+        this.height = data.length;
         this.colors = colors;
         this.opacity = opacity;
 
@@ -81,39 +113,72 @@ public class HeatMap {
         subdivisionValue = (maxValue - minValue) / (this.colors.size() - 1);
 
         // Create heatmap pixel per pixel
-        final PixelWriter pxWriter = image.getPixelWriter();
-        for (int x = 0; x < data.length; x++) {
-            for (int y = 0; y < data[x].length; y++) {
-                pxWriter.setColor(y, x, getColor(data[x][y]));
+        final int[] lookupTable = buildLookupTable(colors, opacity);
+        final double range = maxValue - minValue;
+        pixels = new int[width * height];
+        for (int x = 0; x < height; x++) {
+            final int offset = x * width;
+            for (int y = 0; y < width; y++) {
+                final double value = data[x][y];
+                if (value != 0) {
+                    final double ratio = range > 0 ? (value - minValue) / range : 0;
+                    pixels[offset + y] = lookupTable[(int) Math.round(Math.max(0, Math.min(1, ratio)) * (LOOKUP_TABLE_SIZE - 1))];
+                }
             }
         }
     }
 
     /**
-     * Computes the correct color of the value, by interpolating between the 2 colors in the right subdivision.
+     * Computes the colors of the heatmap, from the minimum to the maximum value, by interpolating between the 2
+     * colors of each subdivision.
      *
-     * @param value the value of the pixel (in data).
-     * @return the resulting color after interpolation.
+     * @return the ARGB colors
      */
-    private Color getColor(final double value) {
-        if (value == 0) {
-            return Color.TRANSPARENT;
-        } else {
-            double compValue = minValue + subdivisionValue;
-            int i = 0; // Once out of the loop, will be the index of the starting color of the interpolation
-            while (i < colors.size() - 2 && value >= compValue) { // Finding the right subdivision, in order to get the
-                // colors between which the values is located
-                i++;
-                compValue += subdivisionValue;
-            }
-            final double red = Interpolator.LINEAR.interpolate(colors.get(i).getRed(), colors.get(i + 1).getRed(),
-                (value % subdivisionValue) / subdivisionValue);
-            final double green = Interpolator.LINEAR.interpolate(colors.get(i).getGreen(), colors.get(i + 1).getGreen(),
-                (value % subdivisionValue) / subdivisionValue);
-            final double blue = Interpolator.LINEAR.interpolate(colors.get(i).getBlue(), colors.get(i + 1).getBlue(),
-                (value % subdivisionValue) / subdivisionValue);
-            return Color.color(red, green, blue, opacity);
+    static int[] buildLookupTable(final List<Color> colors, final double opacity) {
+        final int[] lookupTable = new int[LOOKUP_TABLE_SIZE];
+        final int subdivisions = colors.size() - 1;
+        final int alpha = toComponent(opacity);
+        for (int index = 0; index < LOOKUP_TABLE_SIZE; index++) {
+            final double position = (double) index / (LOOKUP_TABLE_SIZE - 1) * subdivisions;
+            final int i = Math.min((int) position, subdivisions - 1);
+            final double fraction = position - i;
+            final Color from = colors.get(i);
+            final Color to = colors.get(i + 1);
+            final int red = toComponent(Interpolator.LINEAR.interpolate(from.getRed(), to.getRed(), fraction));
+            final int green = toComponent(Interpolator.LINEAR.interpolate(from.getGreen(), to.getGreen(), fraction));
+            final int blue = toComponent(Interpolator.LINEAR.interpolate(from.getBlue(), to.getBlue(), fraction));
+            lookupTable[index] = alpha << 24 | red << 16 | green << 8 | blue;
+        }
+        return lookupTable;
+    }
+
+    private static int toComponent(final double value) {
+        return (int) Math.round(Math.max(0, Math.min(1, value)) * 255);
+    }
+
+    /**
+     * @return the ARGB color of a pixel, fully transparent if the value of the pixel is 0
+     */
+    int getArgb(final int x, final int y) {
+        return pixels[y * width + x];
+    }
+
+    public synchronized WritableImage getImage() {
+        if (image == null) {
+            image = new WritableImage(width, height);
+            image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
         }
+        return image;
+    }
+
+    /**
+     * @return the heatmap blurred to be drawn over a screenshot, computed without JavaFX
+     */
+    public BufferedImage toBlurredImage() {
+        final BufferedImage heatmapImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        heatmapImage.setRGB(0, 0, width, height, pixels, 0, width);
+        final BufferedImageOp op = new ConvolveOp(new Kernel(3, 3, BLUR_KERNEL));
+        return op.filter(heatmapImage, null);
     }
 
     public WritableImage getColorKey(final int width, final int height) {
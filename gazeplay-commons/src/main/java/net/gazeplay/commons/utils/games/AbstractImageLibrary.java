@@ -63,8 +63,15 @@ public abstract class AbstractImageLibrary implements ImageLibrary {
         return list;
     }
 
+    /**
+     * @return the next random index of the sequence used to pick images
+     */
+    protected int nextRandomIndex(final int distinctImagesCount) {
+        return random.nextInt(distinctImagesCount);
+    }
+
     private Set<Image> collectRandom(final int limit, final int distinctImagesCount) {
-        return IntStream.generate(() -> random.nextInt(distinctImagesCount)).distinct().limit(limit).boxed()
+        return IntStream.generate(() -> nextRandomIndex(distinctImagesCount)).distinct().limit(limit).boxed()
             .peek(i -> log.debug("Picking Image at random index {} in ImageLibrary", i)).map(this::loadImageAtIndex)
             .collect(Collectors.toSet());
     }
@@ -1,48 +1,52 @@
 package net.gazeplay.commons.utils.games;
 
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.configuration.ActiveConfigurationContext;
-import net.gazeplay.commons.configuration.Configuration;
+import net.gazeplay.commons.soundsmanager.SoundEffectEngine;
 
-import java.io.File;
-import java.net.URL;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 public class ForegroundSoundsUtils {
 
-    private static MediaPlayer lastSoundPlayer;
+    private static SoundEffectEngine soundEffectEngine;
 
-    public static synchronized void playSound(String resource) {
-        log.debug("Try to play " + resource);
-        URL url = ClassLoader.getSystemResource(resource);
-        String path;
-        if (url == null) {
-            final File file = new File(resource);
-            log.debug("using file");
-            if (!file.exists()) {
-                log.warn("file doesn't exist : {}", resource);
-            }
-            path = file.toURI().toString();
-        } else {
-            log.debug("using url");
-            path = url.toString();
+    public static synchronized SoundEffectEngine getSoundEffectEngine() {
+        if (soundEffectEngine == null) {
+            // the volume of the profile active when the effect is played
+            soundEffectEngine = new SoundEffectEngine(SoundEffectEngine.DEFAULT_MAX_VOICES,
+                () -> ActiveConfigurationContext.getInstance().getEffectsVolumeProperty());
         }
-       // stopSound();
-        final Configuration configuration = ActiveConfigurationContext.getInstance();
-        Media media = new Media(path);
-        MediaPlayer soundPlayer = new MediaPlayer(media);
-        soundPlayer.setVolume(configuration.getEffectsVolumeProperty().getValue());
-        soundPlayer.volumeProperty().bindBidirectional(configuration.getEffectsVolumeProperty());
-        soundPlayer.play();
-        lastSoundPlayer = soundPlayer;
+        return soundEffectEngine;
+    }
+
+    /**
+     * @return completed once the sound is finished or stopped
+     */
+    public static synchronized CompletableFuture<Void> playSound(String resource) {
+        log.debug("Try to play " + resource);
+        return getSoundEffectEngine().play(resource);
+    }
+
+    public static synchronized void preloadSounds(String... resources) {
+        getSoundEffectEngine().preload(resources);
     }
 
     public static synchronized void stopSound() {
-        MediaPlayer activeSoundPlayer = lastSoundPlayer;
-        if (activeSoundPlayer != null) {
-            activeSoundPlayer.stop();
+        if (soundEffectEngine != null) {
+            soundEffectEngine.stopLast();
+        }
+    }
+
+    public static synchronized void stopSound(String resource) {
+        if (soundEffectEngine != null) {
+            soundEffectEngine.stop(resource);
+        }
+    }
+
+    public static synchronized void releaseSounds() {
+        if (soundEffectEngine != null) {
+            soundEffectEngine.dispose();
         }
     }
 
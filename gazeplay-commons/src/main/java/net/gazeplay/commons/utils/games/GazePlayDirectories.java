@@ -53,6 +53,13 @@ public class GazePlayDirectories {
         return new File(getGazePlayFolder(), "data");
     }
 
+    /**
+     * @return cache directory of the thumbnails of the games : in the default directory of GazePlay, in a folder called cache
+     */
+    public static File getThumbnailsCacheFolder() {
+        return new File(new File(getGazePlayFolder(), "cache"), "thumbnails");
+    }
+
     public static File getUserStatsFolder(String user) {
         if (!user.equals("")) {
             return new File(getUserProfileDirectory(user), "statistics");
@@ -0,0 +1,109 @@
+package net.gazeplay.commons.utils.games;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import javafx.scene.image.Image;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.utils.RuntimeExecutionException;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Decoded images shared by all the games, so that an image used by several objects, or by a game launched again, is
+ * decoded only once.
+ * <p>
+ * The images are kept by path and requested size, within a budget of decoded bytes, the least recently used images
+ * being evicted first.
+ */
+@Slf4j
+public class ImageAssetCache {
+
+    static final long DEFAULT_MAXIMUM_BYTES = Math.min(256L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 8);
+
+    private static final ImageAssetCache instance = new ImageAssetCache(DEFAULT_MAXIMUM_BYTES);
+
+    @Value
+    private static class ImageKey {
+        String url;
+        double requestedWidth;
+        double requestedHeight;
+        boolean preserveRatio;
+        boolean smooth;
+    }
+
+    private final Cache<ImageKey, Image> images;
+
+    public static ImageAssetCache getInstance() {
+        return instance;
+    }
+
+    ImageAssetCache(final long maximumBytes) {
+        // a single segment, so that the budget applies to the whole cache and not to each segment
+        images = CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumWeight(maximumBytes)
+            .weigher((ImageKey key, Image image) -> weigh(image))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @return the number of bytes of the decoded image, 4 bytes by pixel
+     */
+    static int weigh(final Image image) {
+        final long bytes = 4L * (long) image.getWidth() * (long) image.getHeight();
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, bytes));
+    }
+
+    /**
+     * @param url the path of a resource of the classpath, or a URL
+     */
+    public Image get(final String url) {
+        return get(url, 0, 0, false, false);
+    }
+
+    /**
+     * @param url the path of a resource of the classpath, or a URL
+     * @see Image#Image(String, double, double, boolean, boolean)
+     */
+    public Image get(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio, final boolean smooth) {
+        final ImageKey key = new ImageKey(url, requestedWidth, requestedHeight, preserveRatio, smooth);
+        final Image image;
+        try {
+            image = images.get(key, () -> new Image(url, requestedWidth, requestedHeight, preserveRatio, smooth));
+        } catch (final UncheckedExecutionException e) {
+            // as the constructor of Image, for a resource that does not exist
+            throw (RuntimeException) e.getCause();
+        } catch (final ExecutionException e) {
+            throw new RuntimeExecutionException(e);
+        }
+        if (image.isError()) {
+            // the resource may become available later, as for a file being copied
+            log.warn("Image {} can't be loaded", url, image.getException());
+            images.invalidate(key);
+        }
+        return image;
+    }
+
+    public void clear() {
+        images.invalidateAll();
+    }
+
+    public long getImageCount() {
+        return images.size();
+    }
+
+    public CacheStats getStats() {
+        return images.stats();
+    }
+
+    @Override
+    public String toString() {
+        final CacheStats stats = images.stats();
+        return String.format("%d images, %d hits, %d misses, %d evictions", images.size(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+}
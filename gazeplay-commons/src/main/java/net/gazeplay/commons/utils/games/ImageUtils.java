@@ -1,7 +1,9 @@
 package net.gazeplay.commons.utils.games;
 
 import com.google.common.collect.Sets;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
+import javafx.stage.Screen;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
@@ -14,24 +16,28 @@ public class ImageUtils {
         .unmodifiableSet(Sets.newHashSet("jpg", "jpeg", "png", "gif", "bmp", "wbmp"));
 
     /**
-     * Creates a new LazyImageLibrary for the given directory, and a fallback library containing
+     * Creates a new PrefetchingImageLibrary for the given directory, and a fallback library containing
      * the default images from resources.
      * @param directoryFile The directory in which to search for images.
-     * @return LazyImageLibrary with a Default fallback.
+     * @return PrefetchingImageLibrary with a Default fallback.
      */
     public static ImageLibrary createImageLibrary(final File directoryFile) {
-        return new LazyImageLibrary(directoryFile, createDefaultImageLibrary(null));
+        final Rectangle2D screenBounds = Screen.getPrimary().getBounds();
+        return new PrefetchingImageLibrary(directoryFile, createDefaultImageLibrary(null),
+            screenBounds.getWidth(), screenBounds.getHeight());
     }
 
     /**
-     * Creates a new LazyImageLibrary for the given directory, with a fallback directory provided as well.
+     * Creates a new PrefetchingImageLibrary for the given directory, with a fallback directory provided as well.
      * @param directoryFile Primary directory to search within.
      * @param defaultDirectoryFile Default, or fallback, directory to search within.
-     * @return LazyImageLibrary with a fallback LazyImageLibrary.
+     * @return PrefetchingImageLibrary with a fallback LazyImageLibrary.
      */
     public static ImageLibrary createImageLibrary(final File directoryFile, final File defaultDirectoryFile) {
-        return new LazyImageLibrary(directoryFile,
-            createDefaultImageLibrary(new LazyImageLibrary(defaultDirectoryFile)));
+        final Rectangle2D screenBounds = Screen.getPrimary().getBounds();
+        return new PrefetchingImageLibrary(directoryFile,
+            createDefaultImageLibrary(new LazyImageLibrary(defaultDirectoryFile)),
+            screenBounds.getWidth(), screenBounds.getHeight());
     }
 
     /**
@@ -90,12 +96,19 @@ public class ImageUtils {
         return result;
     }
 
+    /**
+     * @return the decoded image, shared through the {@link ImageAssetCache}
+     */
     public static Image loadImage(final File file) {
-        return new Image(file.toURI().toString());
+        return ImageAssetCache.getInstance().get(file.toURI().toString());
     }
 
+    /**
+     * @param resource the path of a resource of the classpath, or a URL
+     * @return the decoded image, shared through the {@link ImageAssetCache}
+     */
     public static Image loadImage(final String resource) {
-        return new Image(resource);
+        return ImageAssetCache.getInstance().get(resource);
     }
 
     private static boolean isImage(final File file) {
@@ -0,0 +1,185 @@
+package net.gazeplay.commons.utils.games;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import javafx.geometry.Dimension2D;
+import javafx.scene.image.Image;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+import net.gazeplay.commons.utils.RuntimeExecutionException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Image library of a directory, decoding the images of the next rounds on a pool of worker threads, so that a round
+ * does not wait for its images to be decoded on the JavaFX thread.
+ * <p>
+ * The random indices of the next round are drawn ahead and consumed in order by the picks, so the sequence of picked
+ * images is the one of the other libraries. The images larger than the display size are downsampled when decoded,
+ * and the decoded images are kept within a budget of bytes.
+ */
+@Slf4j
+public class PrefetchingImageLibrary extends AbstractImageLibrary {
+
+    static final long DEFAULT_MEMORY_BUDGET = Math.min(128L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 8);
+
+    private static final ExecutorService executorService = createExecutorService();
+
+    private final List<File> allFiles;
+
+    private final double targetWidth;
+
+    private final double targetHeight;
+
+    private final Cache<Integer, Image> imageCache;
+
+    /**
+     * random indices drawn ahead of the picks, owned by the JavaFX thread.
+     */
+    private final Deque<Integer> upcomingIndices = new ArrayDeque<>();
+
+    public PrefetchingImageLibrary(final File directoryFile, final ImageLibrary defaultImageLibrary,
+                                   final double targetWidth, final double targetHeight) {
+        this(ImageUtils.listImageFiles(directoryFile), defaultImageLibrary, targetWidth, targetHeight, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * @param targetWidth       the width of the display, 0 to keep the images at their original size
+     * @param targetHeight      the height of the display, 0 to keep the images at their original size
+     * @param memoryBudgetBytes the number of bytes of the decoded images kept by the library
+     */
+    public PrefetchingImageLibrary(final List<File> allFiles, final ImageLibrary defaultImageLibrary,
+                                   final double targetWidth, final double targetHeight, final long memoryBudgetBytes) {
+        this.allFiles = allFiles;
+        this.targetWidth = targetWidth;
+        this.targetHeight = targetHeight;
+        this.imageCache = CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumWeight(memoryBudgetBytes)
+            .weigher((Integer index, Image image) -> ImageAssetCache.weigh(image))
+            .build();
+        setFallbackImageLibrary(defaultImageLibrary);
+    }
+
+    private static ExecutorService createExecutorService() {
+        final GroupingThreadFactory threadFactory = new GroupingThreadFactory("ImageLibrary");
+        threadFactory.setDaemon(true);
+        final int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return Executors.newFixedThreadPool(threadCount, new CustomThreadFactory("ImageLibrary", threadFactory));
+    }
+
+    @Override
+    public int getImagesCount() {
+        return allFiles.size();
+    }
+
+    @Override
+    public Set<Image> pickMultipleRandomDistinctImages(final int requestedPickCount) {
+        // the images of this round are decoded in parallel
+        prefetch(requestedPickCount);
+        final Set<Image> result = super.pickMultipleRandomDistinctImages(requestedPickCount);
+        // and those of the next round while this one is played
+        prefetch(requestedPickCount);
+        return result;
+    }
+
+    /**
+     * Draws the random indices of the next pick of {@code count} distinct images, and decodes their images in the
+     * background.
+     */
+    public void prefetch(final int count) {
+        final int distinctImagesCount = allFiles.size();
+        final int limit = Math.min(count, distinctImagesCount);
+        // the next pick consumes the upcoming indices until it has found enough distinct ones
+        final Set<Integer> nextIndices = new LinkedHashSet<>();
+        for (final Integer index : upcomingIndices) {
+            if (nextIndices.size() == limit) {
+                break;
+            }
+            nextIndices.add(index);
+        }
+        while (nextIndices.size() < limit) {
+            final int index = super.nextRandomIndex(distinctImagesCount);
+            upcomingIndices.addLast(index);
+            nextIndices.add(index);
+        }
+        for (final Integer index : nextIndices) {
+            if (imageCache.getIfPresent(index) == null) {
+                executorService.execute(() -> {
+                    try {
+                        loadImageAtIndex(index);
+                    } catch (final RuntimeException e) {
+                        log.warn("Failed to prefetch image {}", allFiles.get(index), e);
+                    }
+                });
+            }
+        }
+    }
+
+    List<Integer> getUpcomingIndices() {
+        return new ArrayList<>(upcomingIndices);
+    }
+
+    @Override
+    protected int nextRandomIndex(final int distinctImagesCount) {
+        final Integer index = upcomingIndices.pollFirst();
+        return index != null ? index : super.nextRandomIndex(distinctImagesCount);
+    }
+
+    /**
+     * Returns the image at the given index, waiting for its decoding if it is in progress on a worker thread.
+     */
+    @Override
+    protected Image loadImageAtIndex(final int index) {
+        try {
+            return imageCache.get(index, () -> decode(allFiles.get(index)));
+        } catch (final ExecutionException e) {
+            throw new RuntimeExecutionException(e);
+        }
+    }
+
+    private Image decode(final File file) {
+        final String url = file.toURI().toString();
+        final Dimension2D size = readImageSize(file);
+        if (targetWidth > 0 && targetHeight > 0 && size != null
+            && (size.getWidth() > targetWidth || size.getHeight() > targetHeight)) {
+            return new Image(url, targetWidth, targetHeight, true, true);
+        }
+        return new Image(url);
+    }
+
+    /**
+     * @return the size of the image read from the header of the file, or null if the format is not known
+     */
+    static Dimension2D readImageSize(final File file) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            if (input == null) {
+                return null;
+            }
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                return new Dimension2D(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        } catch (final IOException e) {
+            log.warn("Can't read the size of image {}", file, e);
+            return null;
+        }
+    }
+
+}
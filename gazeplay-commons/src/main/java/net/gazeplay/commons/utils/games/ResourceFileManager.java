@@ -4,38 +4,54 @@ import lombok.extern.slf4j.Slf4j;
 import org.reflections.Reflections;
 import org.reflections.scanners.ResourcesScanner;
 
-import java.io.File;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
+/**
+ * Lists the image resources of the classpath.
+ * <p>
+ * The classpath is scanned once by top-level folder, the first time one of its resources is requested, and the
+ * resources are then answered from a {@link ResourceIndex}.
+ */
 @Slf4j
 public class ResourceFileManager {
 
-    public static Set<String> getResourcePaths(String path) {
-        String packageName = path.replaceAll("[/\\\\]", ".");
-        Reflections reflections = new Reflections(packageName, new ResourcesScanner());
+    private static final Map<String, ResourceIndex> indexes = new ConcurrentHashMap<>();
 
-        return reflections.getResources(Pattern.compile(createExtensionRegex(ImageUtils.supportedFilesExtensions)));
+    static ResourceIndex getIndex(String path) {
+        String[] segments = ResourceIndex.split(path);
+        String topLevelFolder = segments.length == 0 ? "" : segments[0];
+        return indexes.computeIfAbsent(topLevelFolder, ResourceFileManager::scan);
     }
 
-    public static Set<String> getResourceFolders(String path) {
-        Set<String> resources = getResourcePaths(path);
-        Set<String> result = new HashSet<>();
-        for (String r : resources) {
-            String parent = new File(r).getParent();
-            result.add(parent);
+    private static ResourceIndex scan(String topLevelFolder) {
+        long startTime = System.currentTimeMillis();
+        Reflections reflections = new Reflections(topLevelFolder, new ResourcesScanner());
+        Set<String> resources = reflections.getResources(Pattern.compile(createExtensionRegex(ImageUtils.supportedFilesExtensions)));
+        // the prefix of Reflections also matches the folders starting with the same name
+        if (!topLevelFolder.isEmpty()) {
+            resources.removeIf(resource -> !resource.startsWith(topLevelFolder + "/"));
         }
+        log.info("Indexed {} resources of folder '{}' in {} ms", resources.size(), topLevelFolder, System.currentTimeMillis() - startTime);
+        return new ResourceIndex(resources);
+    }
+
+    public static Set<String> getResourcePaths(String path) {
+        return new HashSet<>(getIndex(path).getResources(path));
+    }
 
-        return result;
+    public static Set<String> getResourceFolders(String path) {
+        return new HashSet<>(getIndex(path).getResourceFolders(path));
     }
 
     public static boolean resourceExists(String location) {
+        if (getIndex(location).contains(location)) {
+            return true;
+        }
         Set<String> resources = getMatchingResources(location);
         return resources.size() > 0;
     }
@@ -0,0 +1,112 @@
+package net.gazeplay.commons.utils.games;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable tree of resource paths, by folder. Each folder holds the resources and the folders of resources below
+ * it, so a folder is listed by walking the segments of its path only.
+ */
+class ResourceIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[/\\\\]+");
+
+    private static class Folder {
+
+        private final Map<String, Folder> children = new HashMap<>();
+
+        private final ImmutableSet.Builder<String> ownResources = ImmutableSet.builder();
+
+        private boolean hasOwnResources;
+
+        private String path;
+
+        private Set<String> resources;
+
+        private Set<String> resourceFolders;
+
+        private void seal() {
+            final ImmutableSet.Builder<String> allResources = ImmutableSet.<String>builder().addAll(ownResources.build());
+            final ImmutableSet.Builder<String> allFolders = ImmutableSet.builder();
+            if (hasOwnResources) {
+                allFolders.add(path);
+            }
+            for (final Folder child : children.values()) {
+                child.seal();
+                allResources.addAll(child.resources);
+                allFolders.addAll(child.resourceFolders);
+            }
+            resources = allResources.build();
+            resourceFolders = allFolders.build();
+        }
+
+    }
+
+    private final Folder root = new Folder();
+
+    /**
+     * @param resourcePaths paths of resources, with / as separator
+     */
+    ResourceIndex(final Collection<String> resourcePaths) {
+        for (final String resourcePath : resourcePaths) {
+            Folder folder = root;
+            final String[] segments = split(resourcePath);
+            for (int i = 0; i < segments.length - 1; i++) {
+                folder = folder.children.computeIfAbsent(segments[i], segment -> new Folder());
+            }
+            folder.ownResources.add(resourcePath);
+            if (!folder.hasOwnResources) {
+                folder.hasOwnResources = true;
+                folder.path = new File(resourcePath).getParent();
+            }
+        }
+        root.seal();
+    }
+
+    static String[] split(final String path) {
+        final String trimmed = SEPARATORS.matcher(path).replaceAll("/").replaceAll("^/|/$", "");
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+    }
+
+    private Folder find(final String[] segments, final int length) {
+        Folder folder = root;
+        for (int i = 0; i < length && folder != null; i++) {
+            folder = folder.children.get(segments[i]);
+        }
+        return folder;
+    }
+
+    /**
+     * @return the resources in the folder and its sub-folders
+     */
+    Set<String> getResources(final String folderPath) {
+        final String[] segments = split(folderPath);
+        final Folder folder = find(segments, segments.length);
+        return folder == null ? ImmutableSet.of() : folder.resources;
+    }
+
+    /**
+     * @return the folders holding resources, in the folder and its sub-folders
+     */
+    Set<String> getResourceFolders(final String folderPath) {
+        final String[] segments = split(folderPath);
+        final Folder folder = find(segments, segments.length);
+        return folder == null ? ImmutableSet.of() : folder.resourceFolders;
+    }
+
+    boolean contains(final String resourcePath) {
+        final String[] segments = split(resourcePath);
+        if (segments.length == 0) {
+            return false;
+        }
+        final Folder folder = find(segments, segments.length - 1);
+        return folder != null && folder.resources.contains(String.join("/", segments));
+    }
+
+}
@@ -0,0 +1,84 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Area of interest found in the movement history while playing, as a range of consecutive movements.
+ * <p>
+ * Its outline is a rectangle computed from the bounding box of the movements, or a convex hull computed by a background
+ * thread, so that closing an area does not slow down the game.
+ */
+@Getter(AccessLevel.PACKAGE)
+class AreaOfInterestCluster {
+
+    private static final ExecutorService outlineExecutorService = createExecutorService();
+
+    /**
+     * index of the first movement of the area in the movement history
+     */
+    private final int firstIndex;
+
+    /**
+     * number of movements of the area
+     */
+    private final int size;
+
+    /**
+     * indexes of the movements starting and ending the area when it is replayed
+     */
+    private final int startIndex;
+
+    private final int endIndex;
+
+    private final int colorIndex;
+
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<double[]> polygonPoints;
+
+    private AreaOfInterestCluster(final int firstIndex, final int size, final int startIndex, final int endIndex, final int colorIndex,
+                                  final CompletableFuture<double[]> polygonPoints) {
+        this.firstIndex = firstIndex;
+        this.size = size;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.colorIndex = colorIndex;
+        this.polygonPoints = polygonPoints;
+    }
+
+    private static ExecutorService createExecutorService() {
+        final GroupingThreadFactory threadFactory = new GroupingThreadFactory("AreaOfInterest");
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadExecutor(new CustomThreadFactory("AreaOfInterest", threadFactory));
+    }
+
+    static AreaOfInterestCluster withRectangle(final int firstIndex, final int size, final int startIndex, final int endIndex, final int colorIndex,
+                                               final double minX, final double maxX, final double minY, final double maxY) {
+        return new AreaOfInterestCluster(firstIndex, size, startIndex, endIndex, colorIndex,
+            CompletableFuture.completedFuture(AreaOfInterestGeometry.rectangle(minX, maxX, minY, maxY)));
+    }
+
+    /**
+     * @param xs the X values of the points to enclose, owned by the cluster from now on
+     * @param ys the Y values of the points to enclose, owned by the cluster from now on
+     */
+    static AreaOfInterestCluster withConvexHull(final int firstIndex, final int size, final int startIndex, final int endIndex, final int colorIndex,
+                                                final int[] xs, final int[] ys) {
+        return new AreaOfInterestCluster(firstIndex, size, startIndex, endIndex, colorIndex,
+            CompletableFuture.supplyAsync(() -> AreaOfInterestGeometry.convexHull(xs, ys, xs.length), outlineExecutorService));
+    }
+
+    /**
+     * @return the X and Y values of each point of the outline, in sequence, waiting for it to be computed if needed
+     */
+    double[] getPolygonPoints() {
+        return polygonPoints.join();
+    }
+
+}
@@ -0,0 +1,291 @@
+package net.gazeplay.commons.utils.stats;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Outlines of the areas of interest, computed on primitive arrays.
+ * <p>
+ * A polygon is given as the X and Y values of each of its points, in sequence. The outlines of the areas are convex, so
+ * their intersections are computed by clipping, without building any scene graph shape.
+ */
+public class AreaOfInterestGeometry {
+
+    private static final double[] EMPTY = new double[0];
+
+    /**
+     * Padding between the points of an area and its rectangle
+     */
+    static final int RECTANGLE_BIAS = 15;
+
+    /**
+     * @return the X and Y values of each point of a rectangle enclosing the given bounds with a padding, in sequence
+     */
+    public static double[] rectangle(final double minX, final double maxX, final double minY, final double maxY) {
+        return new double[]{
+            minX - RECTANGLE_BIAS, maxY + RECTANGLE_BIAS,
+            maxX + RECTANGLE_BIAS, maxY + RECTANGLE_BIAS,
+            maxX + RECTANGLE_BIAS, minY - RECTANGLE_BIAS,
+            minX - RECTANGLE_BIAS, minY - RECTANGLE_BIAS
+        };
+    }
+
+    /**
+     * Implements Andrew's monotone chain algorithm, in O(n log n) : the points are sorted by X then Y, and the lower and
+     * upper hulls are built by removing the points making a clockwise turn.
+     *
+     * @return the X and Y values of each point of the convex hull, counterclockwise from the left-most point, in
+     * sequence
+     */
+    public static double[] convexHull(final int[] xs, final int[] ys, final int count) {
+        final long[] sortedPoints = new long[count];
+        for (int i = 0; i < count; i++) {
+            sortedPoints[i] = pack(xs[i], ys[i]);
+        }
+        Arrays.sort(sortedPoints);
+
+        final int distinctCount = removeDuplicates(sortedPoints);
+        if (distinctCount < 3) {
+            return toCoordinates(sortedPoints, distinctCount);
+        }
+
+        final long[] hull = new long[2 * distinctCount];
+        int hullSize = 0;
+        // lower hull
+        for (int i = 0; i < distinctCount; i++) {
+            while (hullSize >= 2 && cross(hull[hullSize - 2], hull[hullSize - 1], sortedPoints[i]) <= 0) {
+                hullSize--;
+            }
+            hull[hullSize++] = sortedPoints[i];
+        }
+        // upper hull
+        final int lowerHullSize = hullSize + 1;
+        for (int i = distinctCount - 2; i >= 0; i--) {
+            while (hullSize >= lowerHullSize && cross(hull[hullSize - 2], hull[hullSize - 1], sortedPoints[i]) <= 0) {
+                hullSize--;
+            }
+            hull[hullSize++] = sortedPoints[i];
+        }
+        // the last point is the first one
+        return toCoordinates(hull, hullSize - 1);
+    }
+
+    /**
+     * Packs a point in a long, ordered by X then Y.
+     */
+    private static long pack(final int x, final int y) {
+        return ((long) x << 32) | ((y ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    private static int unpackX(final long point) {
+        return (int) (point >> 32);
+    }
+
+    private static int unpackY(final long point) {
+        return (int) point ^ Integer.MIN_VALUE;
+    }
+
+    private static int removeDuplicates(final long[] sortedPoints) {
+        if (sortedPoints.length == 0) {
+            return 0;
+        }
+        int distinctCount = 1;
+        for (int i = 1; i < sortedPoints.length; i++) {
+            if (sortedPoints[i] != sortedPoints[distinctCount - 1]) {
+                sortedPoints[distinctCount++] = sortedPoints[i];
+            }
+        }
+        return distinctCount;
+    }
+
+    /**
+     * @return a positive value if the points make a counterclockwise turn, negative if clockwise, 0 if collinear
+     */
+    private static long cross(final long o, final long a, final long b) {
+        return ((long) unpackX(a) - unpackX(o)) * ((long) unpackY(b) - unpackY(o))
+            - ((long) unpackY(a) - unpackY(o)) * ((long) unpackX(b) - unpackX(o));
+    }
+
+    private static double[] toCoordinates(final long[] points, final int count) {
+        final double[] coordinates = new double[2 * count];
+        for (int i = 0; i < count; i++) {
+            coordinates[2 * i] = unpackX(points[i]);
+            coordinates[2 * i + 1] = unpackY(points[i]);
+        }
+        return coordinates;
+    }
+
+    public static double[] toArray(final List<Double> coordinates) {
+        final double[] result = new double[coordinates.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = coordinates.get(i);
+        }
+        return result;
+    }
+
+    public static double[] toArray(final Double[] coordinates) {
+        return toArray(Arrays.asList(coordinates));
+    }
+
+    /**
+     * @return the area of the polygon, computed with the shoelace formula
+     */
+    public static double area(final double[] polygon) {
+        return Math.abs(signedArea(polygon));
+    }
+
+    /**
+     * @return a positive area if the points are counterclockwise, in a coordinate system whose Y axis goes up
+     */
+    private static double signedArea(final double[] polygon) {
+        final int count = polygon.length / 2;
+        double sum = 0;
+        for (int i = 0, previous = count - 1; i < count; previous = i++) {
+            sum += polygon[2 * previous] * polygon[2 * i + 1] - polygon[2 * i] * polygon[2 * previous + 1];
+        }
+        return sum / 2;
+    }
+
+    /**
+     * @return the minimal X, minimal Y, maximal X and maximal Y of the polygon, or NaN values if it has no point
+     */
+    public static double[] bounds(final double[] polygon) {
+        if (polygon.length < 2) {
+            return new double[]{Double.NaN, Double.NaN, Double.NaN, Double.NaN};
+        }
+        final double[] bounds = {polygon[0], polygon[1], polygon[0], polygon[1]};
+        for (int i = 2; i + 1 < polygon.length; i += 2) {
+            bounds[0] = Math.min(bounds[0], polygon[i]);
+            bounds[1] = Math.min(bounds[1], polygon[i + 1]);
+            bounds[2] = Math.max(bounds[2], polygon[i]);
+            bounds[3] = Math.max(bounds[3], polygon[i + 1]);
+        }
+        return bounds;
+    }
+
+    public static boolean boundsOverlap(final double[] bounds, final double[] otherBounds) {
+        return bounds[0] <= otherBounds[2] && otherBounds[0] <= bounds[2]
+            && bounds[1] <= otherBounds[3] && otherBounds[1] <= bounds[3];
+    }
+
+    /**
+     * Implements the Sutherland-Hodgman algorithm : the polygon is clipped successively by the half-plane inside each
+     * edge of the convex clip polygon.
+     *
+     * @param polygon a convex polygon
+     * @param clip    a convex polygon, in any orientation
+     * @return the points of the intersection of both polygons, in sequence, or an empty array if they do not intersect
+     */
+    public static double[] intersection(final double[] polygon, final double[] clip) {
+        final int clipCount = clip.length / 2;
+        final double orientation = Math.signum(signedArea(clip));
+        if (polygon.length < 6 || clipCount < 3 || orientation == 0) {
+            return EMPTY;
+        }
+
+        // clipping a convex polygon by a half-plane adds one point at most
+        double[] input = new double[polygon.length + 2 * clipCount];
+        double[] output = Arrays.copyOf(polygon, input.length);
+        int outputCount = polygon.length / 2;
+
+        for (int edge = 0, previousEdge = clipCount - 1; edge < clipCount; previousEdge = edge++) {
+            final double ax = clip[2 * previousEdge];
+            final double ay = clip[2 * previousEdge + 1];
+            final double bx = clip[2 * edge];
+            final double by = clip[2 * edge + 1];
+
+            final double[] swap = input;
+            input = output;
+            output = swap;
+            final int inputCount = outputCount;
+            outputCount = 0;
+
+            for (int i = 0, previous = inputCount - 1; i < inputCount; previous = i++) {
+                final double px = input[2 * previous];
+                final double py = input[2 * previous + 1];
+                final double cx = input[2 * i];
+                final double cy = input[2 * i + 1];
+                final double previousSide = orientation * side(ax, ay, bx, by, px, py);
+                final double currentSide = orientation * side(ax, ay, bx, by, cx, cy);
+
+                if ((previousSide >= 0) != (currentSide >= 0)) {
+                    final double t = previousSide / (previousSide - currentSide);
+                    output[2 * outputCount] = px + t * (cx - px);
+                    output[2 * outputCount + 1] = py + t * (cy - py);
+                    outputCount++;
+                }
+                if (currentSide >= 0) {
+                    output[2 * outputCount] = cx;
+                    output[2 * outputCount + 1] = cy;
+                    outputCount++;
+                }
+            }
+            if (outputCount == 0) {
+                return EMPTY;
+            }
+        }
+        return Arrays.copyOf(output, 2 * outputCount);
+    }
+
+    /**
+     * @return a positive value if the point is on the left of the line going from A to B
+     */
+    private static double side(final double ax, final double ay, final double bx, final double by,
+                               final double x, final double y) {
+        return (bx - ax) * (y - ay) - (by - ay) * (x - ax);
+    }
+
+    /**
+     * Finds the polygons whose bounds overlap, with a sweep along the X axis : the polygons are sorted by their minimal
+     * X, and each one is only compared with the polygons whose bounds are still crossed by the sweep line.
+     *
+     * @return for each polygon, the indexes of the other polygons whose bounds overlap its bounds, in ascending order
+     */
+    public static int[][] overlappingBounds(final List<double[]> polygons) {
+        final int count = polygons.size();
+        final double[][] bounds = new double[count][];
+        final Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            bounds[i] = bounds(polygons.get(i));
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> bounds[i][0]));
+
+        final int[][] neighbours = new int[count][4];
+        final int[] neighbourCounts = new int[count];
+        final int[] active = new int[count];
+        int activeCount = 0;
+        for (final int i : order) {
+            int kept = 0;
+            for (int k = 0; k < activeCount; k++) {
+                final int other = active[k];
+                if (bounds[other][2] >= bounds[i][0]) {
+                    active[kept++] = other;
+                    if (boundsOverlap(bounds[i], bounds[other])) {
+                        addNeighbour(neighbours, neighbourCounts, i, other);
+                        addNeighbour(neighbours, neighbourCounts, other, i);
+                    }
+                }
+            }
+            activeCount = kept;
+            if (!Double.isNaN(bounds[i][0])) {
+                active[activeCount++] = i;
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            neighbours[i] = Arrays.copyOf(neighbours[i], neighbourCounts[i]);
+            Arrays.sort(neighbours[i]);
+        }
+        return neighbours;
+    }
+
+    private static void addNeighbour(final int[][] neighbours, final int[] neighbourCounts, final int index, final int neighbour) {
+        if (neighbourCounts[index] == neighbours[index].length) {
+            neighbours[index] = Arrays.copyOf(neighbours[index], 2 * neighbours[index].length);
+        }
+        neighbours[index][neighbourCounts[index]++] = neighbour;
+    }
+
+}
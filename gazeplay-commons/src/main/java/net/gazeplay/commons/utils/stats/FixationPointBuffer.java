@@ -0,0 +1,107 @@
+package net.gazeplay.commons.utils.stats;
+
+import net.gazeplay.commons.utils.FixationPoint;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+/**
+ * Fixation points recorded during a game, stored in columns of primitive arrays split in fixed size chunks, with
+ * constant time append and access to the last point. The {@link FixationPoint} objects are only created when the
+ * sequence is displayed or saved.
+ */
+public class FixationPointBuffer {
+
+    private static final int CHUNK_SHIFT = MovementHistory.CHUNK_SHIFT;
+
+    private static final int CHUNK_SIZE = MovementHistory.CHUNK_SIZE;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private long[][] timesGaze = new long[0][];
+
+    private long[][] gazeDurations = new long[0][];
+
+    private int[][] xs = new int[0][];
+
+    private int[][] ys = new int[0][];
+
+    private int size = 0;
+
+    public void add(final long timeGaze, final long gazeDuration, final int x, final int y) {
+        final int chunk = size >>> CHUNK_SHIFT;
+        final int offset = size & CHUNK_MASK;
+        if (offset == 0) {
+            allocateChunk(chunk);
+        }
+        timesGaze[chunk][offset] = timeGaze;
+        gazeDurations[chunk][offset] = gazeDuration;
+        xs[chunk][offset] = x;
+        ys[chunk][offset] = y;
+        size++;
+    }
+
+    private void allocateChunk(final int chunk) {
+        if (chunk == xs.length) {
+            final int capacity = Math.max(4, chunk * 2);
+            timesGaze = Arrays.copyOf(timesGaze, capacity);
+            gazeDurations = Arrays.copyOf(gazeDurations, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        if (xs[chunk] == null) {
+            timesGaze[chunk] = new long[CHUNK_SIZE];
+            gazeDurations[chunk] = new long[CHUNK_SIZE];
+            xs[chunk] = new int[CHUNK_SIZE];
+            ys[chunk] = new int[CHUNK_SIZE];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getTimeGaze(final int index) {
+        checkIndex(index);
+        return timesGaze[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public long getGazeDuration(final int index) {
+        checkIndex(index);
+        return gazeDurations[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public void setGazeDuration(final int index, final long gazeDuration) {
+        checkIndex(index);
+        gazeDurations[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = gazeDuration;
+    }
+
+    public int getX(final int index) {
+        checkIndex(index);
+        return xs[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public int getY(final int index) {
+        checkIndex(index);
+        return ys[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public LinkedList<FixationPoint> toLinkedList() {
+        final LinkedList<FixationPoint> result = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(new FixationPoint(getTimeGaze(i), getGazeDuration(i), getX(i), getY(i)));
+        }
+        return result;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+
+/**
+ * Heatmap data, accumulated by stamping a disc around each recorded position.
+ * <p>
+ * The disc is computed once as a half width for each row offset, a stamp is clipped against the grid before
+ * accumulating, and the values are stored in a flat row-major array, so that no square root nor bounds check is
+ * computed for each cell.
+ */
+public class HeatMapAccumulator {
+
+    @Getter
+    private final int rows;
+
+    @Getter
+    private final int columns;
+
+    @Getter
+    private final int radius;
+
+    /**
+     * half width of the disc for each row offset from {@code -radius} to {@code radius}
+     */
+    private final int[] halfWidths;
+
+    private final int[] values;
+
+    /**
+     * @param radius the cells at a distance strictly lower than the radius from the stamped cell are incremented
+     */
+    public HeatMapAccumulator(final int rows, final int columns, final int radius) {
+        this.rows = rows;
+        this.columns = columns;
+        this.radius = radius;
+        this.halfWidths = computeHalfWidths(radius);
+        this.values = new int[rows * columns];
+    }
+
+    static int[] computeHalfWidths(final int radius) {
+        final int[] halfWidths = new int[2 * radius + 1];
+        for (int i = -radius; i <= radius; i++) {
+            int halfWidth = -1;
+            while ((halfWidth + 1) * (halfWidth + 1) + i * i < radius * radius) {
+                halfWidth++;
+            }
+            halfWidths[i + radius] = halfWidth;
+        }
+        return halfWidths;
+    }
+
+    /**
+     * Increments the cells of the disc centered on the given cell, the center can be outside of the grid.
+     */
+    public void stamp(final int row, final int column) {
+        final int firstRow = Math.max(0, row - radius);
+        final int lastRow = Math.min(rows - 1, row + radius);
+        for (int r = firstRow; r <= lastRow; r++) {
+            final int halfWidth = halfWidths[r - row + radius];
+            final int firstColumn = Math.max(0, column - halfWidth);
+            final int lastColumn = Math.min(columns - 1, column + halfWidth);
+            final int offset = r * columns;
+            for (int c = offset + firstColumn; c <= offset + lastColumn; c++) {
+                values[c]++;
+            }
+        }
+    }
+
+    public int get(final int row, final int column) {
+        return values[row * columns + column];
+    }
+
+    /**
+     * @return a copy of the data, indexed by row then column
+     */
+    public double[][] toArray() {
+        final double[][] result = new double[rows][columns];
+        for (int r = 0; r < rows; r++) {
+            final int offset = r * columns;
+            for (int c = 0; c < columns; c++) {
+                result[r][c] = values[offset + c];
+            }
+        }
+        return result;
+    }
+
+}
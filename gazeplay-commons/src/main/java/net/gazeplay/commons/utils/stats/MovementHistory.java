@@ -0,0 +1,153 @@
+package net.gazeplay.commons.utils.stats;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Movements recorded during a game, stored in columns of primitive arrays.
+ * <p>
+ * The columns are split in fixed size chunks, so that appending never copies the recorded values and a long session
+ * does not keep one object per movement. The list view creates the {@link CoordinatesTracker} of an element on demand,
+ * its distance is read from and written to the underlying column.
+ */
+public class MovementHistory extends AbstractList<CoordinatesTracker> implements RandomAccess {
+
+    static final int CHUNK_SHIFT = 12;
+
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private int[][] xValues = new int[0][];
+
+    private int[][] yValues = new int[0][];
+
+    private long[][] intervalTimes = new long[0][];
+
+    private long[][] timesStarted = new long[0][];
+
+    private double[][] distances = new double[0][];
+
+    private int size = 0;
+
+    public void add(final int xValue, final int yValue, final long intervalTime, final long timeStarted) {
+        final int chunk = size >>> CHUNK_SHIFT;
+        final int offset = size & CHUNK_MASK;
+        if (offset == 0) {
+            allocateChunk(chunk);
+        }
+        xValues[chunk][offset] = xValue;
+        yValues[chunk][offset] = yValue;
+        intervalTimes[chunk][offset] = intervalTime;
+        timesStarted[chunk][offset] = timeStarted;
+        distances[chunk][offset] = 0;
+        size++;
+        modCount++;
+    }
+
+    private void allocateChunk(final int chunk) {
+        if (chunk == xValues.length) {
+            final int capacity = Math.max(4, chunk * 2);
+            xValues = Arrays.copyOf(xValues, capacity);
+            yValues = Arrays.copyOf(yValues, capacity);
+            intervalTimes = Arrays.copyOf(intervalTimes, capacity);
+            timesStarted = Arrays.copyOf(timesStarted, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+        }
+        if (xValues[chunk] == null) {
+            xValues[chunk] = new int[CHUNK_SIZE];
+            yValues[chunk] = new int[CHUNK_SIZE];
+            intervalTimes[chunk] = new long[CHUNK_SIZE];
+            timesStarted[chunk] = new long[CHUNK_SIZE];
+            distances[chunk] = new double[CHUNK_SIZE];
+        }
+    }
+
+    @Override
+    public boolean add(final CoordinatesTracker coordinatesTracker) {
+        add(coordinatesTracker.getXValue(), coordinatesTracker.getYValue(), coordinatesTracker.getIntervalTime(), coordinatesTracker.getTimeStarted());
+        setDistance(size - 1, coordinatesTracker.getDistance());
+        return true;
+    }
+
+    @Override
+    public CoordinatesTracker get(final int index) {
+        checkIndex(index);
+        return new Entry(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        // the chunks are kept to be reused
+        size = 0;
+        modCount++;
+    }
+
+    public int getXValue(final int index) {
+        checkIndex(index);
+        return xValues[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public int getYValue(final int index) {
+        checkIndex(index);
+        return yValues[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public long getIntervalTime(final int index) {
+        checkIndex(index);
+        return intervalTimes[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public long getTimeStarted(final int index) {
+        checkIndex(index);
+        return timesStarted[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public double getDistance(final int index) {
+        checkIndex(index);
+        return distances[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    public void setDistance(final int index, final double distance) {
+        checkIndex(index);
+        distances[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = distance;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Element of the list view, backed by the columns of the history.
+     */
+    private final class Entry extends CoordinatesTracker {
+
+        private final int index;
+
+        Entry(final int index) {
+            super(MovementHistory.this.getXValue(index), MovementHistory.this.getYValue(index),
+                MovementHistory.this.getIntervalTime(index), MovementHistory.this.getTimeStarted(index));
+            this.index = index;
+        }
+
+        @Override
+        public double getDistance() {
+            return MovementHistory.this.getDistance(index);
+        }
+
+        @Override
+        public void setDistance(final double distance) {
+            MovementHistory.this.setDistance(index, distance);
+        }
+
+    }
+
+}
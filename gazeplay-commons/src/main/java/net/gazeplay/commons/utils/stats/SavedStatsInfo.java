@@ -1,11 +1,24 @@
 package net.gazeplay.commons.utils.stats;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 import java.io.File;
+import java.util.Map;
 import java.util.Observable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * The files of the stats of a session, which are written in the background.
+ * <p>
+ * The observers are notified with each file as soon as it is written, then with null once all of them are written.
+ * They are notified on the thread writing the files. When a file can't be written, they are notified with null, and
+ * {@link #getFilesReady()} is completed exceptionally.
+ */
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class SavedStatsInfo extends Observable {
@@ -16,8 +29,84 @@ public class SavedStatsInfo extends Observable {
     private final File screenshotFile;
     private final File colorBandsFile;
 
+    /**
+     * completed once each file is written
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Map<File, CompletableFuture<Void>> fileReadyFutures = new ConcurrentHashMap<>();
+
+    /**
+     * completed once all the files are written, or exceptionally when one of them could not be written
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final CompletableFuture<Void> filesReady = new CompletableFuture<>();
+
+    private CompletableFuture<Void> fileReadyFuture(final File file) {
+        return fileReadyFutures.computeIfAbsent(file, f -> new CompletableFuture<>());
+    }
+
+    public void notifyFileReady(final File file) {
+        fileReadyFuture(file).complete(null);
+        synchronized (this) {
+            this.setChanged();
+            this.notifyObservers(file);
+        }
+    }
+
     public void notifyFilesReady() {
-        this.notifyObservers();
+        filesReady.complete(null);
+        for (final CompletableFuture<Void> fileReady : fileReadyFutures.values()) {
+            fileReady.complete(null);
+        }
+        synchronized (this) {
+            this.setChanged();
+            this.notifyObservers();
+        }
+    }
+
+    /**
+     * Notifies that the files not written yet will not be : the observers are notified with null, and the actions
+     * waiting for these files are dropped.
+     */
+    public void notifyFilesFailed(final Throwable cause) {
+        filesReady.completeExceptionally(cause);
+        for (final CompletableFuture<Void> fileReady : fileReadyFutures.values()) {
+            fileReady.completeExceptionally(cause);
+        }
+        synchronized (this) {
+            this.setChanged();
+            this.notifyObservers();
+        }
+    }
+
+    public boolean isFileReady(final File file) {
+        if (filesReady.isDone() && !filesReady.isCompletedExceptionally()) {
+            return true;
+        }
+        final CompletableFuture<Void> fileReady = fileReadyFutures.get(file);
+        return fileReady != null && fileReady.isDone() && !fileReady.isCompletedExceptionally();
+    }
+
+    /**
+     * Runs the action once the file is written : at once if it is already written, else on the thread writing it. The
+     * action is not run if the file can't be written.
+     */
+    public void whenFileReady(final File file, final Runnable action) {
+        final CompletableFuture<Void> fileReady = fileReadyFuture(file);
+        if (filesReady.isDone()) {
+            // all the files were notified before this future was created
+            filesReady.whenComplete((result, throwable) -> {
+                if (throwable == null) {
+                    fileReady.complete(null);
+                } else {
+                    fileReady.completeExceptionally(throwable);
+                }
+            });
+        }
+        fileReady.thenRun(action);
     }
 
 }
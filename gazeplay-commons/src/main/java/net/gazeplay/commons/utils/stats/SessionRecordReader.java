@@ -0,0 +1,203 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a session file written by a {@link SessionRecordWriter}, one record at a time, so that heatmaps, scanpaths and
+ * areas of interest can be computed again from a session of any length.
+ * <p>
+ * A record cut at the end of the file, when the game was interrupted while writing it, ends the reading.
+ *
+ * <pre>{@code
+ * try (SessionRecordReader reader = new SessionRecordReader(file)) {
+ *     while (reader.next()) {
+ *         if (reader.getType() == SessionRecordType.GAZE) {
+ *             heatMap.stamp(reader.getY() / pixelSize, reader.getX() / pixelSize);
+ *         }
+ *     }
+ * }
+ * }</pre>
+ */
+public class SessionRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private boolean endOfFile;
+
+    /**
+     * set when the current record ends with the file
+     */
+    private boolean truncated;
+
+    /**
+     * start time of the session, in milliseconds since the epoch
+     */
+    @Getter
+    private final long startTime;
+
+    @Getter
+    private final int sceneWidth;
+
+    @Getter
+    private final int sceneHeight;
+
+    /**
+     * type of the current record
+     */
+    @Getter
+    private SessionRecordType type;
+
+    /**
+     * time of the current record, in milliseconds since the epoch
+     */
+    @Getter
+    private long time;
+
+    /**
+     * position of the current record, or the last position of its stream for an event
+     */
+    @Getter
+    private int x;
+
+    @Getter
+    private int y;
+
+    private int gazeX;
+
+    private int gazeY;
+
+    private int mouseX;
+
+    private int mouseY;
+
+    public SessionRecordReader(final File file) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        buffer.limit(0);
+        fill();
+        if (buffer.remaining() < SessionRecordWriter.HEADER_SIZE || buffer.getInt() != SessionRecordWriter.MAGIC) {
+            channel.close();
+            throw new IOException("Not a session file : " + file);
+        }
+        final byte version = buffer.get();
+        if (version != SessionRecordWriter.VERSION) {
+            channel.close();
+            throw new IOException("Unsupported session file version " + version + " : " + file);
+        }
+        startTime = buffer.getLong();
+        sceneWidth = buffer.getInt();
+        sceneHeight = buffer.getInt();
+        time = startTime;
+    }
+
+    /**
+     * Reads the buffer until it holds the longest record, or the end of the file.
+     */
+    private void fill() throws IOException {
+        if (endOfFile || buffer.remaining() >= SessionRecordWriter.MAX_RECORD_SIZE) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+                break;
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return false at the end of the file
+     * @throws IOException when the record is not valid
+     */
+    public boolean next() throws IOException {
+        fill();
+        if (!buffer.hasRemaining()) {
+            return false;
+        }
+        final int tag = buffer.get();
+        final SessionRecordType nextType = SessionRecordType.fromTag(tag);
+        if (nextType == null) {
+            throw new IOException("Unknown session record type " + tag);
+        }
+        final long elapsed = getVarLong();
+        int deltaX = 0;
+        int deltaY = 0;
+        if (nextType.isPosition()) {
+            deltaX = getZigZag();
+            deltaY = getZigZag();
+        }
+        if (truncated) {
+            // the last record was not written entirely
+            return false;
+        }
+        if (nextType == SessionRecordType.GAZE) {
+            gazeX += deltaX;
+            gazeY += deltaY;
+            x = gazeX;
+            y = gazeY;
+        } else if (nextType == SessionRecordType.MOUSE) {
+            mouseX += deltaX;
+            mouseY += deltaY;
+            x = mouseX;
+            y = mouseY;
+        }
+        time += elapsed;
+        type = nextType;
+        return true;
+    }
+
+    private long getVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = getByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid session record time");
+    }
+
+    private int getZigZag() throws IOException {
+        int zigZag = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = getByte();
+            zigZag |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IOException("Invalid session record position");
+    }
+
+    /**
+     * @return the next byte, or 0 and {@link #truncated} set at the end of the file
+     */
+    private byte getByte() {
+        if (!buffer.hasRemaining()) {
+            truncated = true;
+            return 0;
+        }
+        return buffer.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
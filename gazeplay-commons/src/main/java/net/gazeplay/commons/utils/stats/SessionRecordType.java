@@ -0,0 +1,46 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Types of the records of a session file : the positions of the gaze and of the mouse, and the events of the game.
+ */
+@RequiredArgsConstructor
+public enum SessionRecordType {
+
+    GAZE(1, true),
+    MOUSE(2, true),
+    GOAL_REACHED(3, false),
+    /**
+     * a goal reached too soon after the previous one to be counted
+     */
+    GOAL_UNCOUNTED(4, false),
+    NEXT_ROUND(5, false);
+
+    private static final SessionRecordType[] byTag = new SessionRecordType[6];
+
+    static {
+        for (final SessionRecordType type : values()) {
+            byTag[type.tag] = type;
+        }
+    }
+
+    @Getter(AccessLevel.PACKAGE)
+    private final int tag;
+
+    /**
+     * true when the record holds a position
+     */
+    @Getter
+    private final boolean position;
+
+    /**
+     * @return the type of the tag, or null when it is unknown
+     */
+    static SessionRecordType fromTag(final int tag) {
+        return tag >= 0 && tag < byTag.length ? byTag[tag] : null;
+    }
+
+}
@@ -0,0 +1,175 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Records the raw gaze and mouse positions of a session, and the events of the game, in an append-only binary file.
+ * <p>
+ * The file starts with a header : the magic number {@code GPSR}, the version of the format, the start time of the
+ * session in milliseconds since the epoch, then the width and the height of the scene. Each record follows as its
+ * type tag, the time elapsed since the previous record as an unsigned varint, and for a position the difference with
+ * the previous position of the same stream, as two zigzag varints. A gaze sample usually takes 4 bytes.
+ * <p>
+ * The records are gathered in a buffer, written to the file when it is full and when the recording is closed. A
+ * failure to write stops the recording, without interrupting the game.
+ */
+@Slf4j
+public class SessionRecordWriter implements Closeable {
+
+    static final int MAGIC = 0x47505352;
+
+    static final byte VERSION = 1;
+
+    static final int HEADER_SIZE = 4 + 1 + 8 + 4 + 4;
+
+    /**
+     * a tag, a time varint and two int varints
+     */
+    static final int MAX_RECORD_SIZE = 1 + 10 + 5 + 5;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private long previousTime;
+
+    private int previousGazeX;
+
+    private int previousGazeY;
+
+    private int previousMouseX;
+
+    private int previousMouseY;
+
+    @Getter
+    private long recordCount;
+
+    private boolean failed;
+
+    public SessionRecordWriter(final File file, final long startTime, final int sceneWidth, final int sceneHeight) throws IOException {
+        this.channel = FileChannel.open(file.toPath(),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.previousTime = startTime;
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putLong(startTime);
+        buffer.putInt(sceneWidth);
+        buffer.putInt(sceneHeight);
+    }
+
+    /**
+     * @param time the time of the sample, in milliseconds since the epoch
+     */
+    public synchronized void recordGaze(final long time, final int x, final int y) {
+        if (startRecord(SessionRecordType.GAZE, time)) {
+            putZigZag(x - previousGazeX);
+            putZigZag(y - previousGazeY);
+            previousGazeX = x;
+            previousGazeY = y;
+        }
+    }
+
+    /**
+     * @param time the time of the sample, in milliseconds since the epoch
+     */
+    public synchronized void recordMouse(final long time, final int x, final int y) {
+        if (startRecord(SessionRecordType.MOUSE, time)) {
+            putZigZag(x - previousMouseX);
+            putZigZag(y - previousMouseY);
+            previousMouseX = x;
+            previousMouseY = y;
+        }
+    }
+
+    /**
+     * @param type an event type, without position
+     * @param time the time of the event, in milliseconds since the epoch
+     */
+    public synchronized void recordEvent(final SessionRecordType type, final long time) {
+        if (type.isPosition()) {
+            throw new IllegalArgumentException("not an event type : " + type);
+        }
+        startRecord(type, time);
+    }
+
+    /**
+     * Writes the tag and the time of a record, making room for the rest of it.
+     *
+     * @return false when the recording has stopped
+     */
+    private boolean startRecord(final SessionRecordType type, final long time) {
+        if (failed) {
+            return false;
+        }
+        if (buffer.remaining() < MAX_RECORD_SIZE) {
+            writeBuffer();
+            if (failed) {
+                return false;
+            }
+        }
+        // the clock may go back, the records stay in order
+        final long elapsed = Math.max(0, time - previousTime);
+        previousTime += elapsed;
+        buffer.put((byte) type.getTag());
+        putVarLong(elapsed);
+        recordCount++;
+        return true;
+    }
+
+    private void putVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private void putZigZag(final int value) {
+        int zigZag = (value << 1) ^ (value >> 31);
+        while ((zigZag & ~0x7F) != 0) {
+            buffer.put((byte) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        buffer.put((byte) zigZag);
+    }
+
+    private void writeBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (final IOException e) {
+            log.error("Failed to write the session record, the recording is stopped", e);
+            failed = true;
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the buffered records to the file.
+     */
+    public synchronized void flush() {
+        if (!failed) {
+            writeBuffer();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        failed = true;
+        channel.close();
+    }
+
+}
@@ -2,7 +2,6 @@ package net.gazeplay.commons.utils.stats;
 
 import javafx.embed.swing.SwingFXUtils;
 import javafx.event.EventHandler;
-import javafx.geometry.Point2D;
 import javafx.scene.Scene;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.MouseEvent;
@@ -30,13 +29,9 @@ import org.monte.screenrecorder.ScreenRecorder;
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.awt.image.BufferedImageOp;
-import java.awt.image.ConvolveOp;
-import java.awt.image.Kernel;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.List;
 import java.util.*;
@@ -64,7 +59,7 @@ public class Stats implements GazeMotionListener {
     private LifeCycle lifeCycle = new LifeCycle();
     private RoundsDurationReport roundsDurationReport = new RoundsDurationReport();
     private int counter = 0;
-    private final List<CoordinatesTracker> movementHistory = new ArrayList<>();
+    private final MovementHistory movementHistory = new MovementHistory();
     private long previousTime = 0;
     private int previousX = 0;
     private int previousY = 0;
@@ -72,7 +67,7 @@ public class Stats implements GazeMotionListener {
     private boolean convexHULL = true;
     private ScreenRecorder screenRecorder;
     private ArrayList<TargetAOI> targetAOIList = null;
-    private double[][] heatMap;
+    private HeatMapAccumulator heatMap;
 
     @Getter
     public int nbGoalsReached = 0;
@@ -94,9 +89,18 @@ public class Stats implements GazeMotionListener {
     @Setter
     private long lastGazeTime;
 
-    @Getter
+    /**
+     * fixation points of the mouse and of the gaze, recorded in primitive buffers while playing
+     */
+    private FixationPointBuffer[] fixationPointBuffers;
+
+    /**
+     * fixation points materialized from the buffers, replaced by the reduced sequences when the stats are saved
+     */
     private ArrayList<LinkedList<FixationPoint>> fixationSequence;
 
+    private int[] materializedFixationPointCounts;
+
     @Getter
     private SavedStatsInfo savedStatsInfo;
 
@@ -113,18 +117,28 @@ public class Stats implements GazeMotionListener {
     //parameters for AOI
     private int movementHistoryidx = 0;
     private final List<AreaOfInterestProps> allAOIList = new ArrayList<>();
-    private List<CoordinatesTracker> areaOfInterestList = new ArrayList<>();
-    @Getter
+    private final List<AreaOfInterestCluster> areaOfInterestClusters = new ArrayList<>();
+    private int openAreaOfInterestFirstIndex;
+    private int openAreaOfInterestSize = 0;
+    private int openAreaOfInterestMinX;
+    private int openAreaOfInterestMaxX;
+    private int openAreaOfInterestMinY;
+    private int openAreaOfInterestMaxY;
+    // areas of interest created when they are displayed
     private final List<List> allAOIListTemp = new ArrayList<>();
-    @Getter
     private final List<int[]> startAndEndIdx = new ArrayList<>();
-    @Getter
     private final List<Polygon> allAOIListPolygon = new ArrayList<>();
-    @Getter
     private final List<Double[]> allAOIListPolygonPt = new ArrayList<>();
     private double highestFixationTime = 0;
-    private final Configuration config = ActiveConfigurationContext.getInstance();
-    private int colorIterator;
+    private StatsRecordingSettings recordingSettings;
+
+    private SessionRecordWriter sessionRecordWriter;
+
+    /**
+     * the raw gaze and mouse positions and the events of the session, null when they are not recorded
+     */
+    @Getter
+    private File sessionRecordFile;
     private final javafx.scene.paint.Color[] colors = new javafx.scene.paint.Color[]{
         javafx.scene.paint.Color.PURPLE,
         javafx.scene.paint.Color.WHITE,
@@ -147,11 +161,11 @@ public class Stats implements GazeMotionListener {
         heatMapPixelSize = computeHeatMapPixelSize(gameContextScene);
     }
 
-    static double[][] instantiateHeatMapData(final Scene gameContextScene, final double heatMapPixelSize) {
+    static HeatMapAccumulator instantiateHeatMapData(final Scene gameContextScene, final double heatMapPixelSize) {
         final int heatMapWidth = (int) (gameContextScene.getHeight() / heatMapPixelSize);
         final int heatMapHeight = (int) (gameContextScene.getWidth() / heatMapPixelSize);
         log.info("heatMapWidth = {}, heatMapHeight = {}", heatMapWidth, heatMapHeight);
-        return new double[heatMapWidth][heatMapHeight];
+        return new HeatMapAccumulator(heatMapWidth, heatMapHeight, trail);
     }
 
     public ArrayList<TargetAOI> getTargetAOIList() {
@@ -176,6 +190,9 @@ public class Stats implements GazeMotionListener {
 
     public void notifyNextRound() {
         final long currentRoundEndTime = System.currentTimeMillis();
+        if (sessionRecordWriter != null) {
+            sessionRecordWriter.recordEvent(SessionRecordType.NEXT_ROUND, currentRoundEndTime);
+        }
         final long currentRoundDuration = currentRoundEndTime - this.currentRoundStartTime;
         this.roundsDurationReport.addRoundDuration(currentRoundDuration);
         currentRoundStartTime = currentRoundEndTime;
@@ -261,192 +278,165 @@ public class Stats implements GazeMotionListener {
     }
 
     private void generateAOIList(final int index) {
-        final double x1 = movementHistory.get(index).getXValue();
-        final double y1 = movementHistory.get(index).getYValue();
-        final double x2 = movementHistory.get(index - 1).getXValue();
-        final double y2 = movementHistory.get(index - 1).getYValue();
+        final double x1 = movementHistory.getXValue(index);
+        final double y1 = movementHistory.getYValue(index);
+        final double x2 = movementHistory.getXValue(index - 1);
+        final double y2 = movementHistory.getYValue(index - 1);
         final double eDistance = Math.sqrt(pow(x2 - x1, 2) + pow(y2 - y1, 2));
-        if (eDistance < 150 && movementHistory.get(index).getIntervalTime() > 10) {
+        if (eDistance < 150 && movementHistory.getIntervalTime(index) > 10) {
             if (index == 1) {
-                areaOfInterestList.add(movementHistory.get(0));
+                addToOpenAreaOfInterest(0);
             }
-            areaOfInterestList.add(movementHistory.get(index));
+            addToOpenAreaOfInterest(index);
         } else {
-            if (areaOfInterestList.size() > 2) {
-
-                allAOIListTemp.add(new ArrayList<>(areaOfInterestList));
-                int[] startEnd = new int[]{index - areaOfInterestList.size(), index};
-                startAndEndIdx.add(startEnd);
-
-                final Point2D[] points = new Point2D[areaOfInterestList.size()];
-
-                for (int i = 0; i < areaOfInterestList.size(); i++) {
-                    CoordinatesTracker coordinate = areaOfInterestList.get(i);
-                    points[i] = new Point2D(coordinate.getXValue(), coordinate.getYValue());
-                }
-
-                final Double[] polygonPoints;
-                if (config.getConvexHullDisabledProperty().getValue()) {
-                    polygonPoints = calculateConvexHull(points);
+            if (openAreaOfInterestSize > 2) {
+                final int startIndex = index - openAreaOfInterestSize;
+                final AreaOfInterestCluster cluster;
+                if (recordingSettings.isConvexHullDisabled()) {
+                    final int[] xs = new int[openAreaOfInterestSize];
+                    final int[] ys = new int[openAreaOfInterestSize];
+                    for (int i = 0; i < openAreaOfInterestSize; i++) {
+                        xs[i] = movementHistory.getXValue(openAreaOfInterestFirstIndex + i);
+                        ys[i] = movementHistory.getYValue(openAreaOfInterestFirstIndex + i);
+                    }
+                    cluster = AreaOfInterestCluster.withConvexHull(openAreaOfInterestFirstIndex, openAreaOfInterestSize,
+                        startIndex, index, index % colors.length, xs, ys);
                 } else {
-                    polygonPoints = calculateRectangle(points);
+                    cluster = AreaOfInterestCluster.withRectangle(openAreaOfInterestFirstIndex, openAreaOfInterestSize,
+                        startIndex, index, index % colors.length,
+                        openAreaOfInterestMinX, openAreaOfInterestMaxX, openAreaOfInterestMinY, openAreaOfInterestMaxY);
                 }
-
-                final Polygon areaOfInterest = new Polygon();
-                areaOfInterest.getPoints().addAll(polygonPoints);
-                allAOIListPolygonPt.add(polygonPoints);
-
-                colorIterator = index % 7;
-                areaOfInterest.setStroke(colors[colorIterator]);
-                allAOIListPolygon.add(areaOfInterest);
+                areaOfInterestClusters.add(cluster);
             } else if (eDistance > 700) {
-                areaOfInterestList.add(movementHistory.get(index));
-                allAOIListTemp.add(new ArrayList<>(areaOfInterestList));
-                int[] startEnd = new int[]{index - areaOfInterestList.size(), index};
-                startAndEndIdx.add(startEnd);
-                final float radius = 15;
-                final Point2D[] points = new Point2D[8];
-
-                for (int i = 0; i < 8; i++) {
-                    CoordinatesTracker coordinate = areaOfInterestList.get(0);
-                    points[i] = new Point2D(coordinate.getXValue() + pow(-1, i) * radius, coordinate.getYValue() + pow(-1, i) * radius);
-                }
-
-                final Double[] polygonPoints;
-                if (config.getConvexHullDisabledProperty().getValue()) {
-                    polygonPoints = calculateConvexHull(points);
+                addToOpenAreaOfInterest(index);
+                final int startIndex = index - openAreaOfInterestSize;
+                // the area is drawn around its first movement
+                final int radius = 15;
+                final int firstX = movementHistory.getXValue(openAreaOfInterestFirstIndex);
+                final int firstY = movementHistory.getYValue(openAreaOfInterestFirstIndex);
+                final AreaOfInterestCluster cluster;
+                if (recordingSettings.isConvexHullDisabled()) {
+                    cluster = AreaOfInterestCluster.withConvexHull(openAreaOfInterestFirstIndex, openAreaOfInterestSize,
+                        startIndex, index, index % colors.length,
+                        new int[]{firstX + radius, firstX - radius}, new int[]{firstY + radius, firstY - radius});
                 } else {
-                    polygonPoints = calculateRectangle(points);
+                    cluster = AreaOfInterestCluster.withRectangle(openAreaOfInterestFirstIndex, openAreaOfInterestSize,
+                        startIndex, index, index % colors.length,
+                        firstX - radius, firstX + radius, firstY - radius, firstY + radius);
                 }
-
-                final Polygon areaOfInterest = new Polygon();
-                areaOfInterest.getPoints().addAll(polygonPoints);
-                allAOIListPolygonPt.add(polygonPoints);
-
-                colorIterator = index % 7;
-                areaOfInterest.setStroke(colors[colorIterator]);
-                allAOIListPolygon.add(areaOfInterest);
+                areaOfInterestClusters.add(cluster);
             }
-            areaOfInterestList = new ArrayList<>();
+            openAreaOfInterestSize = 0;
         }
     }
 
-    static Double[] calculateRectangle(final Point2D[] point2D) {
-        double leftPoint = point2D[0].getX();
-        double rightPoint = point2D[0].getX();
-        double topPoint = point2D[0].getY();
-        double bottomPoint = point2D[0].getY();
-
-        for (int i = 1; i < point2D.length; i++) {
-            if (point2D[i].getX() < leftPoint) {
-                leftPoint = point2D[i].getX();
-            }
-            if (point2D[i].getX() > rightPoint) {
-                rightPoint = point2D[i].getX();
-            }
-            if (point2D[i].getY() > topPoint) {
-                topPoint = point2D[i].getY();
-            }
-            if (point2D[i].getY() < bottomPoint) {
-                bottomPoint = point2D[i].getY();
-            }
-        }
-
-        final Double[] squarePoints = new Double[8];
-        final int bias = 15;
-
-        squarePoints[0] = leftPoint - bias;
-        squarePoints[1] = topPoint + bias;
-        squarePoints[2] = rightPoint + bias;
-        squarePoints[3] = topPoint + bias;
-        squarePoints[4] = rightPoint + bias;
-        squarePoints[5] = bottomPoint - bias;
-        squarePoints[6] = leftPoint - bias;
-        squarePoints[7] = bottomPoint - bias;
-        return squarePoints;
-    }
-
-    static Double[] calculateConvexHull(final Point2D[] points) {
-        final int numberOfPoints = points.length;
-        final ArrayList<Double> convexHullPoints = new ArrayList<>();
-        final Vector<Point2D> hull = new Vector<>();
-
-        // Finding the index of the lowest X value, or left-most point, in all points.
-        int lowestValueIndex = 0;
-        for (int i = 1; i < numberOfPoints; i++) {
-            if (points[i].getX() < points[lowestValueIndex].getX()) {
-                lowestValueIndex = i;
-            }
+    private void addToOpenAreaOfInterest(final int index) {
+        final int x = movementHistory.getXValue(index);
+        final int y = movementHistory.getYValue(index);
+        if (openAreaOfInterestSize == 0) {
+            openAreaOfInterestFirstIndex = index;
+            openAreaOfInterestMinX = x;
+            openAreaOfInterestMaxX = x;
+            openAreaOfInterestMinY = y;
+            openAreaOfInterestMaxY = y;
+        } else {
+            openAreaOfInterestMinX = Math.min(openAreaOfInterestMinX, x);
+            openAreaOfInterestMaxX = Math.max(openAreaOfInterestMaxX, x);
+            openAreaOfInterestMinY = Math.min(openAreaOfInterestMinY, y);
+            openAreaOfInterestMaxY = Math.max(openAreaOfInterestMaxY, y);
         }
+        openAreaOfInterestSize++;
+    }
 
-        int point = lowestValueIndex, q;
-        do {
-            hull.add(points[point]);
-            q = (point + 1) % numberOfPoints;
-            for (int i = 0; i < numberOfPoints; i++) {
-                if (orientation(points[point], points[i], points[q]) < 0) { // Checking if the points are convex.
-                    q = i;
-                }
+    /**
+     * Creates the movements, the outline and the polygon of the areas of interest closed since the last call.
+     */
+    private void materializeAreasOfInterest() {
+        for (int i = allAOIListTemp.size(); i < areaOfInterestClusters.size(); i++) {
+            final AreaOfInterestCluster cluster = areaOfInterestClusters.get(i);
+            allAOIListTemp.add(new ArrayList<>(movementHistory.subList(cluster.getFirstIndex(), cluster.getFirstIndex() + cluster.getSize())));
+            startAndEndIdx.add(new int[]{cluster.getStartIndex(), cluster.getEndIndex()});
+
+            final double[] outline = cluster.getPolygonPoints();
+            final Double[] polygonPoints = new Double[outline.length];
+            for (int j = 0; j < outline.length; j++) {
+                polygonPoints[j] = outline[j];
             }
-            point = q;
-        } while (point != lowestValueIndex);
+            final Polygon areaOfInterest = new Polygon();
+            areaOfInterest.getPoints().addAll(polygonPoints);
+            allAOIListPolygonPt.add(polygonPoints);
 
-        for (final Point2D temp : hull) {
-            convexHullPoints.add(temp.getX());
-            convexHullPoints.add(temp.getY());
+            areaOfInterest.setStroke(colors[cluster.getColorIndex()]);
+            allAOIListPolygon.add(areaOfInterest);
         }
-
-        Double[] hullPointsArray = new Double[convexHullPoints.size()];
-        convexHullPoints.toArray(hullPointsArray);
-
-        return hullPointsArray;
     }
 
-    static int orientation(final Point2D p1, final Point2D p2, final Point2D p3) {
+    public List<List> getAllAOIListTemp() {
+        materializeAreasOfInterest();
+        return allAOIListTemp;
+    }
 
-        final int val = (int) ((p2.getY() - p1.getY()) * (p3.getX() - p2.getX())
-            - (p2.getX() - p1.getX()) * (p3.getY() - p2.getY()));
+    public List<int[]> getStartAndEndIdx() {
+        materializeAreasOfInterest();
+        return startAndEndIdx;
+    }
 
-        if (val == 0) {
-            return 0;
-        }
+    public List<Polygon> getAllAOIListPolygon() {
+        materializeAreasOfInterest();
+        return allAOIListPolygon;
+    }
 
-        return (val > 0) ? 1 : -1;
+    public List<Double[]> getAllAOIListPolygonPt() {
+        materializeAreasOfInterest();
+        return allAOIListPolygonPt;
     }
 
     public void start() {
-        final Configuration config = ActiveConfigurationContext.getInstance();
-        if (config.isVideoRecordingEnabled()) {
+        start(StatsRecordingSettings.of(ActiveConfigurationContext.getInstance()));
+    }
+
+    public void start(final StatsRecordingSettings recordingSettings) {
+        this.recordingSettings = recordingSettings;
+        if (recordingSettings.isVideoRecordingEnabled()) {
             startVideoRecording();
         }
+        final boolean heatMapDisabled = recordingSettings.isHeatMapDisabled();
+        final boolean fixationSequenceDisabled = recordingSettings.isFixationSequenceDisabled();
+        final boolean areaOfInterestDisabled = recordingSettings.isAreaOfInterestDisabled();
         lifeCycle.start(() -> {
-            if (!config.isHeatMapDisabled()) {
+            if (!heatMapDisabled) {
                 heatMap = instantiateHeatMapData(gameContextScene, heatMapPixelSize);
             }
-            if (!config.isFixationSequenceDisabled()) {
-                fixationSequence = new ArrayList<LinkedList<FixationPoint>>(List.of(new LinkedList<FixationPoint>(), new LinkedList<FixationPoint>()));
+            if (!fixationSequenceDisabled) {
+                fixationPointBuffers = new FixationPointBuffer[]{new FixationPointBuffer(), new FixationPointBuffer()};
+                fixationSequence = null;
             }
             startTime = System.currentTimeMillis();
+            if (!recordingSettings.isSessionRecordingDisabled()) {
+                startSessionRecording();
+            }
 
             recordGazeMovements = e -> {
                 if (e.getSource() == gameContextScene.getRoot() && e.getTarget() == gameContextScene.getRoot()) {
                     final int getX = (int) e.getX();
                     final int getY = (int) e.getY();
                     if (getX > 0 && getY > 0) {
-                        if (!config.isHeatMapDisabled()) {
+                        if (sessionRecordWriter != null) {
+                            sessionRecordWriter.recordGaze(System.currentTimeMillis(), getX, getY);
+                        }
+                        if (!heatMapDisabled) {
                             incrementHeatMap(getX, getY);
                         }
-                        if (!config.isFixationSequenceDisabled()) {
-                            incrementFixationSequence(getX, getY, fixationSequence.get(FixationSequence.GAZE_FIXATION_SEQUENCE));
+                        if (!fixationSequenceDisabled) {
+                            incrementFixationSequence(getX, getY, fixationPointBuffers[FixationSequence.GAZE_FIXATION_SEQUENCE]);
                         }
-                        if (config.getAreaOfInterestDisabledProperty().getValue()) {
+                        if (areaOfInterestDisabled) {
                             if (getX != previousX || getY != previousY) {
                                 final long timeToFixation = System.currentTimeMillis() - startTime;
                                 previousX = getX;
                                 previousY = getY;
                                 final long timeInterval = (timeToFixation - previousTime);
-                                movementHistory
-                                    .add(new CoordinatesTracker(getX, getY, timeInterval, System.currentTimeMillis()));
+                                movementHistory.add(getX, getY, timeInterval, System.currentTimeMillis());
                                 movementHistoryidx++;
                                 if (movementHistoryidx > 1) {
                                     generateAOIList(movementHistoryidx - 1);
@@ -462,20 +452,22 @@ public class Stats implements GazeMotionListener {
                 final int getX = (int) e.getSceneX();
                 final int getY = (int) e.getSceneY();
                 if (getX > 0 || getY > 0) {
-                    if (!config.isHeatMapDisabled()) {
+                    if (sessionRecordWriter != null) {
+                        sessionRecordWriter.recordMouse(System.currentTimeMillis(), getX, getY);
+                    }
+                    if (!heatMapDisabled) {
                         incrementHeatMap(getX, getY);
                     }
-                    if (!config.isFixationSequenceDisabled()) {
-                        incrementFixationSequence(getX, getY, fixationSequence.get(FixationSequence.MOUSE_FIXATION_SEQUENCE));
+                    if (!fixationSequenceDisabled) {
+                        incrementFixationSequence(getX, getY, fixationPointBuffers[FixationSequence.MOUSE_FIXATION_SEQUENCE]);
                     }
-                    if (config.getAreaOfInterestDisabledProperty().getValue()) {
+                    if (areaOfInterestDisabled) {
                         if (getX != previousX || getY != previousY && counter == 2) {
                             final long timeElapsedMillis = System.currentTimeMillis() - startTime;
                             previousX = getX;
                             previousY = getY;
                             final long timeInterval = (timeElapsedMillis - previousTime);
-                            movementHistory
-                                .add(new CoordinatesTracker(getX, getY, timeInterval, System.currentTimeMillis()));
+                            movementHistory.add(getX, getY, timeInterval, System.currentTimeMillis());
                             movementHistoryidx++;
                             if (movementHistoryidx > 1) {
                                 generateAOIList(movementHistoryidx - 1);
@@ -510,8 +502,8 @@ public class Stats implements GazeMotionListener {
     }
 
     public void stop() {
-        final Configuration config = ActiveConfigurationContext.getInstance();
-        if (config.isVideoRecordingEnabled()) {
+        // the recording started with the settings of the start of the game
+        if (recordingSettings != null && recordingSettings.isVideoRecordingEnabled()) {
             endVideoRecording();
         }
         lifeCycle.stop(() -> {
@@ -521,6 +513,7 @@ public class Stats implements GazeMotionListener {
             if (recordMouseMovements != null) {
                 gameContextScene.removeEventFilter(MouseEvent.ANY, recordMouseMovements);
             }
+            stopSessionRecording();
         });
     }
 
@@ -529,58 +522,58 @@ public class Stats implements GazeMotionListener {
     public void gazeMoved(final javafx.geometry.Point2D position) {
         final int positionX = (int) position.getX();
         final int positionY = (int) position.getY();
+        if (sessionRecordWriter != null) {
+            sessionRecordWriter.recordGaze(System.currentTimeMillis(), positionX, positionY);
+        }
         incrementHeatMap(positionX, positionY);
-        incrementFixationSequence(positionX, positionY, fixationSequence.get(FixationSequence.GAZE_FIXATION_SEQUENCE));
+        incrementFixationSequence(positionX, positionY, fixationPointBuffers[FixationSequence.GAZE_FIXATION_SEQUENCE]);
     }
 
-    static void saveImageAsPng(final BufferedImage bufferedImage, final File outputFile) {
+    private void startSessionRecording() {
+        // a reset starts a new session
+        stopSessionRecording();
+        sessionRecordFile = new File(getGameStatsOfTheDayDirectory(), DateUtils.dateTimeNow() + "-session.gpsr");
         try {
-            ImageIO.write(bufferedImage, "png", outputFile);
+            sessionRecordWriter = new SessionRecordWriter(sessionRecordFile, startTime,
+                (int) gameContextScene.getWidth(), (int) gameContextScene.getHeight());
         } catch (final IOException e) {
-            throw new RuntimeException(e);
+            log.error("Failed to create the session record file {}", sessionRecordFile, e);
+            sessionRecordFile = null;
         }
     }
 
-    public Graphics initGazeMetricsImage(BufferedImage bImage, BufferedImage screenshotImage) {
-
-        final Graphics graphics = bImage.getGraphics();
-        graphics.setColor(Color.BLACK);
-        graphics.fillRect(0, 0, bImage.getWidth(), bImage.getHeight());
-        graphics.drawImage(screenshotImage, 0, 0, null);
-
-        return graphics;
-    }
-
-    private BufferedImage newBufferImage(BufferedImage screenshotImage) {
-        return new BufferedImage(
-            screenshotImage.getWidth() + (heatMap != null ? screenshotImage.getWidth() / 20 + 10 : 0),
-            screenshotImage.getHeight(), screenshotImage.getType());
+    private void stopSessionRecording() {
+        if (sessionRecordWriter != null) {
+            try {
+                sessionRecordWriter.close();
+                log.info("Session recorded in {} : {} records", sessionRecordFile, sessionRecordWriter.getRecordCount());
+            } catch (final IOException e) {
+                log.error("Failed to close the session record file {}", sessionRecordFile, e);
+            }
+            sessionRecordWriter = null;
+        }
     }
 
-
-    private void addHeatMapToMetrics(HeatMap hm, BufferedImage bImage, Graphics graphics, BufferedImage screenshotImage) {
-        BufferedImage heatmapImage = SwingFXUtils.fromFXImage(hm.getImage(), null);
-        final Kernel kernel = new Kernel(3, 3,
-            new float[]{1 / 16f, 1 / 8f, 1 / 16f, 1 / 8f, 1 / 4f, 1 / 8f, 1 / 16f, 1 / 8f, 1 / 16f});
-        final BufferedImageOp op = new ConvolveOp(kernel);
-        heatmapImage = op.filter(heatmapImage, null);
-
-        final BufferedImage keyMouse = SwingFXUtils.fromFXImage(hm.getColorKey(bImage.getWidth() / 20, bImage.getHeight() / 2),
-            null);
-
-        graphics.drawImage(heatmapImage, 0, 0, screenshotImage.getWidth(), screenshotImage.getHeight(), null);
-        graphics.drawImage(keyMouse, bImage.getWidth() - keyMouse.getWidth(), (bImage.getHeight() - keyMouse.getHeight()) / 2, null);
+    static void saveImageAsPng(final BufferedImage bufferedImage, final File outputFile) {
+        try {
+            ImageIO.write(bufferedImage, "png", outputFile);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 
-    private void addFixationSequence(int fixationSequenceIndex, Graphics gMouseOrGaze, Graphics gMouseAndGaze, BufferedImage screenshotImage) {
-        if (this.fixationSequence.get(fixationSequenceIndex) != null && fixationSequence.get(fixationSequenceIndex).size() > 0) {
-            final FixationSequence scanpath = new FixationSequence((int) gameContextScene.getWidth(),
-                (int) gameContextScene.getHeight(), fixationSequence, fixationSequenceIndex);
-            fixationSequence.set(fixationSequenceIndex, scanpath.getSequence());
-            final BufferedImage seqImage = SwingFXUtils.fromFXImage(scanpath.getImage(), null);
-            gMouseOrGaze.drawImage(seqImage, 0, 0, screenshotImage.getWidth(), screenshotImage.getHeight(), null);
-            gMouseAndGaze.drawImage(seqImage, 0, 0, screenshotImage.getWidth(), screenshotImage.getHeight(), null);
+    /**
+     * @return the reduced fixation sequence, which replaces the recorded one, or null when nothing was recorded
+     */
+    private FixationSequence reduceFixationSequence(final int fixationSequenceIndex) {
+        final ArrayList<LinkedList<FixationPoint>> fixationSequence = getFixationSequence();
+        if (fixationSequence.get(fixationSequenceIndex) == null || fixationSequence.get(fixationSequenceIndex).isEmpty()) {
+            return null;
         }
+        final FixationSequence scanpath = new FixationSequence((int) gameContextScene.getWidth(),
+            (int) gameContextScene.getHeight(), fixationSequence, fixationSequenceIndex);
+        fixationSequence.set(fixationSequenceIndex, scanpath.getSequence());
+        return scanpath;
     }
 
     public SavedStatsInfo saveStats() throws IOException {
@@ -602,39 +595,34 @@ public class Stats implements GazeMotionListener {
         final File screenShotFile = new File(todayDirectory, screenShotFilePrefix + ".png");
         final File colorBandsFile = new File(todayDirectory, colorBandsFilePrefix + "png");
 
-        final BufferedImage screenshotImage = SwingFXUtils.fromFXImage(gameScreenShot, null);
-        saveImageAsPng(screenshotImage, screenShotFile);
-
-        final BufferedImage bImageMouse = newBufferImage(screenshotImage);
-        final BufferedImage bImageGaze = newBufferImage(screenshotImage);
-        final BufferedImage bImageMouseAndGaze = newBufferImage(screenshotImage);
-
-        Graphics gMouse = initGazeMetricsImage(bImageMouse, screenshotImage);
-        Graphics gGaze = initGazeMetricsImage(bImageGaze, screenshotImage);
-        Graphics gMouseAndGaze = initGazeMetricsImage(bImageMouseAndGaze, screenshotImage);
-
         final SavedStatsInfo savedStatsInfo = new SavedStatsInfo(heatMapCsvFile, gazeMetricsFileMouse, gazeMetricsFileGaze, gazeMetricsFileMouseAndGaze, screenShotFile,
             colorBandsFile);
 
         this.savedStatsInfo = savedStatsInfo;
+
+        // only what needs the JavaFX thread, or the state of the session, is done here : the images are composed and
+        // encoded in the background
+        final long captureStart = System.nanoTime();
+        final BufferedImage screenshotImage = SwingFXUtils.fromFXImage(gameScreenShot, null);
+        HeatMap hm = null;
+        BufferedImage heatMapKey = null;
+        double[][] heatMapData = null;
         if (this.heatMap != null) {
-            final HeatMap hm = new HeatMap(heatMap, config.getHeatMapOpacity(), config.getHeatMapColors());
-            addHeatMapToMetrics(hm, bImageMouse, gMouse, screenshotImage);
-            addHeatMapToMetrics(hm, bImageGaze, gGaze, screenshotImage);
-            addHeatMapToMetrics(hm, bImageMouseAndGaze, gMouseAndGaze, screenshotImage);
-            saveHeatMapAsCsv(heatMapCsvFile);
+            heatMapData = heatMap.toArray();
+            hm = new HeatMap(heatMapData, config.getHeatMapOpacity(), config.getHeatMapColors());
+            // the three metrics images have the same size, the heatmap and its key are drawn the same way on each
+            final int metricsWidth = screenshotImage.getWidth() + screenshotImage.getWidth() / 20 + 10;
+            heatMapKey = SwingFXUtils.fromFXImage(hm.getColorKey(metricsWidth / 20, screenshotImage.getHeight() / 2), null);
         }
 
-        if (this.fixationSequence != null) {
-            addFixationSequence(FixationSequence.MOUSE_FIXATION_SEQUENCE, gMouse, gMouseAndGaze, screenshotImage);
-            addFixationSequence(FixationSequence.GAZE_FIXATION_SEQUENCE, gGaze, gMouseAndGaze, screenshotImage);
+        final FixationSequence[] fixationSequences = new FixationSequence[2];
+        if (this.fixationPointBuffers != null) {
+            fixationSequences[FixationSequence.MOUSE_FIXATION_SEQUENCE] = reduceFixationSequence(FixationSequence.MOUSE_FIXATION_SEQUENCE);
+            fixationSequences[FixationSequence.GAZE_FIXATION_SEQUENCE] = reduceFixationSequence(FixationSequence.GAZE_FIXATION_SEQUENCE);
         }
+        log.info("Stats capture done in {} ms", (System.nanoTime() - captureStart) / 1_000_000);
 
-        saveImageAsPng(bImageMouse, gazeMetricsFileMouse);
-        saveImageAsPng(bImageGaze, gazeMetricsFileGaze);
-        saveImageAsPng(bImageMouseAndGaze, gazeMetricsFileMouseAndGaze);
-
-        savedStatsInfo.notifyFilesReady();
+        new StatsExport(savedStatsInfo).start(screenshotImage, hm, heatMapKey, heatMapData, fixationSequences);
         return savedStatsInfo;
     }
 
@@ -681,12 +669,17 @@ public class Stats implements GazeMotionListener {
     public void incrementNumberOfGoalsReached() {
         final long currentRoundEndTime = System.currentTimeMillis();
         final long currentRoundDuration = currentRoundEndTime - currentRoundStartTime;
-        if (currentRoundDuration < accidentalShotPreventionPeriod) {
+        final boolean counted = currentRoundDuration >= accidentalShotPreventionPeriod;
+        if (!counted) {
             nbUnCountedGoalsReached++;
         } else {
             nbGoalsReached++;
             this.roundsDurationReport.addRoundDuration(currentRoundDuration);
         }
+        if (sessionRecordWriter != null) {
+            sessionRecordWriter.recordEvent(counted ? SessionRecordType.GOAL_REACHED : SessionRecordType.GOAL_UNCOUNTED,
+                currentRoundEndTime);
+        }
         currentRoundStartTime = currentRoundEndTime;
         log.debug("The number of goals is " + nbGoalsToReach + "and the number shots is " + nbGoalsReached);
     }
@@ -736,42 +729,45 @@ public class Stats implements GazeMotionListener {
         this.roundsDurationReport.printLengthBetweenGoalsToString(out);
     }
 
-    private void saveHeatMapAsCsv(final File file) throws IOException {
-        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
-            for (final double[] doubles : heatMap) {
-                for (int j = 0; j < heatMap[0].length - 1; j++) {
-                    out.print((int) doubles[j]);
-                    out.print(", ");
-                }
-                out.print((int) doubles[doubles.length - 1]);
-                out.println("");
-            }
+    /**
+     * @return the fixation points of the mouse and of the gaze, created from the recorded buffers when new points were
+     * recorded since the last call
+     */
+    public ArrayList<LinkedList<FixationPoint>> getFixationSequence() {
+        if (fixationPointBuffers == null) {
+            return fixationSequence;
         }
+        final int mouseCount = fixationPointBuffers[FixationSequence.MOUSE_FIXATION_SEQUENCE].size();
+        final int gazeCount = fixationPointBuffers[FixationSequence.GAZE_FIXATION_SEQUENCE].size();
+        if (fixationSequence == null
+            || materializedFixationPointCounts[FixationSequence.MOUSE_FIXATION_SEQUENCE] != mouseCount
+            || materializedFixationPointCounts[FixationSequence.GAZE_FIXATION_SEQUENCE] != gazeCount) {
+            final ArrayList<LinkedList<FixationPoint>> sequences = new ArrayList<>(List.of(new LinkedList<>(), new LinkedList<>()));
+            sequences.set(FixationSequence.MOUSE_FIXATION_SEQUENCE, fixationPointBuffers[FixationSequence.MOUSE_FIXATION_SEQUENCE].toLinkedList());
+            sequences.set(FixationSequence.GAZE_FIXATION_SEQUENCE, fixationPointBuffers[FixationSequence.GAZE_FIXATION_SEQUENCE].toLinkedList());
+            materializedFixationPointCounts = new int[2];
+            materializedFixationPointCounts[FixationSequence.MOUSE_FIXATION_SEQUENCE] = mouseCount;
+            materializedFixationPointCounts[FixationSequence.GAZE_FIXATION_SEQUENCE] = gazeCount;
+            fixationSequence = sequences;
+        }
+        return fixationSequence;
     }
 
-    void incrementFixationSequence(final int x, final int y, LinkedList<FixationPoint> fixationSequence) {
-
-        final long gazeDuration;
-
-        final FixationPoint newGazePoint = new FixationPoint(System.currentTimeMillis(), 0, y, x);
-        if (fixationSequence.size() != 0) {
-            gazeDuration = newGazePoint.getTimeGaze()
-                - (fixationSequence.get(fixationSequence.size() - 1)).getTimeGaze();
-            newGazePoint.setGazeDuration(gazeDuration);
-        }
+    void incrementFixationSequence(final int x, final int y, final FixationPointBuffer fixationPoints) {
+        // x and y are swapped in the fixation points
+        final long timeGaze = System.currentTimeMillis();
+        final int size = fixationPoints.size();
+        final long gazeDuration = size == 0 ? 0 : timeGaze - fixationPoints.getTimeGaze(size - 1);
 
         // if the new points coordinates are the same as last one's in the list then update the last fixationPoint in
         // the list
         // same coordinate points are a result of the eyetracker's frequency of sampling
-        if (fixationSequence.size() > 1
-            && (Math.abs(newGazePoint.getX()
-            - fixationSequence.get(fixationSequence.size() - 1).getX()) <= fixationTrail)
-            && (Math.abs(newGazePoint.getY()
-            - fixationSequence.get(fixationSequence.size() - 1).getY()) <= fixationTrail)) {
-            fixationSequence.get(fixationSequence.size() - 1)
-                .setGazeDuration(newGazePoint.getGazeDuration() + newGazePoint.getGazeDuration());
+        if (size > 1
+            && Math.abs(y - fixationPoints.getX(size - 1)) <= fixationTrail
+            && Math.abs(x - fixationPoints.getY(size - 1)) <= fixationTrail) {
+            fixationPoints.setGazeDuration(size - 1, gazeDuration + gazeDuration);
         } else { // else add the new point in the list
-            fixationSequence.add(newGazePoint);
+            fixationPoints.add(timeGaze, gazeDuration, y, x);
         }
     }
 
@@ -780,18 +776,8 @@ public class Stats implements GazeMotionListener {
         // in heatChart, x and y are opposed
         final int newX = (int) (y / heatMapPixelSize);
         final int newY = (int) (x / heatMapPixelSize);
-        for (int i = -trail; i <= trail; i++) {
-            for (int j = -trail; j <= trail; j++) {
-                if (Math.sqrt(i * i + j * j) < trail) {
-                    increment(newX + i, newY + j);
-                }
-            }
-        }
-    }
-
-    private void increment(final int x, final int y) {
-        if (heatMap != null && x >= 0 && y >= 0 && x < heatMap.length && y < heatMap[0].length) {
-            heatMap[x][y]++;
+        if (heatMap != null) {
+            heatMap.stamp(newX, newY);
         }
     }
 
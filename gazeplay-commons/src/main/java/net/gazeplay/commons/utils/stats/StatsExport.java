@@ -0,0 +1,239 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+import net.gazeplay.commons.utils.FixationSequence;
+import net.gazeplay.commons.utils.HeatMap;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Writes the files of the stats of a session, once the screenshot, the heatmap and the fixation sequences have been
+ * captured on the JavaFX thread.
+ * <p>
+ * The heatmap and fixation sequences images, the composition of the three metrics images and the PNG encoding run on
+ * a bounded pool of background threads, each stage as soon as the stages it needs are done. Each file is announced to
+ * the {@link SavedStatsInfo} as soon as it is written, so that the stats screen can display it without waiting for the
+ * others. When the JVM shuts down, the exports still running are waited for a bounded time, so that quitting just
+ * after a game doesn't leave truncated files.
+ */
+@Slf4j
+class StatsExport {
+
+    static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+    private static final ExecutorService exportExecutorService = createExecutorService();
+
+    /**
+     * exports not completed yet.
+     */
+    private static final Set<CompletableFuture<Void>> pendingExports = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> awaitPendingExports(SHUTDOWN_TIMEOUT_MILLIS),
+            "StatsExport-shutdown"));
+    }
+
+    private final SavedStatsInfo savedStatsInfo;
+
+    private final long startTime = System.nanoTime();
+
+    StatsExport(final SavedStatsInfo savedStatsInfo) {
+        this.savedStatsInfo = savedStatsInfo;
+    }
+
+    private static ExecutorService createExecutorService() {
+        final GroupingThreadFactory threadFactory = new GroupingThreadFactory("StatsExport");
+        // pending exports are waited for by the shutdown hook, the threads must not keep the JVM alive
+        threadFactory.setDaemon(true);
+        final int threadCount = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        return Executors.newFixedThreadPool(threadCount, new CustomThreadFactory("StatsExport", threadFactory));
+    }
+
+    /**
+     * Waits for the exports still running.
+     *
+     * @return true if all the exports are completed, successfully or not
+     */
+    static boolean awaitPendingExports(final long timeoutMillis) {
+        final CompletableFuture<?>[] exports = pendingExports.stream()
+            .map(export -> export.handle((result, throwable) -> null))
+            .toArray(CompletableFuture<?>[]::new);
+        if (exports.length == 0) {
+            return true;
+        }
+        log.info("Waiting for {} stats exports", exports.length);
+        try {
+            CompletableFuture.allOf(exports).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (final ExecutionException | TimeoutException e) {
+            log.warn("Stats exports not completed after {} ms", timeoutMillis);
+            return false;
+        }
+    }
+
+    /**
+     * @param screenshot        the screenshot of the game, taken on the JavaFX thread
+     * @param heatMap           the heatmap of the session, or null when there is none
+     * @param heatMapKey        the color key of the heatmap, rendered on the JavaFX thread, or null when there is no
+     *                          heatmap
+     * @param heatMapData       a copy of the values of the heatmap, or null when there is no heatmap
+     * @param fixationSequences the mouse and gaze fixation sequences, null when there is none
+     * @return the export of all the files, completed once the last file is written
+     */
+    CompletableFuture<Void> start(final BufferedImage screenshot, final HeatMap heatMap, final BufferedImage heatMapKey,
+                                  final double[][] heatMapData, final FixationSequence[] fixationSequences) {
+        final CompletableFuture<Void> screenshotFile = CompletableFuture.runAsync(() -> {
+            writeStage("screenshot encoding", () -> Stats.saveImageAsPng(screenshot, savedStatsInfo.getScreenshotFile()));
+            savedStatsInfo.notifyFileReady(savedStatsInfo.getScreenshotFile());
+        }, exportExecutorService);
+
+        final CompletableFuture<BufferedImage> heatMapImage;
+        final CompletableFuture<Void> heatMapCsvFile;
+        if (heatMap != null) {
+            heatMapImage = supplyStage("heatmap image", heatMap::toBlurredImage);
+            heatMapCsvFile = CompletableFuture.runAsync(() -> {
+                writeStage("heatmap csv", () -> saveHeatMapAsCsv(heatMapData, savedStatsInfo.getHeatMapCsvFile()));
+                savedStatsInfo.notifyFileReady(savedStatsInfo.getHeatMapCsvFile());
+            }, exportExecutorService);
+        } else {
+            heatMapImage = CompletableFuture.completedFuture(null);
+            heatMapCsvFile = CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<BufferedImage> mouseImage = fixationSequenceImage(fixationSequences[FixationSequence.MOUSE_FIXATION_SEQUENCE],
+            "mouse fixation sequence image");
+        final CompletableFuture<BufferedImage> gazeImage = fixationSequenceImage(fixationSequences[FixationSequence.GAZE_FIXATION_SEQUENCE],
+            "gaze fixation sequence image");
+
+        final CompletableFuture<Void> mouseMetricsFile = metricsFile(savedStatsInfo.getGazeMetricsFileMouse(), "mouse metrics",
+            screenshot, heatMapImage, heatMapKey, List.of(mouseImage));
+        final CompletableFuture<Void> gazeMetricsFile = metricsFile(savedStatsInfo.getGazeMetricsFileGaze(), "gaze metrics",
+            screenshot, heatMapImage, heatMapKey, List.of(gazeImage));
+        final CompletableFuture<Void> mouseAndGazeMetricsFile = metricsFile(savedStatsInfo.getGazeMetricsFileMouseAndGaze(),
+            "mouse and gaze metrics", screenshot, heatMapImage, heatMapKey, List.of(mouseImage, gazeImage));
+
+        final CompletableFuture<Void> export = CompletableFuture.allOf(screenshotFile, heatMapCsvFile, mouseMetricsFile,
+            gazeMetricsFile, mouseAndGazeMetricsFile)
+            .whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    log.error("Failed to save stats files", throwable);
+                    savedStatsInfo.notifyFilesFailed(throwable);
+                } else {
+                    log.info("Stats files saved in {} ms", elapsedMillis(startTime));
+                    savedStatsInfo.notifyFilesReady();
+                }
+            });
+        pendingExports.add(export);
+        export.whenComplete((result, throwable) -> pendingExports.remove(export));
+        return export;
+    }
+
+    private CompletableFuture<BufferedImage> fixationSequenceImage(final FixationSequence fixationSequence, final String stage) {
+        if (fixationSequence == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return supplyStage(stage, fixationSequence::getBufferedImage);
+    }
+
+    /**
+     * Composes a metrics image once the images drawn on it are ready, then encodes it.
+     *
+     * @param overlays the fixation sequences images drawn over the heatmap, completed with null when there is none
+     */
+    private CompletableFuture<Void> metricsFile(final File file, final String stage,
+                                                final BufferedImage screenshot,
+                                                final CompletableFuture<BufferedImage> heatMapImage,
+                                                final BufferedImage heatMapKey,
+                                                final List<CompletableFuture<BufferedImage>> overlays) {
+        final CompletableFuture<?>[] inputs = new CompletableFuture<?>[overlays.size() + 1];
+        inputs[0] = heatMapImage;
+        for (int i = 0; i < overlays.size(); i++) {
+            inputs[i + 1] = overlays.get(i);
+        }
+
+        return CompletableFuture.allOf(inputs).thenRunAsync(() -> {
+            final long compositionStart = System.nanoTime();
+            final BufferedImage metricsImage = new BufferedImage(
+                screenshot.getWidth() + (heatMapKey != null ? screenshot.getWidth() / 20 + 10 : 0),
+                screenshot.getHeight(), screenshot.getType());
+            final Graphics graphics = metricsImage.getGraphics();
+            try {
+                graphics.setColor(Color.BLACK);
+                graphics.fillRect(0, 0, metricsImage.getWidth(), metricsImage.getHeight());
+                graphics.drawImage(screenshot, 0, 0, null);
+                if (heatMapKey != null) {
+                    graphics.drawImage(heatMapImage.join(), 0, 0, screenshot.getWidth(), screenshot.getHeight(), null);
+                    graphics.drawImage(heatMapKey, metricsImage.getWidth() - heatMapKey.getWidth(),
+                        (metricsImage.getHeight() - heatMapKey.getHeight()) / 2, null);
+                }
+                for (final CompletableFuture<BufferedImage> overlay : overlays) {
+                    if (overlay.join() != null) {
+                        graphics.drawImage(overlay.join(), 0, 0, screenshot.getWidth(), screenshot.getHeight(), null);
+                    }
+                }
+            } finally {
+                graphics.dispose();
+            }
+            log.debug("Stats export: {} composition in {} ms", stage, elapsedMillis(compositionStart));
+
+            writeStage(stage + " encoding", () -> Stats.saveImageAsPng(metricsImage, file));
+            savedStatsInfo.notifyFileReady(file);
+        }, exportExecutorService);
+    }
+
+    private static <T> CompletableFuture<T> supplyStage(final String stage, final Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            final long stageStart = System.nanoTime();
+            final T result = supplier.get();
+            log.debug("Stats export: {} in {} ms", stage, elapsedMillis(stageStart));
+            return result;
+        }, exportExecutorService);
+    }
+
+    private static void writeStage(final String stage, final Runnable writer) {
+        final long stageStart = System.nanoTime();
+        writer.run();
+        log.debug("Stats export: {} in {} ms", stage, elapsedMillis(stageStart));
+    }
+
+    private static long elapsedMillis(final long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static void saveHeatMapAsCsv(final double[][] heatMapData, final File file) {
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            for (final double[] row : heatMapData) {
+                for (int j = 0; j < row.length - 1; j++) {
+                    out.print((int) row[j]);
+                    out.print(", ");
+                }
+                out.print((int) row[row.length - 1]);
+                out.println("");
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
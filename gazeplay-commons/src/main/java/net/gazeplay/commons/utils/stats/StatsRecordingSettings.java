@@ -0,0 +1,40 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import net.gazeplay.commons.configuration.Configuration;
+
+/**
+ * Settings of the recording of the statistics, read from the configuration once when a game starts so that the
+ * recording handlers, called on every gaze and mouse event, do not look the configuration up.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class StatsRecordingSettings {
+
+    private final boolean videoRecordingEnabled;
+
+    private final boolean heatMapDisabled;
+
+    private final boolean fixationSequenceDisabled;
+
+    private final boolean areaOfInterestDisabled;
+
+    private final boolean convexHullDisabled;
+
+    private final boolean sessionRecordingDisabled;
+
+    public static StatsRecordingSettings of(final Configuration config) {
+        return new StatsRecordingSettings(
+            Boolean.TRUE.equals(config.isVideoRecordingEnabled()),
+            Boolean.TRUE.equals(config.isHeatMapDisabled()),
+            Boolean.TRUE.equals(config.isFixationSequenceDisabled()),
+            Boolean.TRUE.equals(config.isAreaOfInterestDisabled()),
+            Boolean.TRUE.equals(config.isConvexHullDisabled()),
+            Boolean.TRUE.equals(config.isSessionRecordingDisabled())
+        );
+    }
+
+}
@@ -56,6 +56,8 @@ class ConfigurationTest {
 
     @AfterEach
     void reset() {
+        // writes the pending changes, so that they are not written after the file is deleted
+        configuration.flushPendingChanges();
         testProperties.delete();
         Locale.setDefault(original);
     }
@@ -0,0 +1,132 @@
+package net.gazeplay.commons.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigurationWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File configFile;
+
+    private AtomicInteger writeCount;
+
+    private ConfigurationWriter writer;
+
+    @BeforeEach
+    void setup() {
+        configFile = tempDir.resolve("GazePlay.properties").toFile();
+        writeCount = new AtomicInteger();
+        writer = new ConfigurationWriter(configFile, outputStream -> {
+            outputStream.write(("WRITE=" + writeCount.incrementAndGet()).getBytes(StandardCharsets.UTF_8));
+        }, 50);
+    }
+
+    @Test
+    void shouldCoalesceBurstOfChanges() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            writer.requestSave();
+        }
+        assertTrue(writer.isDirty());
+        assertFalse(configFile.exists());
+
+        waitUntilWritten();
+
+        assertEquals(1, writeCount.get());
+        assertEquals("WRITE=1", read(configFile));
+    }
+
+    @Test
+    void shouldWriteAgainAfterNewChange() throws InterruptedException {
+        writer.requestSave();
+        waitUntilWritten();
+
+        writer.requestSave();
+        waitUntilWritten();
+
+        assertEquals(2, writeCount.get());
+        assertEquals("WRITE=2", read(configFile));
+    }
+
+    @Test
+    void shouldWritePendingChangesOnFlush() {
+        writer.requestSave();
+
+        writer.flush();
+
+        assertFalse(writer.isDirty());
+        assertEquals("WRITE=1", read(configFile));
+    }
+
+    @Test
+    void shouldNotWriteWithoutChanges() {
+        writer.flush();
+
+        assertEquals(0, writeCount.get());
+        assertFalse(configFile.exists());
+    }
+
+    @Test
+    void shouldSaveImmediatelyAndDropPendingWrite() throws IOException, InterruptedException {
+        writer.requestSave();
+
+        writer.save();
+        Thread.sleep(200);
+
+        assertEquals(1, writeCount.get());
+    }
+
+    @Test
+    void shouldReplaceFileWithoutLeavingTemporaryFiles() throws IOException {
+        Files.writeString(configFile.toPath(), "OLD=true");
+
+        writer.save();
+
+        assertEquals("WRITE=1", read(configFile));
+        assertArrayEquals(new String[]{configFile.getName()}, tempDir.toFile().list());
+    }
+
+    @Test
+    void shouldKeepPreviousFileWhenWriteFails() throws IOException {
+        Files.writeString(configFile.toPath(), "OLD=true");
+        final ConfigurationWriter failingWriter = new ConfigurationWriter(configFile, outputStream -> {
+            outputStream.write("PARTIAL".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        });
+
+        assertThrows(IOException.class, failingWriter::save);
+
+        assertEquals("OLD=true", read(configFile));
+        assertArrayEquals(new String[]{configFile.getName()}, tempDir.toFile().list());
+    }
+
+    private void waitUntilWritten() throws InterruptedException {
+        final long timeout = System.currentTimeMillis() + 5000;
+        while (writer.isDirty() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertFalse(writer.isDirty());
+        // the flag is cleared before the file is written, waits for the end of the write in progress
+        writer.flush();
+    }
+
+    private static String read(final File file) {
+        try {
+            return Files.readString(file.toPath());
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package net.gazeplay.commons.configuration.observableproperties;
+
+import net.gazeplay.commons.configuration.ApplicationConfig;
+import net.gazeplay.commons.configuration.BackgroundStyle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.beans.PropertyChangeListener;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ApplicationConfigBackedPropertiesTest {
+
+    @Mock
+    private ApplicationConfig mockApplicationConfig;
+
+    @Mock
+    private PropertyChangeListener mockListener;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    void shouldParseValueOnlyOnce() {
+        when(mockApplicationConfig.getProperty("OPACITY")).thenReturn("0.5");
+        final ApplicationConfigBackedDoubleProperty property = new ApplicationConfigBackedDoubleProperty(mockApplicationConfig, "OPACITY", 0.7, mockListener);
+
+        assertEquals(0.5, property.get());
+        assertEquals(0.5, property.get());
+        assertEquals(0.5, property.getValue());
+
+        verify(mockApplicationConfig, times(1)).getProperty("OPACITY");
+    }
+
+    @Test
+    void shouldReturnDefaultValueWhenMissing() {
+        final ApplicationConfigBackedBooleanProperty property = new ApplicationConfigBackedBooleanProperty(mockApplicationConfig, "DISABLED", true, mockListener);
+
+        assertTrue(property.get());
+        assertTrue(property.get());
+
+        verify(mockApplicationConfig, times(1)).getProperty("DISABLED");
+    }
+
+    @Test
+    void shouldReadNewValueAfterChange() {
+        when(mockApplicationConfig.getProperty("LENGTH")).thenReturn("500");
+        final ApplicationConfigBackedIntegerProperty property = new ApplicationConfigBackedIntegerProperty(mockApplicationConfig, "LENGTH", 900, mockListener);
+        assertEquals(500, property.get());
+
+        when(mockApplicationConfig.getProperty("LENGTH")).thenReturn("1200");
+        property.set(1200);
+
+        assertEquals(1200, property.get());
+        verify(mockApplicationConfig).setProperty("LENGTH", "1200");
+        verify(mockListener).propertyChange(any());
+    }
+
+    @Test
+    void shouldNotKeepAValueReadDuringAChange() throws InterruptedException {
+        final ApplicationConfigBackedDoubleProperty property = new ApplicationConfigBackedDoubleProperty(mockApplicationConfig, "OPACITY", 0.7, mockListener);
+        final AtomicReference<String> storedValue = new AtomicReference<>("0.5");
+        doAnswer(invocation -> {
+            storedValue.set(invocation.getArgument(1));
+            return null;
+        }).when(mockApplicationConfig).setProperty(eq("OPACITY"), anyString());
+        final Thread writer = new Thread(() -> property.set(0.9));
+        when(mockApplicationConfig.getProperty("OPACITY")).thenAnswer(invocation -> {
+            final String previousValue = storedValue.get();
+            if (!writer.isAlive() && previousValue.equals("0.5")) {
+                // the value changes while the previous one is being parsed
+                writer.start();
+                writer.join();
+            }
+            return previousValue;
+        });
+
+        assertEquals(0.5, property.get());
+
+        assertEquals(0.9, property.get());
+    }
+
+    @Test
+    void shouldCacheUnmarshalledObjects() {
+        when(mockApplicationConfig.getProperty("STYLE")).thenReturn("LIGHT");
+        final ApplicationConfigBackedObjectProperty<BackgroundStyle> property = new ApplicationConfigBackedObjectProperty<>(mockApplicationConfig, "STYLE", BackgroundStyle.DARK, mockListener,
+            new EnumMarshaller<>(), new EnumUnmarshaller<>(BackgroundStyle.class));
+
+        assertEquals(BackgroundStyle.LIGHT, property.get());
+        assertEquals(BackgroundStyle.LIGHT, property.get());
+
+        verify(mockApplicationConfig, times(1)).getProperty("STYLE");
+    }
+
+}
@@ -0,0 +1,164 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.event.EventType;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(ApplicationExtension.class)
+class AbstractGazeDeviceManagerTest {
+
+    private final List<EventType<? extends GazeEvent>> receivedEvents = new CopyOnWriteArrayList<>();
+
+    private AbstractGazeDeviceManager gazeDeviceManager;
+
+    private Rectangle target;
+
+    private Scene scene;
+
+    @Start
+    void start(Stage stage) {
+        gazeDeviceManager = new AbstractGazeDeviceManager() {
+            @Override
+            public void init(Supplier<Dimension2D> currentScreenDimensionSupplier, Supplier<Point2D> currentScreenPositionSupplier) {
+            }
+
+            @Override
+            public void destroy() {
+            }
+        };
+
+        target = new Rectangle(100, 100, 50, 50);
+        target.addEventFilter(GazeEvent.ANY, e -> receivedEvents.add(e.getEventType()));
+
+        final Pane root = new Pane(target);
+        scene = new Scene(root, 400, 400);
+        stage.setScene(scene);
+        stage.setX(0);
+        stage.setY(0);
+        stage.show();
+
+        gazeDeviceManager.setGameSceneRoot(root);
+        gazeDeviceManager.addEventFilter(target);
+    }
+
+    @Test
+    void shouldFireEnteredMovedAndExitedEvents() {
+        WaitForAsyncUtils.waitForFxEvents();
+
+        gazeDeviceManager.onGazeUpdate(onScreen(120, 120));
+        gazeDeviceManager.onGazeUpdate(onScreen(130, 130));
+        gazeDeviceManager.onGazeUpdate(onScreen(300, 300));
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals(List.of(GazeEvent.GAZE_ENTERED, GazeEvent.GAZE_MOVED, GazeEvent.GAZE_EXITED), receivedEvents);
+    }
+
+    @Test
+    void shouldFollowMovedTargets() {
+        WaitForAsyncUtils.waitForFxEvents();
+
+        gazeDeviceManager.onGazeUpdate(onScreen(320, 320));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertTrue(receivedEvents.isEmpty());
+
+        WaitForAsyncUtils.asyncFx(() -> target.setTranslateX(200));
+        WaitForAsyncUtils.waitForFxEvents();
+        gazeDeviceManager.onGazeUpdate(onScreen(320, 120));
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals(List.of(GazeEvent.GAZE_ENTERED), receivedEvents);
+    }
+
+    @Test
+    void shouldFollowTheWindow() {
+        WaitForAsyncUtils.waitForFxEvents();
+
+        WaitForAsyncUtils.asyncFx(() -> scene.getWindow().setX(150));
+        WaitForAsyncUtils.waitForFxEvents();
+        gazeDeviceManager.onGazeUpdate(new Point2D(120, 120 + scene.getWindow().getY() + scene.getY()));
+        gazeDeviceManager.onGazeUpdate(onScreen(120, 120));
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals(List.of(GazeEvent.GAZE_ENTERED), receivedEvents);
+    }
+
+    @Test
+    void shouldNotFireEventsOnDisabledTargets() {
+        WaitForAsyncUtils.waitForFxEvents();
+
+        WaitForAsyncUtils.asyncFx(() -> target.setDisable(true));
+        WaitForAsyncUtils.waitForFxEvents();
+        gazeDeviceManager.onGazeUpdate(onScreen(120, 120));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertTrue(receivedEvents.isEmpty());
+
+        WaitForAsyncUtils.asyncFx(() -> target.setDisable(false));
+        WaitForAsyncUtils.waitForFxEvents();
+        gazeDeviceManager.onGazeUpdate(onScreen(120, 120));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(List.of(GazeEvent.GAZE_ENTERED), receivedEvents);
+    }
+
+    @Test
+    void shouldNotFireEventsOnRemovedTargets() {
+        WaitForAsyncUtils.waitForFxEvents();
+
+        WaitForAsyncUtils.asyncFx(() -> gazeDeviceManager.removeEventFilter(target));
+        WaitForAsyncUtils.waitForFxEvents();
+        gazeDeviceManager.onGazeUpdate(onScreen(120, 120));
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertTrue(receivedEvents.isEmpty());
+    }
+
+    @Test
+    void shouldAcceptRegistrationsFromAnyThread() {
+        WaitForAsyncUtils.waitForFxEvents();
+
+        gazeDeviceManager.removeEventFilter(target);
+        WaitForAsyncUtils.waitForFxEvents();
+        gazeDeviceManager.onGazeUpdate(onScreen(120, 120));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertTrue(receivedEvents.isEmpty());
+
+        gazeDeviceManager.addEventFilter(target);
+        WaitForAsyncUtils.waitForFxEvents();
+        gazeDeviceManager.onGazeUpdate(onScreen(120, 120));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(List.of(GazeEvent.GAZE_ENTERED), receivedEvents);
+    }
+
+    @Test
+    void shouldFireExitedEventWhenTargetUnderGazeIsRemoved() {
+        WaitForAsyncUtils.waitForFxEvents();
+
+        gazeDeviceManager.onGazeUpdate(onScreen(120, 120));
+        gazeDeviceManager.removeEventFilter(target);
+        WaitForAsyncUtils.waitForFxEvents();
+        gazeDeviceManager.onGazeUpdate(onScreen(120, 120));
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals(List.of(GazeEvent.GAZE_ENTERED, GazeEvent.GAZE_EXITED), receivedEvents);
+    }
+
+    private Point2D onScreen(double sceneX, double sceneY) {
+        return new Point2D(scene.getWindow().getX() + scene.getX() + sceneX, scene.getWindow().getY() + scene.getY() + sceneY);
+    }
+
+}
@@ -0,0 +1,65 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixationGazeFilterTest {
+
+    private static final long PERIOD_NANOS = 10_000_000L;
+
+    private FixationGazeFilter filter;
+
+    @BeforeEach
+    void setup() {
+        filter = new FixationGazeFilter(1000);
+    }
+
+    @Test
+    void shouldReturnCentroidOfFixation() {
+        filter.update(100, 100, 0);
+        filter.update(102, 98, PERIOD_NANOS);
+        filter.update(98, 102, 2 * PERIOD_NANOS);
+
+        assertTrue(filter.isFixation());
+        assertEquals(100, filter.getX(), 1e-9);
+        assertEquals(100, filter.getY(), 1e-9);
+    }
+
+    @Test
+    void shouldPassSaccadesThrough() {
+        filter.update(100, 100, 0);
+        filter.update(102, 98, PERIOD_NANOS);
+        // 800 pixels in 10 ms
+        filter.update(900, 100, 2 * PERIOD_NANOS);
+
+        assertFalse(filter.isFixation());
+        assertEquals(900, filter.getX());
+        assertEquals(100, filter.getY());
+    }
+
+    @Test
+    void shouldStartNewFixationAfterSaccade() {
+        filter.update(100, 100, 0);
+        filter.update(900, 100, PERIOD_NANOS);
+        filter.update(904, 104, 2 * PERIOD_NANOS);
+
+        assertTrue(filter.isFixation());
+        assertEquals(902, filter.getX(), 1e-9);
+        assertEquals(102, filter.getY(), 1e-9);
+    }
+
+    @Test
+    void shouldForgetFixationAfterReset() {
+        filter.update(100, 100, 0);
+        filter.update(101, 101, PERIOD_NANOS);
+
+        filter.reset();
+        filter.update(500, 500, 2 * PERIOD_NANOS);
+
+        assertFalse(filter.isFixation());
+        assertEquals(500, filter.getX());
+    }
+
+}
@@ -0,0 +1,71 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GazeSamplingMetricsTest {
+
+    private GazeSamplingMetrics metrics;
+
+    @BeforeEach
+    void setup() {
+        metrics = new GazeSamplingMetrics();
+    }
+
+    @Test
+    void shouldComputeAchievedRate() {
+        final long start = 5_000_000_000L;
+        for (int i = 0; i <= 120; i++) {
+            metrics.recordSample(start + i * TimeUnit.SECONDS.toNanos(1) / 120);
+        }
+
+        assertEquals(121, metrics.getSampleCount());
+        assertEquals(120, metrics.getAchievedRate(), 0.01);
+    }
+
+    @Test
+    void shouldHaveNoRateWithoutEnoughSamples() {
+        assertEquals(0, metrics.getAchievedRate());
+        metrics.recordSample(1);
+        assertEquals(0, metrics.getAchievedRate());
+    }
+
+    @Test
+    void shouldComputeDuplicateRatio() {
+        for (int i = 1; i <= 4; i++) {
+            metrics.recordSample(i);
+        }
+        metrics.recordDuplicate();
+
+        assertEquals(0.25, metrics.getDuplicateRatio());
+    }
+
+    @Test
+    void shouldComputeLatencies() {
+        metrics.recordLatency(TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.recordLatency(TimeUnit.MILLISECONDS.toNanos(6));
+
+        assertEquals(4, metrics.getAverageLatencyMillis(), 0.001);
+        assertEquals(6, metrics.getMaxLatencyMillis(), 0.001);
+    }
+
+    @Test
+    void shouldReset() {
+        metrics.recordSample(1);
+        metrics.recordSample(2);
+        metrics.recordDuplicate();
+        metrics.recordLatency(10);
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getSampleCount());
+        assertEquals(0, metrics.getDuplicateRatio());
+        assertEquals(0, metrics.getAverageLatencyMillis());
+        assertEquals(0, metrics.getMaxLatencyMillis());
+    }
+
+}
@@ -0,0 +1,107 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GazeSamplingSchedulerTest {
+
+    private static final long PERIOD_AT_100_HZ = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private AtomicLong clock;
+
+    private GazeSamplingScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        clock = new AtomicLong(1_000_000_000L);
+        scheduler = new GazeSamplingScheduler(100, clock::get);
+    }
+
+    @Test
+    void shouldComputePeriodFromTargetRate() {
+        assertEquals(PERIOD_AT_100_HZ, scheduler.getBasePeriodNanos());
+        assertEquals(PERIOD_AT_100_HZ, scheduler.getCurrentPeriodNanos());
+    }
+
+    @Test
+    void shouldClampTargetRate() {
+        assertEquals(TimeUnit.SECONDS.toNanos(1), new GazeSamplingScheduler(0, clock::get).getBasePeriodNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1), new GazeSamplingScheduler(100_000, clock::get).getBasePeriodNanos());
+    }
+
+    @Test
+    void shouldKeepAbsoluteDeadlinesWhenProcessingTakesTime() {
+        final long start = clock.get();
+        assertEquals(start + PERIOD_AT_100_HZ, scheduler.nextDeadline());
+
+        // the processing of the sample took 4 ms, the next deadline must not drift
+        clock.set(start + PERIOD_AT_100_HZ + TimeUnit.MILLISECONDS.toNanos(4));
+        assertEquals(start + 2 * PERIOD_AT_100_HZ, scheduler.nextDeadline());
+    }
+
+    @Test
+    void shouldNotBurstAfterALatePoll() {
+        final long start = clock.get();
+        scheduler.nextDeadline();
+
+        clock.set(start + 10 * PERIOD_AT_100_HZ);
+        assertEquals(clock.get() + PERIOD_AT_100_HZ, scheduler.nextDeadline());
+    }
+
+    @Test
+    void shouldTolerateIsolatedDuplicates() {
+        scheduler.onSample(true);
+        scheduler.onSample(true);
+        scheduler.onSample(false);
+        scheduler.onSample(true);
+
+        assertEquals(PERIOD_AT_100_HZ, scheduler.getCurrentPeriodNanos());
+    }
+
+    @Test
+    void shouldBackOffOnConsecutiveDuplicates() {
+        for (int i = 0; i < GazeSamplingScheduler.DUPLICATES_BEFORE_BACK_OFF; i++) {
+            scheduler.onSample(true);
+        }
+        assertEquals(2 * PERIOD_AT_100_HZ, scheduler.getCurrentPeriodNanos());
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.onSample(true);
+        }
+        assertEquals(GazeSamplingScheduler.MAX_PERIOD_NANOS, scheduler.getCurrentPeriodNanos());
+    }
+
+    @Test
+    void shouldResetPeriodOnFreshSample() {
+        for (int i = 0; i < 10; i++) {
+            scheduler.onSample(true);
+        }
+        scheduler.onSample(false);
+
+        assertEquals(PERIOD_AT_100_HZ, scheduler.getCurrentPeriodNanos());
+    }
+
+    @Test
+    void shouldWaitUntilNextDeadline() throws InterruptedException {
+        final GazeSamplingScheduler realTimeScheduler = new GazeSamplingScheduler(200);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            realTimeScheduler.awaitNextSample();
+        }
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(45));
+    }
+
+    @Test
+    void shouldStopWaitingWhenInterrupted() {
+        final GazeSamplingScheduler slowScheduler = new GazeSamplingScheduler(GazeSamplingScheduler.MIN_RATE);
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, slowScheduler::awaitNextSample);
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+}
@@ -0,0 +1,109 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.BoundingBox;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+class GazeTargetIndexTest {
+
+    private GazeTargetIndex index;
+
+    private List<GazeInfos> result;
+
+    @BeforeEach
+    void setup() {
+        index = new GazeTargetIndex();
+        result = new ArrayList<>();
+    }
+
+    @Test
+    void shouldFindTargetContainingPoint() {
+        final GazeInfos target = new GazeInfos(new Rectangle());
+        index.insert(target, new BoundingBox(100, 100, 50, 50));
+
+        index.collectCandidates(120, 130, result);
+
+        assertEquals(List.of(target), result);
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldNotFindTargetOutsideOfItsBounds() {
+        final GazeInfos target = new GazeInfos(new Rectangle());
+        index.insert(target, new BoundingBox(100, 100, 50, 50));
+
+        index.collectCandidates(99, 130, result);
+        index.collectCandidates(120, 151, result);
+        index.collectCandidates(100 + 1024 * GazeTargetIndex.CELL_SIZE, 130, result);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void shouldFindTargetSpanningSeveralCells() {
+        final GazeInfos target = new GazeInfos(new Rectangle());
+        index.insert(target, new BoundingBox(10, 10, 5 * GazeTargetIndex.CELL_SIZE, 3 * GazeTargetIndex.CELL_SIZE));
+
+        index.collectCandidates(10, 10, result);
+        index.collectCandidates(4 * GazeTargetIndex.CELL_SIZE, 2 * GazeTargetIndex.CELL_SIZE, result);
+
+        assertEquals(List.of(target, target), result);
+    }
+
+    @Test
+    void shouldFindOversizedTargets() {
+        final GazeInfos background = new GazeInfos(new Rectangle());
+        index.insert(background, new BoundingBox(-10, -10, 100000, 100000));
+
+        index.collectCandidates(5000, 7000, result);
+
+        assertEquals(List.of(background), result);
+        assertTrue(background.isOversized());
+    }
+
+    @Test
+    void shouldMoveTargetWhenReinserted() {
+        final GazeInfos target = new GazeInfos(new Rectangle());
+        index.insert(target, new BoundingBox(0, 0, 10, 10));
+        index.insert(target, new BoundingBox(500, 500, 10, 10));
+
+        index.collectCandidates(5, 5, result);
+        assertTrue(result.isEmpty());
+
+        index.collectCandidates(505, 505, result);
+        assertEquals(List.of(target), result);
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldForgetRemovedTargets() {
+        final GazeInfos target = new GazeInfos(new Rectangle());
+        index.insert(target, new BoundingBox(0, 0, 10, 10));
+        index.remove(target);
+
+        index.collectCandidates(5, 5, result);
+
+        assertTrue(result.isEmpty());
+        assertTrue(index.isEmpty());
+        assertFalse(target.isIndexed());
+    }
+
+    @Test
+    void shouldNotIndexEmptyBounds() {
+        final GazeInfos target = new GazeInfos(new Rectangle());
+        index.insert(target, new BoundingBox(0, 0, -1, -1));
+
+        assertTrue(index.isEmpty());
+        assertFalse(target.isIndexed());
+    }
+
+}
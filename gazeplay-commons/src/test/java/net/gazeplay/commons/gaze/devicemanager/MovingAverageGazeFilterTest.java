@@ -0,0 +1,52 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MovingAverageGazeFilterTest {
+
+    @Test
+    void shouldAverageAvailableSamplesBeforeWindowIsFull() {
+        final MovingAverageGazeFilter filter = new MovingAverageGazeFilter(4);
+
+        filter.update(10, 100, 0);
+        assertEquals(10, filter.getX());
+        assertEquals(100, filter.getY());
+
+        filter.update(20, 200, 1);
+        assertEquals(15, filter.getX());
+        assertEquals(150, filter.getY());
+    }
+
+    @Test
+    void shouldForgetSamplesOutsideOfWindow() {
+        final MovingAverageGazeFilter filter = new MovingAverageGazeFilter(3);
+
+        for (int i = 1; i <= 10; i++) {
+            filter.update(i, -i, i);
+        }
+
+        assertEquals(9, filter.getX(), 1e-9);
+        assertEquals(-9, filter.getY(), 1e-9);
+    }
+
+    @Test
+    void shouldStartOverAfterReset() {
+        final MovingAverageGazeFilter filter = new MovingAverageGazeFilter(3);
+        filter.update(100, 100, 0);
+
+        filter.reset();
+        filter.update(10, 20, 1);
+
+        assertEquals(10, filter.getX());
+        assertEquals(20, filter.getY());
+    }
+
+    @Test
+    void shouldRejectEmptyWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new MovingAverageGazeFilter(0));
+    }
+
+}
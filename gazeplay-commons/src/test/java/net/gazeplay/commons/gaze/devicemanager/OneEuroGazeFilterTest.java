@@ -0,0 +1,65 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OneEuroGazeFilterTest {
+
+    private static final long PERIOD_NANOS = 1_000_000_000L / 120;
+
+    private OneEuroGazeFilter filter;
+
+    @BeforeEach
+    void setup() {
+        filter = new OneEuroGazeFilter(1.0, 0.01, 1.0);
+    }
+
+    @Test
+    void shouldPassFirstSampleThrough() {
+        filter.update(300, 400, 0);
+
+        assertEquals(300, filter.getX());
+        assertEquals(400, filter.getY());
+    }
+
+    @Test
+    void shouldReduceJitterOfAFixation() {
+        double maxDeviation = 0;
+        for (int i = 0; i < 240; i++) {
+            final double noise = (i % 2 == 0) ? 10 : -10;
+            filter.update(500 + noise, 500 - noise, i * PERIOD_NANOS);
+            if (i > 10) {
+                maxDeviation = Math.max(maxDeviation, Math.abs(filter.getX() - 500));
+            }
+        }
+
+        assertTrue(maxDeviation < 2, "deviation of " + maxDeviation);
+    }
+
+    @Test
+    void shouldFollowASaccadeQuickly() {
+        for (int i = 0; i < 120; i++) {
+            filter.update(100, 100, i * PERIOD_NANOS);
+        }
+        for (int i = 120; i < 132; i++) {
+            filter.update(1500, 100, i * PERIOD_NANOS);
+        }
+
+        // after 100 ms the filtered position has covered most of the saccade
+        assertTrue(filter.getX() > 1300, "x is " + filter.getX());
+        assertEquals(100, filter.getY(), 1e-9);
+    }
+
+    @Test
+    void shouldNotFailOnSamplesWithSameTimestamp() {
+        filter.update(100, 100, 0);
+        filter.update(200, 200, 0);
+
+        assertTrue(Double.isFinite(filter.getX()));
+        assertTrue(filter.getX() > 100 && filter.getX() <= 200);
+    }
+
+}
@@ -0,0 +1,195 @@
+package net.gazeplay.commons.soundsmanager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundEffectEngineTest {
+
+    private final List<FakePlayer> createdPlayers = new ArrayList<>();
+
+    private SoundEffectEngine engine;
+
+    private static class FakePlayer implements SoundEffectPlayer {
+
+        private final String resource;
+
+        private int playCount = 0;
+
+        private boolean playing = false;
+
+        private boolean disposed = false;
+
+        private Runnable onPlaying;
+
+        private Runnable onFinished;
+
+        FakePlayer(final String resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public void play() {
+            playCount++;
+            playing = true;
+        }
+
+        @Override
+        public void stop() {
+            playing = false;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public void setOnPlaying(final Runnable onPlaying) {
+            this.onPlaying = onPlaying;
+        }
+
+        @Override
+        public void setOnFinished(final Runnable onFinished) {
+            this.onFinished = onFinished;
+        }
+
+        void finish() {
+            playing = false;
+            onFinished.run();
+        }
+
+    }
+
+    @BeforeEach
+    void setUp() {
+        engine = new SoundEffectEngine(2, resource -> {
+            final FakePlayer player = new FakePlayer(resource);
+            createdPlayers.add(player);
+            return player;
+        });
+    }
+
+    @Test
+    void shouldReusePlayerOfFinishedEffect() {
+        engine.play("blop.mp3");
+        createdPlayers.get(0).finish();
+        engine.play("blop.mp3");
+
+        assertEquals(1, createdPlayers.size());
+        assertEquals(2, createdPlayers.get(0).playCount);
+        assertEquals(1, engine.getActiveVoiceCount());
+    }
+
+    @Test
+    void shouldPlaySameEffectOnSeveralVoices() {
+        engine.play("blop.mp3");
+        engine.play("blop.mp3");
+
+        assertEquals(2, createdPlayers.size());
+        assertEquals(2, engine.getActiveVoiceCount());
+    }
+
+    @Test
+    void shouldStealOldestVoiceWhenAllVoicesArePlaying() {
+        engine.play("first.mp3");
+        engine.play("second.mp3");
+        engine.play("third.mp3");
+
+        assertFalse(createdPlayers.get(0).playing);
+        assertTrue(createdPlayers.get(1).playing);
+        assertTrue(createdPlayers.get(2).playing);
+        assertEquals(2, engine.getActiveVoiceCount());
+        assertEquals(1, engine.getMetrics().getStolenVoiceCount());
+        assertEquals(3, engine.getMetrics().getPlayCount());
+        assertEquals(2, engine.getMetrics().getPeakActiveVoices());
+    }
+
+    @Test
+    void shouldPreloadEffects() {
+        engine.preload("blop.mp3", "bang.mp3");
+        engine.play("blop.mp3");
+
+        assertEquals(2, createdPlayers.size());
+        assertEquals("blop.mp3", createdPlayers.get(0).resource);
+        assertEquals(1, createdPlayers.get(0).playCount);
+    }
+
+    @Test
+    void shouldRecordLatencyWhenEffectIsHeard() throws InterruptedException {
+        engine.play("blop.mp3");
+        Thread.sleep(5);
+        createdPlayers.get(0).onPlaying.run();
+        createdPlayers.get(0).onPlaying.run();
+
+        assertTrue(engine.getMetrics().getAverageLatencyMillis() >= 5);
+        assertEquals(engine.getMetrics().getAverageLatencyMillis(), engine.getMetrics().getMaxLatencyMillis());
+    }
+
+    @Test
+    void shouldStopLastEffect() {
+        engine.play("first.mp3");
+        engine.play("second.mp3");
+
+        engine.stopLast();
+
+        assertTrue(createdPlayers.get(0).playing);
+        assertFalse(createdPlayers.get(1).playing);
+        assertEquals(1, engine.getActiveVoiceCount());
+    }
+
+    @Test
+    void shouldDisposeAllPlayers() {
+        engine.play("first.mp3");
+        engine.play("second.mp3");
+
+        engine.dispose();
+
+        assertEquals(0, engine.getActiveVoiceCount());
+        assertTrue(createdPlayers.stream().allMatch(player -> player.disposed));
+    }
+
+    @Test
+    void shouldForgetDecodedEffectsWhenDisposed() {
+        final AtomicInteger clearCount = new AtomicInteger();
+        engine = new SoundEffectEngine(2, new SoundEffectEngine.PlayerFactory() {
+            @Override
+            public SoundEffectPlayer create(final String resource) {
+                return new FakePlayer(resource);
+            }
+
+            @Override
+            public void clear() {
+                clearCount.incrementAndGet();
+            }
+        });
+        engine.play("blop.mp3");
+
+        engine.dispose();
+
+        assertEquals(1, clearCount.get());
+    }
+
+    @Test
+    void shouldCompletePlaybackWhenEffectIsFinishedOrStopped() {
+        final CompletableFuture<Void> first = engine.play("first.mp3");
+        final CompletableFuture<Void> second = engine.play("second.mp3");
+        assertFalse(first.isDone());
+
+        createdPlayers.get(0).finish();
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+
+        engine.stop("second.mp3");
+        assertTrue(second.isDone());
+        assertFalse(createdPlayers.get(1).playing);
+        assertEquals(0, engine.getActiveVoiceCount());
+    }
+
+}
@@ -4,10 +4,53 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 public class SoundManagerTest {
 
     private SoundManager soundManager;
 
+    /**
+     * Plays each sound until it is finished by the test.
+     */
+    private static class FakeSoundPlayer implements SoundManager.SoundPlayer {
+
+        private final BlockingQueue<String> played = new LinkedBlockingQueue<>();
+
+        private final Map<String, CompletableFuture<Void>> playing = new ConcurrentHashMap<>();
+
+        @Override
+        public CompletableFuture<Void> play(final String resource) {
+            final CompletableFuture<Void> playback = new CompletableFuture<>();
+            playing.put(resource, playback);
+            played.add(resource);
+            return playback;
+        }
+
+        @Override
+        public void stop(final String resource) {
+            finish(resource);
+        }
+
+        void finish(final String resource) {
+            final CompletableFuture<Void> playback = playing.remove(resource);
+            if (playback != null) {
+                playback.complete(null);
+            }
+        }
+
+        String nextPlayed() throws InterruptedException {
+            return played.poll(1, TimeUnit.SECONDS);
+        }
+
+    }
+
     @BeforeEach
     void initSoundManager() {
         soundManager = new SoundManager();
@@ -19,9 +62,10 @@ public class SoundManagerTest {
         soundManager.add("music/hand_sound1.mp3");
         soundManager.add("music/song.mp3");
 
-        Assertions.assertTrue(soundManager.getListOfMusicToPlay().contains("music/mvmt0.wav"));
-        Assertions.assertTrue(soundManager.getListOfMusicToPlay().contains("music/hand_sound1.mp3"));
-        Assertions.assertTrue(soundManager.getListOfMusicToPlay().contains("music/song.mp3"));
+        Assertions.assertTrue(soundManager.isPending("music/mvmt0.wav"));
+        Assertions.assertTrue(soundManager.isPending("music/hand_sound1.mp3"));
+        Assertions.assertTrue(soundManager.isPending("music/song.mp3"));
+        Assertions.assertEquals(3, soundManager.getQueueDepth());
     }
 
     @Test
@@ -30,9 +74,167 @@ public class SoundManagerTest {
         soundManager.add("music/hand_sound1.mp3");
 
         soundManager.playRequestedSounds();
-        Assertions.assertFalse(soundManager.getListOfMusicToPlay().contains("music/mvmt0.wav"));
+        Assertions.assertFalse(soundManager.isPending("music/mvmt0.wav"));
         soundManager.playRequestedSounds();
-        Assertions.assertFalse(soundManager.getListOfMusicToPlay().contains("music/hand_sound1.mp3"));
+        Assertions.assertFalse(soundManager.isPending("music/hand_sound1.mp3"));
+    }
+
+    @Test
+    void shouldTakeRequestsByPriorityThenInOrder() {
+        soundManager.add("first.mp3");
+        soundManager.add("low.mp3", SoundPriority.LOW);
+        soundManager.add("second.mp3");
+        soundManager.add("high.mp3", SoundPriority.HIGH);
+
+        Assertions.assertEquals("high.mp3", soundManager.pollNextRequest().getResource());
+        Assertions.assertEquals("first.mp3", soundManager.pollNextRequest().getResource());
+        Assertions.assertEquals("second.mp3", soundManager.pollNextRequest().getResource());
+        Assertions.assertEquals("low.mp3", soundManager.pollNextRequest().getResource());
+        Assertions.assertNull(soundManager.pollNextRequest());
+    }
+
+    @Test
+    void shouldDropStaleRequests() throws InterruptedException {
+        soundManager = new SoundManager(10);
+        soundManager.add("stale.mp3");
+        Thread.sleep(20);
+        soundManager.add("fresh.mp3");
+
+        Assertions.assertEquals("fresh.mp3", soundManager.pollNextRequest().getResource());
+        Assertions.assertEquals(1, soundManager.getMetrics().getDroppedCount());
+    }
+
+    @Test
+    void shouldReplacePendingRequestOfSameSound() {
+        soundManager.add("question.mp3");
+        soundManager.add("other.mp3");
+        soundManager.addLatest("question.mp3", SoundPriority.NORMAL);
+
+        Assertions.assertEquals("other.mp3", soundManager.pollNextRequest().getResource());
+        Assertions.assertEquals("question.mp3", soundManager.pollNextRequest().getResource());
+        Assertions.assertNull(soundManager.pollNextRequest());
+    }
+
+    @Test
+    void shouldWaitForNextRequest() throws Exception {
+        CompletableFuture<SoundRequest> nextRequest = CompletableFuture.supplyAsync(() -> {
+            try {
+                return soundManager.takeNextRequest();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(20);
+        Assertions.assertFalse(nextRequest.isDone());
+
+        soundManager.add("music/song.mp3");
+
+        Assertions.assertEquals("music/song.mp3", nextRequest.get(1, TimeUnit.SECONDS).getResource());
+        Assertions.assertEquals(1, soundManager.getMetrics().getPeakQueueDepth());
+    }
+
+    @Test
+    void shouldPlayOneSoundAtATime() throws InterruptedException {
+        final FakeSoundPlayer player = new FakeSoundPlayer();
+        soundManager = new SoundManager(SoundManager.DEFAULT_STALE_AFTER_MILLIS, player, Runnable::run);
+        soundManager.init();
+        try {
+            soundManager.add("first.mp3");
+            soundManager.add("second.mp3");
+            Assertions.assertEquals("first.mp3", player.nextPlayed());
+            Assertions.assertNull(player.played.poll(50, TimeUnit.MILLISECONDS));
+            Assertions.assertTrue(soundManager.isPending("second.mp3"));
+
+            player.finish("first.mp3");
+            Assertions.assertEquals("second.mp3", player.nextPlayed());
+        } finally {
+            soundManager.destroy();
+        }
+    }
+
+    @Test
+    void shouldPlayBurstOfLatestRequestsOnce() throws InterruptedException {
+        final FakeSoundPlayer player = new FakeSoundPlayer();
+        soundManager = new SoundManager(SoundManager.DEFAULT_STALE_AFTER_MILLIS, player, Runnable::run);
+        soundManager.init();
+        try {
+            soundManager.add("other.mp3");
+            Assertions.assertEquals("other.mp3", player.nextPlayed());
+            for (int i = 0; i < 5; i++) {
+                soundManager.addLatest("question.mp3", SoundPriority.HIGH);
+            }
+            player.finish("other.mp3");
+
+            Assertions.assertEquals("question.mp3", player.nextPlayed());
+            player.finish("question.mp3");
+            Assertions.assertNull(player.played.poll(50, TimeUnit.MILLISECONDS));
+            Assertions.assertEquals(4, soundManager.getMetrics().getDroppedCount());
+        } finally {
+            soundManager.destroy();
+        }
+    }
+
+    @Test
+    void shouldRestartPlayingSoundRequestedAgain() throws InterruptedException {
+        final FakeSoundPlayer player = new FakeSoundPlayer();
+        soundManager = new SoundManager(SoundManager.DEFAULT_STALE_AFTER_MILLIS, player, Runnable::run);
+        soundManager.init();
+        try {
+            soundManager.addLatest("question.mp3", SoundPriority.HIGH);
+            Assertions.assertEquals("question.mp3", player.nextPlayed());
+            soundManager.addLatest("question.mp3", SoundPriority.HIGH);
+
+            Assertions.assertEquals("question.mp3", player.nextPlayed());
+            Assertions.assertEquals(1, player.playing.size());
+        } finally {
+            soundManager.destroy();
+        }
+    }
+
+    @Test
+    void shouldNotPlayRequestWhichWentStaleWhileWaiting() throws InterruptedException {
+        final FakeSoundPlayer player = new FakeSoundPlayer();
+        soundManager = new SoundManager(10, player, Runnable::run);
+        soundManager.init();
+        try {
+            soundManager.add("long.mp3");
+            Assertions.assertEquals("long.mp3", player.nextPlayed());
+            soundManager.add("stale.mp3");
+            Thread.sleep(20);
+            player.finish("long.mp3");
+
+            Assertions.assertNull(player.played.poll(50, TimeUnit.MILLISECONDS));
+            Assertions.assertFalse(soundManager.isPending("stale.mp3"));
+            Assertions.assertEquals(1, soundManager.getMetrics().getDroppedCount());
+        } finally {
+            soundManager.destroy();
+        }
+    }
+
+    @Test
+    void shouldNotPlayRequestWhichWentStaleWhileHandedOver() throws InterruptedException {
+        final FakeSoundPlayer player = new FakeSoundPlayer();
+        soundManager = new SoundManager(10, player, Runnable::run);
+        soundManager.add("stale.mp3");
+        final SoundRequest request = soundManager.pollNextRequest();
+        Thread.sleep(20);
+
+        Assertions.assertTrue(soundManager.play(request).isDone());
+        Assertions.assertTrue(player.played.isEmpty());
+        Assertions.assertEquals(1, soundManager.getMetrics().getDroppedCount());
+    }
+
+    @Test
+    void shouldDestroyOnce() {
+        soundManager.init();
+        final ExecutorService executorService = soundManager.getExecutorService();
+
+        soundManager.destroy();
+        soundManager.destroy();
+
+        Assertions.assertTrue(executorService.isShutdown());
+        Assertions.assertNull(soundManager.getExecutorService());
+        Assertions.assertNull(soundManager.getSoundPlayerRunnable());
     }
 
 }
@@ -9,12 +9,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.framework.junit5.ApplicationExtension;
 
 import java.io.File;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(ApplicationExtension.class)
 class FixationSequenceTest {
@@ -86,4 +86,49 @@ class FixationSequenceTest {
         });
         TestingUtils.waitForRunLater();
     }
+
+    @Test
+    void shouldReduceCloseVerticesIntoThePivot() {
+        final List<FixationPoint> reduced = FixationSequence.vertexReduction(fixationPoints.get(0), 15);
+
+        // the last point is left out, the two points at (300, 400) before it are merged
+        assertEquals(5, reduced.size());
+        assertEquals(50, reduced.get(3).getGazeDuration());
+        assertEquals(50 + 50, reduced.get(4).getGazeDuration());
+    }
+
+    @Test
+    void shouldReduceAnEmptySequence() {
+        assertTrue(FixationSequence.vertexReduction(new LinkedList<>(), 15).isEmpty());
+    }
+
+    @Test
+    void shouldSimplifyThePathWithinTheBudget() {
+        final List<FixationPoint> path = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            path.add(new FixationPoint(0, 10, i, i % 2 == 0 ? 0 : 1));
+        }
+        path.add(new FixationPoint(0, 10, 500, 300));
+        path.add(new FixationPoint(0, 10, 1000, 0));
+
+        final List<FixationPoint> simplified = FixationSequence.simplify(path, 10);
+
+        assertEquals(10, simplified.size());
+        assertSame(path.get(0), simplified.get(0));
+        assertSame(path.get(path.size() - 1), simplified.get(simplified.size() - 1));
+        assertTrue(simplified.contains(path.get(1000)));
+        assertSame(path, FixationSequence.simplify(path, 0));
+    }
+
+    @Test
+    void shouldDrawTheSequenceOutOfTheJavaFXThread() {
+        final FixationSequence sequence = new FixationSequence(1920, 1080, fixationPoints, FixationSequence.GAZE_FIXATION_SEQUENCE);
+        final BufferedImage image = sequence.getBufferedImage();
+
+        assertEquals(1920, image.getWidth());
+        assertEquals(1080, image.getHeight());
+        // the first fixation is drawn around (40, 20), nothing is drawn in the corner
+        assertNotEquals(0, image.getRGB(40, 20) >>> 24);
+        assertEquals(0, image.getRGB(1900, 1000) >>> 24);
+    }
 }
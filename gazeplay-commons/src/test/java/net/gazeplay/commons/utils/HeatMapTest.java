@@ -0,0 +1,80 @@
+package net.gazeplay.commons.utils;
+
+import javafx.application.Platform;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import net.gazeplay.TestingUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(ApplicationExtension.class)
+class HeatMapTest {
+
+    private final List<Color> colors = List.of(Color.BLUE, Color.LIME, Color.RED);
+
+    private final double[][] data = new double[][]{
+        {0, 1, 2},
+        {3, 0, 5}
+    };
+
+    @Test
+    void shouldInterpolateColorsInLookupTable() {
+        int[] lookupTable = HeatMap.buildLookupTable(colors, 1);
+
+        assertEquals(HeatMap.LOOKUP_TABLE_SIZE, lookupTable.length);
+        assertEquals(0xFF0000FF, lookupTable[0]);
+        assertEquals(0xFFFF0000, lookupTable[HeatMap.LOOKUP_TABLE_SIZE - 1]);
+        assertEquals(0xFF00FF00, HeatMap.buildLookupTable(List.of(Color.LIME, Color.LIME), 1)[128]);
+    }
+
+    @Test
+    void shouldApplyOpacityInLookupTable() {
+        int[] lookupTable = HeatMap.buildLookupTable(colors, 0.5);
+
+        assertEquals(128, lookupTable[0] >>> 24);
+    }
+
+    @Test
+    void shouldColorPixelsFromMinimumToMaximum() {
+        HeatMap heatMap = new HeatMap(data, 1, colors);
+
+        assertEquals(3, heatMap.getWidth());
+        assertEquals(2, heatMap.getHeight());
+        assertEquals(0, heatMap.getArgb(0, 0));
+        assertEquals(0, heatMap.getArgb(1, 1));
+        assertEquals(0xFF0000FF, heatMap.getArgb(1, 0));
+        assertEquals(0xFFFF0000, heatMap.getArgb(2, 1));
+    }
+
+    @Test
+    void shouldRenderBlurredImageWithoutJavaFX() {
+        HeatMap heatMap = new HeatMap(data, 1, colors);
+
+        BufferedImage image = heatMap.toBlurredImage();
+
+        assertEquals(3, image.getWidth());
+        assertEquals(2, image.getHeight());
+    }
+
+    @Test
+    void shouldCreateImage() throws InterruptedException {
+        Platform.runLater(() -> {
+            HeatMap heatMap = new HeatMap(data, 1, colors);
+
+            WritableImage image = heatMap.getImage();
+
+            assertEquals(3, image.getWidth());
+            assertEquals(2, image.getHeight());
+            assertEquals(Color.RED, image.getPixelReader().getColor(2, 1));
+            assertEquals(Color.TRANSPARENT, image.getPixelReader().getColor(0, 0));
+        });
+        TestingUtils.waitForRunLater();
+    }
+
+}
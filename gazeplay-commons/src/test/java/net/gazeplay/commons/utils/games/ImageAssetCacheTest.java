@@ -0,0 +1,81 @@
+package net.gazeplay.commons.utils.games;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+class ImageAssetCacheTest {
+
+    private static final String LOGO = "data/biboule/images/gazeplayClassicLogo.png";
+
+    @Test
+    void shouldDecodeAnImageOnlyOnce() {
+        final ImageAssetCache cache = new ImageAssetCache(ImageAssetCache.DEFAULT_MAXIMUM_BYTES);
+
+        final Image first = cache.get(LOGO);
+        final Image second = cache.get(LOGO);
+
+        assertFalse(first.isError());
+        assertSame(first, second);
+        assertEquals(1, cache.getImageCount());
+        assertEquals(1, cache.getStats().missCount());
+        assertEquals(1, cache.getStats().hitCount());
+    }
+
+    @Test
+    void shouldKeepOneImageByRequestedSize() {
+        final ImageAssetCache cache = new ImageAssetCache(ImageAssetCache.DEFAULT_MAXIMUM_BYTES);
+
+        final Image original = cache.get(LOGO);
+        final Image resized = cache.get(LOGO, 10, 10, false, true);
+
+        assertNotSame(original, resized);
+        assertEquals(10, resized.getWidth());
+        assertEquals(10, resized.getHeight());
+        assertSame(resized, cache.get(LOGO, 10, 10, false, true));
+        assertEquals(2, cache.getImageCount());
+    }
+
+    @Test
+    void shouldEvictImagesBeyondTheBudget() {
+        final ImageAssetCache cache = new ImageAssetCache(4 * 10 * 10);
+
+        cache.get(LOGO, 10, 10, false, true);
+        cache.get(LOGO, 9, 9, false, true);
+
+        assertEquals(1, cache.getImageCount());
+        assertEquals(1, cache.getStats().evictionCount());
+    }
+
+    @Test
+    void shouldNotKeepImagesInError() {
+        final ImageAssetCache cache = new ImageAssetCache(ImageAssetCache.DEFAULT_MAXIMUM_BYTES);
+
+        final Image image = cache.get("file:/missing/gazeplayClassicLogo.png");
+
+        assertTrue(image.isError());
+        assertEquals(0, cache.getImageCount());
+    }
+
+    @Test
+    void shouldRejectAMissingResource() {
+        final ImageAssetCache cache = new ImageAssetCache(ImageAssetCache.DEFAULT_MAXIMUM_BYTES);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("data/biboule/images/missing.png"));
+    }
+
+    @Test
+    void shouldReleaseAllImagesWhenCleared() {
+        final ImageAssetCache cache = new ImageAssetCache(ImageAssetCache.DEFAULT_MAXIMUM_BYTES);
+        cache.get(LOGO);
+
+        cache.clear();
+
+        assertEquals(0, cache.getImageCount());
+    }
+
+}
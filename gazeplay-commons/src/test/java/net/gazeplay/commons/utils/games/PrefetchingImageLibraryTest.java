@@ -0,0 +1,94 @@
+package net.gazeplay.commons.utils.games;
+
+import javafx.geometry.Dimension2D;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+class PrefetchingImageLibraryTest {
+
+    private static final File LOGO = new File("src/test/resources/data/biboule/images/gazeplayClassicLogo.png");
+
+    private static List<File> copyLogo(final Path directory, final int count) throws IOException {
+        final List<File> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            files.add(Files.copy(LOGO.toPath(), directory.resolve("logo" + i + ".png")).toFile());
+        }
+        return files;
+    }
+
+    @Test
+    void shouldReadTheSizeOfAnImage() {
+        assertEquals(new Dimension2D(1280, 406), PrefetchingImageLibrary.readImageSize(LOGO));
+    }
+
+    @Test
+    void shouldDownsampleTheImagesLargerThanTheTarget() {
+        final PrefetchingImageLibrary library = new PrefetchingImageLibrary(List.of(LOGO), null, 640, 480,
+            PrefetchingImageLibrary.DEFAULT_MEMORY_BUDGET);
+
+        final Image image = library.loadImageAtIndex(0);
+
+        assertEquals(640, image.getWidth());
+        assertEquals(203, image.getHeight());
+    }
+
+    @Test
+    void shouldKeepTheImagesSmallerThanTheTarget() {
+        final PrefetchingImageLibrary library = new PrefetchingImageLibrary(List.of(LOGO), null, 1920, 1080,
+            PrefetchingImageLibrary.DEFAULT_MEMORY_BUDGET);
+
+        final Image image = library.loadImageAtIndex(0);
+
+        assertEquals(1280, image.getWidth());
+        assertEquals(406, image.getHeight());
+    }
+
+    @Test
+    void shouldPickThePrefetchedImages(@TempDir final Path directory) throws IOException {
+        final PrefetchingImageLibrary library = new PrefetchingImageLibrary(copyLogo(directory, 8), null, 0, 0,
+            PrefetchingImageLibrary.DEFAULT_MEMORY_BUDGET);
+
+        library.prefetch(3);
+        final Set<Image> expected = new HashSet<>();
+        for (final Integer index : new LinkedHashSet<>(library.getUpcomingIndices())) {
+            expected.add(library.loadImageAtIndex(index));
+        }
+
+        assertEquals(3, expected.size());
+        assertEquals(expected, library.pickMultipleRandomDistinctImages(3));
+    }
+
+    @Test
+    void shouldPrefetchTheNextRound(@TempDir final Path directory) throws IOException {
+        final PrefetchingImageLibrary library = new PrefetchingImageLibrary(copyLogo(directory, 8), null, 0, 0,
+            PrefetchingImageLibrary.DEFAULT_MEMORY_BUDGET);
+
+        library.pickMultipleRandomDistinctImages(3);
+
+        assertEquals(3, new HashSet<>(library.getUpcomingIndices()).size());
+    }
+
+    @Test
+    void shouldCompleteARoundWithTheFallbackLibrary(@TempDir final Path directory) throws IOException {
+        final ResourceImageLibrary fallbackImageLibrary = new ResourceImageLibrary("data/common");
+        final PrefetchingImageLibrary library = new PrefetchingImageLibrary(copyLogo(directory, 1), fallbackImageLibrary, 0, 0,
+            PrefetchingImageLibrary.DEFAULT_MEMORY_BUDGET);
+
+        final Set<Image> images = library.pickMultipleRandomDistinctImages(3);
+
+        assertEquals(3, images.size());
+    }
+
+}
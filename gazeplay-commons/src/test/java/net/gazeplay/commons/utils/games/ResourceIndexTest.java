@@ -0,0 +1,59 @@
+package net.gazeplay.commons.utils.games;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceIndexTest {
+
+    private final String sep = File.separator;
+
+    private final ResourceIndex index = new ResourceIndex(List.of(
+        "data/common/bear.jpg",
+        "data/common/default/images/cat.png",
+        "data/common/default/images/dog.png",
+        "data/commonplace/owl.png"
+    ));
+
+    @Test
+    void shouldSplitPathsOnBothSeparators() {
+        assertArrayEquals(new String[]{"data", "common", "default"}, ResourceIndex.split("/data\\common//default/"));
+        assertArrayEquals(new String[0], ResourceIndex.split(""));
+    }
+
+    @Test
+    void shouldListTheResourcesOfAFolderAndItsSubFolders() {
+        assertEquals(Set.of("data/common/bear.jpg", "data/common/default/images/cat.png", "data/common/default/images/dog.png"),
+            index.getResources("data/common"));
+        assertEquals(Set.of("data/common/default/images/cat.png", "data/common/default/images/dog.png"),
+            index.getResources("data\\common\\default"));
+        assertEquals(4, index.getResources("data").size());
+        assertEquals(4, index.getResources("").size());
+    }
+
+    @Test
+    void shouldListNothingForAnUnknownFolder() {
+        assertTrue(index.getResources("data/comm").isEmpty());
+        assertTrue(index.getResources("data/common/bear.jpg/images").isEmpty());
+    }
+
+    @Test
+    void shouldListTheFoldersHoldingResources() {
+        assertEquals(Set.of(String.format("data%1$scommon", sep), String.format("data%1$scommon%1$sdefault%1$simages", sep)),
+            index.getResourceFolders("data/common"));
+    }
+
+    @Test
+    void shouldFindAResource() {
+        assertTrue(index.contains("data/common/default/images/cat.png"));
+        assertTrue(index.contains("data\\common\\bear.jpg"));
+        assertFalse(index.contains("data/common/cat.png"));
+        assertFalse(index.contains("data/common"));
+        assertFalse(index.contains(""));
+    }
+
+}
@@ -0,0 +1,104 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AreaOfInterestGeometryTest {
+
+    @Test
+    void shouldCalculateRectangle() {
+        double[] expected = {-5, 45, 35, 45, 35, -5, -5, -5};
+
+        assertArrayEquals(expected, AreaOfInterestGeometry.rectangle(10, 20, 10, 30));
+    }
+
+    @Test
+    void shouldCalculateConvexHull() {
+        int[] xs = {0, 10, 5, 10, 0, 4, 6, 5};
+        int[] ys = {0, 0, 5, 10, 10, 3, 7, 0};
+        double[] expected = {0, 0, 10, 0, 10, 10, 0, 10};
+
+        assertArrayEquals(expected, AreaOfInterestGeometry.convexHull(xs, ys, xs.length));
+    }
+
+    @Test
+    void shouldCalculateConvexHullOfNegativeCoordinates() {
+        int[] xs = {-10, 10, 0, 0};
+        int[] ys = {0, 0, -10, 10};
+        double[] expected = {-10, 0, 0, -10, 10, 0, 0, 10};
+
+        assertArrayEquals(expected, AreaOfInterestGeometry.convexHull(xs, ys, xs.length));
+    }
+
+    @Test
+    void shouldCalculateConvexHullOfDegeneratePoints() {
+        assertArrayEquals(new double[]{3, 4}, AreaOfInterestGeometry.convexHull(new int[]{3, 3, 3}, new int[]{4, 4, 4}, 3));
+        assertArrayEquals(new double[]{0, 0, 2, 2}, AreaOfInterestGeometry.convexHull(new int[]{0, 1, 2}, new int[]{0, 1, 2}, 3));
+        assertArrayEquals(new double[]{}, AreaOfInterestGeometry.convexHull(new int[]{}, new int[]{}, 0));
+    }
+
+    @Test
+    void shouldCalculateAreaInBothOrientations() {
+        assertEquals(100, AreaOfInterestGeometry.area(new double[]{0, 0, 10, 0, 10, 10, 0, 10}));
+        assertEquals(100, AreaOfInterestGeometry.area(new double[]{0, 10, 10, 10, 10, 0, 0, 0}));
+        assertEquals(0, AreaOfInterestGeometry.area(new double[]{0, 0, 2, 2}));
+    }
+
+    @Test
+    void shouldCalculateBounds() {
+        assertArrayEquals(new double[]{-10, -10, 10, 10}, AreaOfInterestGeometry.bounds(new double[]{-10, 0, 0, -10, 10, 0, 0, 10}));
+    }
+
+    @Test
+    void shouldIntersectOverlappingSquares() {
+        double[] square = {0, 0, 10, 0, 10, 10, 0, 10};
+        double[] distantSquare = {20, 20, 30, 20, 30, 30, 20, 30};
+
+        double[] intersection = AreaOfInterestGeometry.intersection(square, new double[]{5, 5, 15, 5, 15, 15, 5, 15});
+        double[] clockwiseIntersection = AreaOfInterestGeometry.intersection(square, new double[]{5, 15, 15, 15, 15, 5, 5, 5});
+
+        assertEquals(25, AreaOfInterestGeometry.area(intersection), 1e-9);
+        assertArrayEquals(new double[]{5, 5, 10, 10}, AreaOfInterestGeometry.bounds(intersection), 1e-9);
+        assertEquals(25, AreaOfInterestGeometry.area(clockwiseIntersection), 1e-9);
+        assertEquals(0, AreaOfInterestGeometry.intersection(square, distantSquare).length);
+    }
+
+    @Test
+    void shouldIntersectContainedPolygons() {
+        double[] triangle = {2, 2, 8, 2, 5, 8};
+
+        assertEquals(18, AreaOfInterestGeometry.area(AreaOfInterestGeometry.intersection(triangle, new double[]{0, 0, 10, 0, 10, 10, 0, 10})), 1e-9);
+        assertEquals(18, AreaOfInterestGeometry.area(AreaOfInterestGeometry.intersection(new double[]{0, 0, 10, 0, 10, 10, 0, 10}, triangle)), 1e-9);
+    }
+
+    @Test
+    void shouldNotIntersectDegeneratePolygons() {
+        assertEquals(0, AreaOfInterestGeometry.intersection(new double[]{0, 0, 2, 2}, new double[]{0, 0, 10, 0, 10, 10}).length);
+        assertEquals(0, AreaOfInterestGeometry.intersection(new double[]{0, 0, 10, 0, 10, 10}, new double[]{0, 0, 1, 1, 2, 2}).length);
+    }
+
+    @Test
+    void shouldFindOverlappingBounds() {
+        List<double[]> polygons = List.of(
+            new double[]{0, 0, 10, 0, 10, 10, 0, 10},
+            new double[]{50, 50, 60, 50, 60, 60},
+            new double[]{5, 5, 20, 5, 20, 20, 5, 20},
+            new double[]{},
+            new double[]{8, 30, 30, 30, 30, 40},
+            new double[]{-5, -5, 1, -5, 1, 1, -5, 1}
+        );
+
+        int[][] neighbours = AreaOfInterestGeometry.overlappingBounds(polygons);
+
+        assertArrayEquals(new int[]{2, 5}, neighbours[0]);
+        assertArrayEquals(new int[]{}, neighbours[1]);
+        assertArrayEquals(new int[]{0}, neighbours[2]);
+        assertArrayEquals(new int[]{}, neighbours[3]);
+        assertArrayEquals(new int[]{}, neighbours[4]);
+        assertArrayEquals(new int[]{0}, neighbours[5]);
+    }
+
+}
@@ -0,0 +1,51 @@
+package net.gazeplay.commons.utils.stats;
+
+import net.gazeplay.commons.utils.FixationPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixationPointBufferTest {
+
+    @Test
+    void shouldStoreFixationPointsAcrossChunks() {
+        final FixationPointBuffer buffer = new FixationPointBuffer();
+        final int count = MovementHistory.CHUNK_SIZE + 3;
+
+        for (int i = 0; i < count; i++) {
+            buffer.add(i, i * 2L, i * 3, i * 4);
+        }
+
+        assertEquals(count, buffer.size());
+        assertEquals(count - 1, buffer.getTimeGaze(count - 1));
+        assertEquals((count - 1) * 2L, buffer.getGazeDuration(count - 1));
+        assertEquals((count - 1) * 3, buffer.getX(count - 1));
+        assertEquals((count - 1) * 4, buffer.getY(count - 1));
+    }
+
+    @Test
+    void shouldUpdateGazeDuration() {
+        final FixationPointBuffer buffer = new FixationPointBuffer();
+        buffer.add(10, 0, 1, 2);
+
+        buffer.setGazeDuration(0, 25);
+
+        assertEquals(25, buffer.getGazeDuration(0));
+    }
+
+    @Test
+    void shouldCreateFixationPoints() {
+        final FixationPointBuffer buffer = new FixationPointBuffer();
+        buffer.add(10, 0, 1, 2);
+        buffer.add(20, 10, 3, 4);
+
+        final LinkedList<FixationPoint> points = buffer.toLinkedList();
+
+        assertEquals(2, points.size());
+        assertEquals(new FixationPoint(10, 0, 1, 2), points.get(0));
+        assertEquals(new FixationPoint(20, 10, 3, 4), points.get(1));
+    }
+
+}
@@ -0,0 +1,61 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeatMapAccumulatorTest {
+
+    private static final int RADIUS = 10;
+
+    /**
+     * stamp computed cell by cell, as the heatmap used to be
+     */
+    private static void legacyStamp(final double[][] heatMap, final int x, final int y) {
+        for (int i = -RADIUS; i <= RADIUS; i++) {
+            for (int j = -RADIUS; j <= RADIUS; j++) {
+                if (Math.sqrt(i * i + j * j) < RADIUS) {
+                    final int row = x + i;
+                    final int column = y + j;
+                    if (row >= 0 && column >= 0 && row < heatMap.length && column < heatMap[0].length) {
+                        heatMap[row][column]++;
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldStampSameDiscAsCellByCellComputation() {
+        final HeatMapAccumulator accumulator = new HeatMapAccumulator(40, 60, RADIUS);
+        final double[][] expected = new double[40][60];
+        final int[][] centers = {{20, 30}, {0, 0}, {39, 59}, {-5, 10}, {45, 30}, {20, -9}, {20, 68}, {-20, -20}, {21, 30}};
+
+        for (final int[] center : centers) {
+            accumulator.stamp(center[0], center[1]);
+            legacyStamp(expected, center[0], center[1]);
+        }
+
+        assertArrayEquals(expected, accumulator.toArray());
+    }
+
+    @Test
+    void shouldComputeDiscHalfWidths() {
+        assertArrayEquals(new int[]{-1, 1, 1, 1, -1}, HeatMapAccumulator.computeHalfWidths(2));
+        assertArrayEquals(new int[]{-1, 0, -1}, HeatMapAccumulator.computeHalfWidths(1));
+    }
+
+    @Test
+    void shouldGetStampedCell() {
+        final HeatMapAccumulator accumulator = new HeatMapAccumulator(10, 20, 1);
+
+        accumulator.stamp(3, 4);
+        accumulator.stamp(3, 4);
+
+        assertEquals(2, accumulator.get(3, 4));
+        assertEquals(0, accumulator.get(3, 5));
+        assertEquals(10, accumulator.getRows());
+        assertEquals(20, accumulator.getColumns());
+    }
+
+}
@@ -0,0 +1,78 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovementHistoryTest {
+
+    @Test
+    void shouldStoreMovementsAcrossChunks() {
+        final MovementHistory movementHistory = new MovementHistory();
+        final int count = MovementHistory.CHUNK_SIZE * 3 + 7;
+
+        for (int i = 0; i < count; i++) {
+            movementHistory.add(i, -i, i * 10L, i * 100L);
+        }
+
+        assertEquals(count, movementHistory.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, movementHistory.getXValue(i));
+            assertEquals(-i, movementHistory.getYValue(i));
+            assertEquals(i * 10L, movementHistory.getIntervalTime(i));
+            assertEquals(i * 100L, movementHistory.getTimeStarted(i));
+        }
+    }
+
+    @Test
+    void shouldExposeMovementsAsCoordinatesTrackers() {
+        final MovementHistory movementHistory = new MovementHistory();
+        movementHistory.add(new CoordinatesTracker(1, 2, 3, 4));
+        movementHistory.add(5, 6, 7, 8);
+
+        final List<CoordinatesTracker> list = movementHistory;
+
+        assertEquals(new CoordinatesTracker(1, 2, 3, 4), list.get(0));
+        assertEquals(5, list.get(1).getXValue());
+        assertEquals(6, list.get(1).getYValue());
+        assertEquals(7, list.get(1).getIntervalTime());
+        assertEquals(8, list.get(1).getTimeStarted());
+    }
+
+    @Test
+    void shouldWriteDistanceBackToHistory() {
+        final MovementHistory movementHistory = new MovementHistory();
+        movementHistory.add(1, 2, 3, 4);
+
+        movementHistory.get(0).setDistance(12.5);
+
+        assertEquals(12.5, movementHistory.getDistance(0));
+        assertEquals(12.5, movementHistory.get(0).getDistance());
+    }
+
+    @Test
+    void shouldResetDistanceOfReusedSlots() {
+        final MovementHistory movementHistory = new MovementHistory();
+        movementHistory.add(1, 2, 3, 4);
+        movementHistory.setDistance(0, 42);
+
+        movementHistory.clear();
+        movementHistory.add(5, 6, 7, 8);
+
+        assertEquals(1, movementHistory.size());
+        assertEquals(5, movementHistory.getXValue(0));
+        assertEquals(0, movementHistory.getDistance(0));
+    }
+
+    @Test
+    void shouldRejectIndexOutOfBounds() {
+        final MovementHistory movementHistory = new MovementHistory();
+        movementHistory.add(1, 2, 3, 4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> movementHistory.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> movementHistory.getXValue(-1));
+    }
+
+}
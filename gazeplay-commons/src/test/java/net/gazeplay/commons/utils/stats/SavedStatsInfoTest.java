@@ -0,0 +1,85 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavedStatsInfoTest {
+
+    private SavedStatsInfo savedStatsInfo;
+
+    @BeforeEach
+    void setup() {
+        savedStatsInfo = new SavedStatsInfo(new File("heatmap.csv"), new File("mouse.png"), new File("gaze.png"),
+            new File("mouseAndGaze.png"), new File("screenshot.png"), new File("colorBands.png"));
+    }
+
+    @Test
+    void shouldRunTheActionWhenTheFileIsWritten() {
+        final AtomicInteger runs = new AtomicInteger();
+        savedStatsInfo.whenFileReady(savedStatsInfo.getGazeMetricsFileGaze(), runs::incrementAndGet);
+
+        savedStatsInfo.notifyFileReady(savedStatsInfo.getGazeMetricsFileMouse());
+        assertEquals(0, runs.get());
+        assertFalse(savedStatsInfo.isFileReady(savedStatsInfo.getGazeMetricsFileGaze()));
+
+        savedStatsInfo.notifyFileReady(savedStatsInfo.getGazeMetricsFileGaze());
+        assertEquals(1, runs.get());
+        assertTrue(savedStatsInfo.isFileReady(savedStatsInfo.getGazeMetricsFileGaze()));
+
+        savedStatsInfo.notifyFilesReady();
+        assertEquals(1, runs.get());
+        assertEquals(0, savedStatsInfo.countObservers());
+    }
+
+    @Test
+    void shouldRunTheActionAtOnceWhenTheFileIsAlreadyWritten() {
+        final AtomicInteger runs = new AtomicInteger();
+        savedStatsInfo.notifyFileReady(savedStatsInfo.getScreenshotFile());
+
+        savedStatsInfo.whenFileReady(savedStatsInfo.getScreenshotFile(), runs::incrementAndGet);
+
+        assertEquals(1, runs.get());
+        assertEquals(0, savedStatsInfo.countObservers());
+    }
+
+    @Test
+    void shouldNotifyTheObserversOfEachFileThenOfAllTheFiles() {
+        final List<Object> notifications = new ArrayList<>();
+        savedStatsInfo.addObserver((observable, arg) -> notifications.add(arg));
+
+        savedStatsInfo.notifyFileReady(savedStatsInfo.getScreenshotFile());
+        savedStatsInfo.notifyFilesReady();
+
+        assertEquals(2, notifications.size());
+        assertEquals(savedStatsInfo.getScreenshotFile(), notifications.get(0));
+        assertNull(notifications.get(1));
+        assertTrue(savedStatsInfo.getFilesReady().isDone());
+        assertTrue(savedStatsInfo.isFileReady(savedStatsInfo.getGazeMetricsFileMouse()));
+    }
+
+    @Test
+    void shouldDropTheActionsWhenTheFilesCantBeWritten() {
+        final AtomicInteger runs = new AtomicInteger();
+        final List<Object> notifications = new ArrayList<>();
+        savedStatsInfo.addObserver((observable, arg) -> notifications.add(arg));
+        savedStatsInfo.whenFileReady(savedStatsInfo.getGazeMetricsFileGaze(), runs::incrementAndGet);
+
+        savedStatsInfo.notifyFilesFailed(new IOException("disk full"));
+        savedStatsInfo.whenFileReady(savedStatsInfo.getGazeMetricsFileMouse(), runs::incrementAndGet);
+
+        assertEquals(0, runs.get());
+        assertEquals(1, notifications.size());
+        assertNull(notifications.get(0));
+        assertTrue(savedStatsInfo.getFilesReady().isCompletedExceptionally());
+        assertFalse(savedStatsInfo.isFileReady(savedStatsInfo.getGazeMetricsFileGaze()));
+    }
+
+}
@@ -0,0 +1,150 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRecordReaderTest {
+
+    private static final long START_TIME = 1_600_000_000_000L;
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldReadTheRecordsWritten() throws IOException {
+        final File file = new File(tempDir, "session.gpsr");
+        try (SessionRecordWriter writer = new SessionRecordWriter(file, START_TIME, 1920, 1080)) {
+            writer.recordGaze(START_TIME + 8, 100, 200);
+            writer.recordMouse(START_TIME + 10, 1900, 5);
+            writer.recordGaze(START_TIME + 16, 90, 210);
+            writer.recordEvent(SessionRecordType.GOAL_REACHED, START_TIME + 20);
+            writer.recordEvent(SessionRecordType.NEXT_ROUND, START_TIME + 20);
+            writer.recordMouse(START_TIME + 1_000_000, 0, 1080);
+        }
+
+        try (SessionRecordReader reader = new SessionRecordReader(file)) {
+            assertEquals(START_TIME, reader.getStartTime());
+            assertEquals(1920, reader.getSceneWidth());
+            assertEquals(1080, reader.getSceneHeight());
+
+            assertRecord(reader, SessionRecordType.GAZE, START_TIME + 8, 100, 200);
+            assertRecord(reader, SessionRecordType.MOUSE, START_TIME + 10, 1900, 5);
+            assertRecord(reader, SessionRecordType.GAZE, START_TIME + 16, 90, 210);
+            assertTrue(reader.next());
+            assertEquals(SessionRecordType.GOAL_REACHED, reader.getType());
+            assertEquals(START_TIME + 20, reader.getTime());
+            assertTrue(reader.next());
+            assertEquals(SessionRecordType.NEXT_ROUND, reader.getType());
+            assertRecord(reader, SessionRecordType.MOUSE, START_TIME + 1_000_000, 0, 1080);
+            assertFalse(reader.next());
+        }
+    }
+
+    private static void assertRecord(final SessionRecordReader reader, final SessionRecordType type, final long time,
+                                     final int x, final int y) throws IOException {
+        assertTrue(reader.next());
+        assertEquals(type, reader.getType());
+        assertEquals(time, reader.getTime());
+        assertEquals(x, reader.getX());
+        assertEquals(y, reader.getY());
+    }
+
+    @Test
+    void shouldWriteCompactRecords() throws IOException {
+        final File file = new File(tempDir, "session.gpsr");
+        final int sampleCount = 100_000;
+        try (SessionRecordWriter writer = new SessionRecordWriter(file, START_TIME, 1920, 1080)) {
+            for (int i = 0; i < sampleCount; i++) {
+                // a gaze sample every 8 ms, moving a few pixels
+                writer.recordGaze(START_TIME + i * 8L, 960 + (i % 40), 540 - (i % 30));
+            }
+            assertEquals(sampleCount, writer.getRecordCount());
+        }
+
+        assertTrue(file.length() <= SessionRecordWriter.HEADER_SIZE + 4L * sampleCount + 4);
+
+        int count = 0;
+        try (SessionRecordReader reader = new SessionRecordReader(file)) {
+            while (reader.next()) {
+                assertEquals(START_TIME + count * 8L, reader.getTime());
+                assertEquals(960 + (count % 40), reader.getX());
+                assertEquals(540 - (count % 30), reader.getY());
+                count++;
+            }
+        }
+        assertEquals(sampleCount, count);
+    }
+
+    @Test
+    void shouldKeepTheRecordsInOrderWhenTheClockGoesBack() throws IOException {
+        final File file = new File(tempDir, "session.gpsr");
+        try (SessionRecordWriter writer = new SessionRecordWriter(file, START_TIME, 1920, 1080)) {
+            writer.recordGaze(START_TIME + 100, 1, 1);
+            writer.recordGaze(START_TIME + 50, 2, 2);
+        }
+
+        try (SessionRecordReader reader = new SessionRecordReader(file)) {
+            assertRecord(reader, SessionRecordType.GAZE, START_TIME + 100, 1, 1);
+            assertRecord(reader, SessionRecordType.GAZE, START_TIME + 100, 2, 2);
+        }
+    }
+
+    @Test
+    void shouldStopAtATruncatedRecord() throws IOException {
+        final File file = new File(tempDir, "session.gpsr");
+        try (SessionRecordWriter writer = new SessionRecordWriter(file, START_TIME, 1920, 1080)) {
+            writer.recordGaze(START_TIME + 8, 100, 200);
+            writer.recordGaze(START_TIME + 16, 5000, 6000);
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(file.length() - 1);
+        }
+
+        try (SessionRecordReader reader = new SessionRecordReader(file)) {
+            assertRecord(reader, SessionRecordType.GAZE, START_TIME + 8, 100, 200);
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void shouldRejectAnotherFile() throws IOException {
+        final File file = new File(tempDir, "heatmap.csv");
+        Files.writeString(file.toPath(), "0, 1, 2, 3, 4, 5, 6, 7, 8, 9\n0, 1, 2, 3, 4, 5, 6, 7, 8, 9\n");
+
+        assertThrows(IOException.class, () -> new SessionRecordReader(file));
+    }
+
+    @Test
+    void shouldRecomputeAHeatMapFromTheRecords() throws IOException {
+        final File file = new File(tempDir, "session.gpsr");
+        final HeatMapAccumulator recordedHeatMap = new HeatMapAccumulator(54, 96, 1);
+        try (SessionRecordWriter writer = new SessionRecordWriter(file, START_TIME, 1920, 1080)) {
+            for (int i = 0; i < 5000; i++) {
+                final int x = (i * 37) % 1920;
+                final int y = (i * 53) % 1080;
+                writer.recordGaze(START_TIME + i, x, y);
+                recordedHeatMap.stamp(y / 20, x / 20);
+                writer.recordMouse(START_TIME + i, y, x % 1080);
+            }
+        }
+
+        final HeatMapAccumulator heatMap = new HeatMapAccumulator(54, 96, 1);
+        try (SessionRecordReader reader = new SessionRecordReader(file)) {
+            while (reader.next()) {
+                if (reader.getType() == SessionRecordType.GAZE) {
+                    heatMap.stamp(reader.getY() / 20, reader.getX() / 20);
+                }
+            }
+        }
+
+        assertArrayEquals(recordedHeatMap.toArray(), heatMap.toArray());
+    }
+
+}
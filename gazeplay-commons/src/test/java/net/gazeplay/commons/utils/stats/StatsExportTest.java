@@ -0,0 +1,59 @@
+package net.gazeplay.commons.utils.stats;
+
+import net.gazeplay.commons.utils.FixationSequence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsExportTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldWriteTheFiles() throws Exception {
+        final SavedStatsInfo savedStatsInfo = savedStatsInfo(tempDir);
+
+        new StatsExport(savedStatsInfo).start(new BufferedImage(40, 30, BufferedImage.TYPE_INT_ARGB), null, null, null,
+            new FixationSequence[2]);
+        savedStatsInfo.getFilesReady().get(10, TimeUnit.SECONDS);
+
+        assertTrue(savedStatsInfo.getScreenshotFile().isFile());
+        assertTrue(savedStatsInfo.getGazeMetricsFileMouseAndGaze().isFile());
+    }
+
+    @Test
+    void shouldNotifyTheFailureWhenAFileCantBeWritten() {
+        final SavedStatsInfo savedStatsInfo = savedStatsInfo(new File(tempDir, "missing"));
+
+        new StatsExport(savedStatsInfo).start(new BufferedImage(40, 30, BufferedImage.TYPE_INT_ARGB), null, null, null,
+            new FixationSequence[2]);
+
+        assertThrows(ExecutionException.class, () -> savedStatsInfo.getFilesReady().get(10, TimeUnit.SECONDS));
+        assertFalse(savedStatsInfo.isFileReady(savedStatsInfo.getGazeMetricsFileGaze()));
+    }
+
+    @Test
+    void shouldWaitForThePendingExports() {
+        final SavedStatsInfo savedStatsInfo = savedStatsInfo(tempDir);
+
+        new StatsExport(savedStatsInfo).start(new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB), null, null, null,
+            new FixationSequence[2]);
+
+        assertTrue(StatsExport.awaitPendingExports(10000));
+        assertTrue(savedStatsInfo.getFilesReady().isDone());
+        assertTrue(savedStatsInfo.getGazeMetricsFileMouseAndGaze().isFile());
+    }
+
+    private static SavedStatsInfo savedStatsInfo(final File folder) {
+        return new SavedStatsInfo(new File(folder, "heatmap.csv"), new File(folder, "mouse.png"), new File(folder, "gaze.png"),
+            new File(folder, "mouseAndGaze.png"), new File(folder, "screenshot.png"), new File(folder, "colorBands.png"));
+    }
+
+}
@@ -10,12 +10,15 @@ import mockit.MockUp;
 import net.gazeplay.TestingUtils;
 import net.gazeplay.commons.configuration.ActiveConfigurationContext;
 import net.gazeplay.commons.configuration.Configuration;
+import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.commons.utils.FixationPoint;
 import net.gazeplay.commons.utils.FixationSequence;
 import net.gazeplay.commons.utils.games.DateUtils;
 import net.gazeplay.commons.utils.games.GazePlayDirectories;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -28,6 +31,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -58,10 +62,10 @@ class StatsTest {
         when(mockScene.getHeight()).thenReturn(30.0);
         when(mockScene.getWidth()).thenReturn(60.0);
 
-        double[][] result = Stats.instantiateHeatMapData(mockScene, 3.0);
+        HeatMapAccumulator result = Stats.instantiateHeatMapData(mockScene, 3.0);
 
-        assertEquals(10, result.length);
-        assertEquals(20, result[0].length);
+        assertEquals(10, result.getRows());
+        assertEquals(20, result.getColumns());
     }
 
     @Test
@@ -116,6 +120,37 @@ class StatsTest {
         assertTrue(stats.getOriginalDurationsBetweenGoals().contains(duration));
     }
 
+    @Test
+    void shouldRecordTheSession(@TempDir File statsDir) throws IOException {
+        new MockUp<GazePlayDirectories>() {
+            @mockit.Mock
+            public File getUserStatsFolder(String user) {
+                return statsDir;
+            }
+        };
+        when(stats.gameContextScene.getRoot()).thenReturn(new Pane());
+
+        stats.start(new StatsRecordingSettings(false, false, false, false, false, false));
+        stats.gazeMoved(new Point2D(30, 40));
+        stats.gazeMoved(new Point2D(20, 50));
+        stats.incrementNumberOfGoalsReached();
+        stats.notifyNextRound();
+        stats.stop();
+
+        final List<SessionRecordType> types = new ArrayList<>();
+        try (SessionRecordReader reader = new SessionRecordReader(stats.getSessionRecordFile())) {
+            assertEquals(stats.getStartTime(), reader.getStartTime(), 1000);
+            assertEquals(1080, reader.getSceneWidth());
+            while (reader.next()) {
+                types.add(reader.getType());
+            }
+            assertEquals(20, reader.getX());
+            assertEquals(50, reader.getY());
+        }
+        assertEquals(List.of(SessionRecordType.GAZE, SessionRecordType.GAZE, SessionRecordType.GOAL_REACHED,
+            SessionRecordType.NEXT_ROUND), types);
+    }
+
     @Test
     void shouldCreateVideoRecording() {
         File buildDir = new File(System.getProperty("user.dir"), "build");
@@ -169,6 +204,29 @@ class StatsTest {
         verify(statsSpy, atLeastOnce()).start();
     }
 
+    @Test
+    void shouldKeepRecordingSettingsOfStart() {
+        Stats statsSpy = spy(stats);
+
+        Configuration mockConfig = mock(Configuration.class);
+        when(mockConfig.isVideoRecordingEnabled()).thenReturn(true);
+
+        new MockUp<ActiveConfigurationContext>() {
+            @mockit.Mock
+            public Configuration getInstance() {
+                return mockConfig;
+            }
+        };
+
+        when(statsSpy.gameContextScene.getRoot()).thenReturn(new Pane());
+
+        statsSpy.start(new StatsRecordingSettings(false, true, true, false, false, true));
+        statsSpy.stop();
+
+        verify(statsSpy, never()).startVideoRecording();
+        verify(statsSpy, never()).endVideoRecording();
+    }
+
     @Test
     void shouldIncrementHeatMapOnGazeMoved() {
         Stats statsSpy = spy(stats);
@@ -180,6 +238,45 @@ class StatsTest {
         verify(statsSpy).incrementHeatMap(20, 40);
     }
 
+    @Test
+    void shouldMergeCloseGazePointsInFixationSequence() {
+        when(stats.gameContextScene.getRoot()).thenReturn(new Pane());
+
+        stats.start(new StatsRecordingSettings(false, true, false, false, false, true));
+        stats.gazeMoved(new Point2D(100, 200));
+        stats.gazeMoved(new Point2D(500, 600));
+        stats.gazeMoved(new Point2D(510, 610));
+
+        LinkedList<FixationPoint> gazeSequence = stats.getFixationSequence().get(FixationSequence.GAZE_FIXATION_SEQUENCE);
+        assertEquals(2, gazeSequence.size());
+        // x and y are swapped in the fixation points
+        assertEquals(200, gazeSequence.get(0).getX());
+        assertEquals(100, gazeSequence.get(0).getY());
+        assertEquals(600, gazeSequence.get(1).getX());
+        assertEquals(500, gazeSequence.get(1).getY());
+        assertTrue(stats.getFixationSequence().get(FixationSequence.MOUSE_FIXATION_SEQUENCE).isEmpty());
+        assertSame(stats.getFixationSequence(), stats.getFixationSequence());
+    }
+
+    @Test
+    void shouldCloseAreaOfInterestWhenGazeMovesAway() throws InterruptedException {
+        Pane root = new Pane();
+        when(stats.gameContextScene.getRoot()).thenReturn(root);
+
+        stats.start(new StatsRecordingSettings(false, true, true, true, false, true));
+        int[][] positions = {{100, 100}, {110, 105}, {120, 100}, {115, 120}, {1000, 900}};
+        for (int[] position : positions) {
+            Thread.sleep(20);
+            root.fireEvent(new GazeEvent(GazeEvent.GAZE_MOVED, System.currentTimeMillis(), position[0], position[1]));
+        }
+
+        assertEquals(1, stats.getAllAOIListTemp().size());
+        assertEquals(4, stats.getAllAOIListTemp().get(0).size());
+        assertArrayEquals(new int[]{0, 4}, stats.getStartAndEndIdx().get(0));
+        assertArrayEquals(new Double[]{85d, 135d, 135d, 135d, 135d, 85d, 85d, 85d}, stats.getAllAOIListPolygonPt().get(0));
+        assertEquals(1, stats.getAllAOIListPolygon().size());
+    }
+
     @Test
     void shouldSaveImageAsPNG() {
         BufferedImage image = new BufferedImage(30, 40, BufferedImage.TYPE_INT_RGB);
@@ -193,7 +290,7 @@ class StatsTest {
     }
 
     @Test
-    void shouldSaveStats() throws InterruptedException {
+    void shouldSaveStats() throws Exception {
         File buildDir = new File(System.getProperty("user.dir"), "build");
         BufferedImage image = new BufferedImage(30, 40, BufferedImage.TYPE_INT_RGB);
         Configuration mockConfig = mock(Configuration.class);
@@ -232,8 +329,11 @@ class StatsTest {
             }
         });
         TestingUtils.waitForRunLater();
+        stats.getSavedStatsInfo().getFilesReady().get(10, TimeUnit.SECONDS);
 
         assertNotEquals(0, buildDir.list().length);
+        assertTrue(stats.getSavedStatsInfo().getGazeMetricsFileMouseAndGaze().isFile());
+        assertTrue(stats.getSavedStatsInfo().getHeatMapCsvFile().isFile());
     }
 
     @Test
@@ -49,9 +49,16 @@ public class GazePlayCommandLineRunner implements CommandLineRunner, ExitCodeGen
 
         CommandLine commandLine = new CommandLine(command, factory);
 
-        List<GameSpec> gameSpecs = gamesLocator.listGames(translator);
-        for (GameSpec gameSpec : gameSpecs) {
-            commandLine.addSubcommand(gameSpec.getGameSummary().getNameCode(), new GameRunnerCommand(gameSpec));
+        StartupTimingReport.getInstance().mark(StartupTimingReport.Phase.SPRING_CONTEXT);
+
+        if (args.length == 0) {
+            // no game to run from the command line, the games are listed while the user interface starts
+            gamesLocator.listGamesInBackground(translator);
+        } else {
+            List<GameSpec> gameSpecs = gamesLocator.listGames(translator);
+            for (GameSpec gameSpec : gameSpecs) {
+                commandLine.addSubcommand(gameSpec.getGameSummary().getNameCode(), new GameRunnerCommand(gameSpec));
+            }
         }
 
         exitCode = commandLine.execute(args);
@@ -157,6 +157,20 @@ public class GazePlayFxApp extends Application {
         CssUtil.setPreferredStylesheets(ActiveConfigurationContext.getInstance(), gazePlay.getPrimaryScene(), gazePlay.getCurrentScreenDimensionSupplier());
         primaryStage.centerOnScreen();
         primaryStage.show();
+
+        markFirstFrame(gazePlay.getPrimaryScene());
+    }
+
+    private static void markFirstFrame(final Scene scene) {
+        final Runnable firstPulseListener = new Runnable() {
+            @Override
+            public void run() {
+                // not removed while the listeners are being called
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+                StartupTimingReport.getInstance().mark(StartupTimingReport.Phase.FIRST_FRAME);
+            }
+        };
+        scene.addPostLayoutPulseListener(firstPulseListener);
     }
 
     private Scene createPrimaryScene(final Stage primaryStage) {
@@ -0,0 +1,92 @@
+package net.gazeplay;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Times the phases of the startup of GazePlay, from the start of the JVM to the first frame displayed, and logs them
+ * on every launch.
+ */
+@Slf4j
+public class StartupTimingReport {
+
+    public enum Phase {
+        SPRING_CONTEXT("Spring context"),
+        GAME_LIST("game list"),
+        FIRST_FRAME("first frame");
+
+        @Getter
+        private final String label;
+
+        Phase(final String label) {
+            this.label = label;
+        }
+    }
+
+    private static final StartupTimingReport instance = new StartupTimingReport(
+        ManagementFactory.getRuntimeMXBean().getStartTime(), System::currentTimeMillis);
+
+    private final long jvmStartTime;
+
+    private final LongSupplier clock;
+
+    private final Map<Phase, Long> phaseTimes = new ConcurrentHashMap<>();
+
+    public static StartupTimingReport getInstance() {
+        return instance;
+    }
+
+    StartupTimingReport(final long jvmStartTime, final LongSupplier clock) {
+        this.jvmStartTime = jvmStartTime;
+        this.clock = clock;
+    }
+
+    /**
+     * Records the end of a phase, only the first time it is reached. The report is logged with the first frame, the
+     * phases reached later are logged on their own.
+     */
+    public void mark(final Phase phase) {
+        if (phaseTimes.putIfAbsent(phase, clock.getAsLong()) != null) {
+            return;
+        }
+        if (phase == Phase.FIRST_FRAME) {
+            log.info("Startup : {}", toString());
+        } else if (phaseTimes.containsKey(Phase.FIRST_FRAME)) {
+            log.info("Startup : {} ready {} ms after JVM start", phase.getLabel(), getElapsedMillis(phase));
+        }
+    }
+
+    /**
+     * @return the time elapsed between the start of the JVM and the end of the phase, or -1 if it is not reached yet
+     */
+    public long getElapsedMillis(final Phase phase) {
+        final Long time = phaseTimes.get(phase);
+        return time == null ? -1 : time - jvmStartTime;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder report = new StringBuilder("JVM start");
+        long previousTime = jvmStartTime;
+        for (final Phase phase : Phase.values()) {
+            final Long time = phaseTimes.get(phase);
+            if (time == null) {
+                report.append(" -> ").append(phase.getLabel()).append(" pending");
+            } else {
+                report.append(" -> ").append(phase.getLabel()).append(" +").append(time - previousTime).append(" ms");
+                previousTime = time;
+            }
+        }
+        final Long firstFrameTime = phaseTimes.get(Phase.FIRST_FRAME);
+        if (firstFrameTime != null) {
+            report.append(", first frame ").append(firstFrameTime - jvmStartTime).append(" ms after JVM start");
+        }
+        return report.toString();
+    }
+
+}
@@ -23,6 +23,7 @@ import net.gazeplay.commons.utils.games.BackgroundMusicManager;
 import net.gazeplay.stats.ShootGamesStats;
 import net.gazeplay.ui.scenes.stats.StatsContext;
 
+import java.io.File;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
@@ -36,6 +37,8 @@ import static javafx.scene.chart.XYChart.Data;
 @Slf4j
 public class StatDisplayUtils {
 
+    private static final String REQUESTED_IMAGE_FILE = "requestedImageFile";
+
     public static HomeButton createHomeButtonInStatsScreen(GazePlay gazePlay, StatsContext statsContext) {
         EventHandler<Event> homeEvent = e -> returnToMenu(gazePlay, statsContext);
 
@@ -179,10 +182,7 @@ public class StatDisplayUtils {
         gazeMetrics.setPreserveRatio(true);
 
         SavedStatsInfo savedStatsInfo = stats.getSavedStatsInfo();
-        savedStatsInfo.addObserver((o, arg) -> Platform.runLater(
-            () -> gazeMetrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouseAndGaze().toURI().toString()))));
-
-        gazeMetrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouseAndGaze().toURI().toString()));
+        displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouseAndGaze(), gazeMetrics);
 
         EventHandler<Event> openGazeMetricsEvent = createZoomInGazeMetricsEventHandler(gazeMetrics, root);
         gazeMetrics.addEventHandler(MouseEvent.MOUSE_CLICKED, openGazeMetricsEvent);
@@ -190,6 +190,24 @@ public class StatDisplayUtils {
         return gazeMetrics;
     }
 
+    /**
+     * Displays the image file in the view as soon as it is written, unless another file is requested for the view
+     * meanwhile.
+     */
+    public static void displayWhenReady(SavedStatsInfo savedStatsInfo, File imageFile, ImageView imageView) {
+        imageView.getProperties().put(REQUESTED_IMAGE_FILE, imageFile);
+        Runnable display = () -> {
+            if (imageFile.equals(imageView.getProperties().get(REQUESTED_IMAGE_FILE))) {
+                imageView.setImage(new Image(imageFile.toURI().toString()));
+            }
+        };
+        if (savedStatsInfo.isFileReady(imageFile)) {
+            display.run();
+        } else {
+            savedStatsInfo.whenFileReady(imageFile, () -> Platform.runLater(display));
+        }
+    }
+
     private static void resetToOriginalIndexInParent(Node node, int originalIndexInParent) {
         Parent parent = node.getParent();
 
@@ -17,12 +17,13 @@ public abstract class AbstractGamesLocator implements GamesLocator {
 
     @Override
     public List<GameSpec> listGames(Translator translator) {
+        long startTime = System.currentTimeMillis();
         LinkedList<GameSpec> gameList = new LinkedList<>();
         List<Class> gamesClasses = findGameSpecSourceClasses();
         for (GameSpecSource source : gameSpecSourceInstantiator.instantiateGameSpecSources(gamesClasses)) {
             gameList.add(source.getGameSpec());
         }
-        log.info("Games found : {}", gameList.size());
+        log.info("Games found : {} in {} ms", gameList.size(), System.currentTimeMillis() - startTime);
 
         Comparator<GameSpec> gameSpecComparator = Comparator
             .comparing(GameSpec::getGameSummary, new GameSummaryComparator(translator));
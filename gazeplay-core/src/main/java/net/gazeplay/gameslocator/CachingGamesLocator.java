@@ -2,10 +2,15 @@ package net.gazeplay.gameslocator;
 
 import lombok.AllArgsConstructor;
 import net.gazeplay.GameSpec;
+import net.gazeplay.StartupTimingReport;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
 import net.gazeplay.commons.ui.Translator;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicReference;
 
 @AllArgsConstructor
@@ -13,16 +18,56 @@ public class CachingGamesLocator implements GamesLocator {
 
     private final GamesLocator delegate;
 
-    private final AtomicReference<List<GameSpec>> cachedResult = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<List<GameSpec>>> cachedResult = new AtomicReference<>();
 
     @Override
     public List<GameSpec> listGames(Translator translator) {
-        List<GameSpec> result = cachedResult.get();
-        if (result == null) {
-            result = Collections.unmodifiableList(delegate.listGames(translator));
-            cachedResult.set(result);
+        try {
+            return findGames(translator, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
         }
-        return result;
+    }
+
+    @Override
+    public void listGamesInBackground(Translator translator) {
+        findGames(translator, true);
+    }
+
+    /**
+     * Lists the games the first time only, either on the current thread or in the background. A call made while the
+     * games are listed in the background waits for the result. A failure is not cached, the next call lists the games
+     * again.
+     */
+    private CompletableFuture<List<GameSpec>> findGames(Translator translator, boolean inBackground) {
+        CompletableFuture<List<GameSpec>> result = cachedResult.get();
+        if (result != null) {
+            return result;
+        }
+        CompletableFuture<List<GameSpec>> newResult = new CompletableFuture<>();
+        if (!cachedResult.compareAndSet(null, newResult)) {
+            return cachedResult.get();
+        }
+        Runnable task = () -> {
+            try {
+                newResult.complete(Collections.unmodifiableList(delegate.listGames(translator)));
+                StartupTimingReport.getInstance().mark(StartupTimingReport.Phase.GAME_LIST);
+            } catch (RuntimeException | Error e) {
+                cachedResult.compareAndSet(newResult, null);
+                newResult.completeExceptionally(e);
+            }
+        };
+        if (inBackground) {
+            GroupingThreadFactory threadFactory = new GroupingThreadFactory("games-locator");
+            threadFactory.setDaemon(true);
+            new CustomThreadFactory("games-locator", threadFactory).newThread(task).start();
+        } else {
+            task.run();
+        }
+        return newResult;
     }
 
 }
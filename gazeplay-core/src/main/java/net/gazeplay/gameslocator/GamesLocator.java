@@ -9,4 +9,10 @@ public interface GamesLocator {
 
     List<GameSpec> listGames(Translator translator);
 
+    /**
+     * Starts listing the games in the background, so that they are ready when first needed.
+     */
+    default void listGamesInBackground(Translator translator) {
+    }
+
 }
@@ -35,6 +35,7 @@ import net.gazeplay.commons.configuration.BackgroundStyle;
 import net.gazeplay.commons.configuration.BackgroundStyleVisitor;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.EyeTracker;
+import net.gazeplay.commons.gaze.devicemanager.GazeFilterType;
 import net.gazeplay.commons.themes.BuiltInUiTheme;
 import net.gazeplay.commons.ui.I18NButton;
 import net.gazeplay.commons.ui.I18NText;
@@ -257,6 +258,13 @@ public class ConfigurationContext extends GraphicalContext<BorderPane> {
 
             addToGrid(grid, currentFormRow, label, input);
         }
+        {
+            I18NText label = new I18NText(translator, "GazeFilter", COLON);
+
+            ChoiceBox<GazeFilterType> input = buildGazeFilterChooser(config);
+
+            addToGrid(grid, currentFormRow, label, input);
+        }
 
 
         addCategoryTitle(grid, currentFormRow, new I18NText(translator, "GraphicsSettings", COLON));
@@ -797,6 +805,21 @@ public class ConfigurationContext extends GraphicalContext<BorderPane> {
         return choiceBox;
     }
 
+    static ChoiceBox<GazeFilterType> buildGazeFilterChooser(Configuration configuration) {
+        ChoiceBox<GazeFilterType> choiceBox = new ChoiceBox<>();
+
+        choiceBox.getItems().addAll(GazeFilterType.values());
+        choiceBox.getSelectionModel().select(configuration.getGazeFilter());
+
+        choiceBox.setPrefWidth(PREF_WIDTH);
+        choiceBox.setPrefHeight(PREF_HEIGHT);
+
+        choiceBox.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) ->
+            configuration.getGazeFilterProperty().setValue(newValue));
+
+        return choiceBox;
+    }
+
     private static EyeTracker findSelectedEyeTracker(Configuration configuration) {
         for (EyeTracker currentEyeTracker : EyeTracker.values()) {
             if (currentEyeTracker.name().equals(configuration.getEyeTracker())) {
@@ -23,6 +23,8 @@ import net.gazeplay.GazePlay;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.ui.I18NText;
 import net.gazeplay.commons.ui.Translator;
+import net.gazeplay.commons.utils.games.ImageAssetCache;
+import net.gazeplay.commons.utils.games.ImageUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
@@ -48,6 +50,9 @@ public class GameMenuFactory {
     @Autowired
     private GameMenuController gameMenuController;
 
+    @Autowired
+    private GameThumbnailLoader gameThumbnailLoader;
+
     public GameButtonPane createGameButton(
         @NonNull final GazePlay gazePlay,
         @NonNull final Region root,
@@ -61,7 +66,7 @@ public class GameMenuFactory {
         final String gameName = translator.translate(gameSummary.getNameCode());
 
         final Image heartIcon;
-        heartIcon = new Image("data/common/images/heart_filled.png");
+        heartIcon = ImageUtils.loadImage("data/common/images/heart_filled.png");
         ImageView favGamesImageView = new ImageView(heartIcon);
 
         if (config.getFavoriteGamesProperty().contains(gameSummary.getNameCode())) {
@@ -108,22 +113,27 @@ public class GameMenuFactory {
 
         if (gameSummary.getGameThumbnail() != null) {
 
-            Image buttonGraphics = new Image(gameSummary.getGameThumbnail(), 200, 200, true, false);
+            Image buttonGraphics = gameThumbnailLoader.loadThumbnail(gameSummary.getGameThumbnail());
             ImageView imageView = new ImageView(buttonGraphics);
             imageView.getStyleClass().add("gameChooserButtonThumbnail");
             imageView.setPreserveRatio(true);
             thumbnailContainer.setCenter(imageView);
 
-            double imageSizeRatio = buttonGraphics.getWidth() / buttonGraphics.getHeight();
-
             switch (orientation) {
                 case HORIZONTAL:
-                    gameCard.heightProperty().addListener((observableValue, oldValue, newValue) -> {
-                        double preferredHeight = newValue.doubleValue() - thumbnailBorderSize;
+                    // the thumbnail may still be loading, its ratio is known once loaded
+                    Runnable fitThumbnail = () -> {
+                        double preferredHeight = gameCard.getHeight() - thumbnailBorderSize;
+                        double imageSizeRatio = buttonGraphics.getHeight() > 0 ? buttonGraphics.getWidth() / buttonGraphics.getHeight() : 1;
                         imageView.setFitHeight(preferredHeight - 10);
                         imageView.setFitWidth(preferredHeight * imageSizeRatio);
+                    };
+                    gameCard.heightProperty().addListener((observableValue, oldValue, newValue) -> fitThumbnail.run());
+                    GameThumbnailLoader.whenLoaded(buttonGraphics, () -> {
+                        if (gameCard.getHeight() > 0) {
+                            fitThumbnail.run();
+                        }
                     });
-
                     break;
                 case VERTICAL:
                     gameCard.widthProperty().addListener((observableValue, oldValue, newValue) -> {
@@ -151,7 +161,7 @@ public class GameMenuFactory {
         }
         for (GameCategories.Category gameCategory : gameSummary.getCategories()) {
             if (gameCategory.getThumbnail() != null) {
-                Image buttonGraphics = new Image(gameCategory.getThumbnail(), 50, 50, true, false);
+                Image buttonGraphics = ImageAssetCache.getInstance().get(gameCategory.getThumbnail(), 50, 50, true, false);
                 ImageView imageView = new ImageView(buttonGraphics);
                 imageView.getStyleClass().add("gameChooserButtonGameTypeIndicator");
                 imageView.setPreserveRatio(true);
@@ -0,0 +1,161 @@
+package net.gazeplay.ui.scenes.gamemenu;
+
+import com.google.common.hash.Hashing;
+import javafx.embed.swing.SwingFXUtils;
+import javafx.scene.image.Image;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.VersionInfo;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+import net.gazeplay.commons.utils.games.GazePlayDirectories;
+import org.apache.commons.io.FileUtils;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loads the thumbnails of the games for the game cards of the home menu.
+ * <p>
+ * The thumbnails are decoded in the background, the cards being laid out before they are displayed, and are kept for
+ * the next times the home menu is built. Once scaled, a thumbnail is saved in a cache folder, so that the next launches
+ * of GazePlay decode the small image only. Each version of GazePlay has its own folder in the cache, and the folders of
+ * the other versions are deleted on the first save.
+ */
+@Slf4j
+@Component
+public class GameThumbnailLoader {
+
+    static final int THUMBNAIL_SIZE = 200;
+
+    private static final ExecutorService executorService = createExecutorService();
+
+    private final File cacheFolder;
+
+    /**
+     * folder of the thumbnails of this version, in the cache folder
+     */
+    private final File versionFolder;
+
+    private final AtomicBoolean otherVersionsDeleted = new AtomicBoolean(false);
+
+    private final Map<String, Image> thumbnails = new ConcurrentHashMap<>();
+
+    public GameThumbnailLoader() {
+        this(GazePlayDirectories.getThumbnailsCacheFolder(), VersionInfo.findVersionInfo());
+    }
+
+    /**
+     * @param version the version of GazePlay, the thumbnails cached by another version being ignored
+     */
+    GameThumbnailLoader(final File cacheFolder, final String version) {
+        this.cacheFolder = cacheFolder;
+        this.versionFolder = new File(cacheFolder, version.replaceAll("[^A-Za-z0-9._-]", "_"));
+    }
+
+    private static ExecutorService createExecutorService() {
+        final GroupingThreadFactory threadFactory = new GroupingThreadFactory("ThumbnailCache");
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadExecutor(new CustomThreadFactory("ThumbnailCache", threadFactory));
+    }
+
+    /**
+     * @return the thumbnail, which may still be loading
+     */
+    public Image loadThumbnail(final String url) {
+        return thumbnails.computeIfAbsent(url, this::load);
+    }
+
+    private Image load(final String url) {
+        final File cachedFile = getCachedFile(url);
+        if (cachedFile.isFile()) {
+            final Image cachedImage = new Image(cachedFile.toURI().toString(), true);
+            cachedImage.errorProperty().addListener((observable, oldValue, error) -> {
+                if (error) {
+                    log.warn("Failed to load cached thumbnail {} of {}", cachedFile, url, cachedImage.getException());
+                    thumbnails.remove(url);
+                    executorService.execute(() -> deleteCachedFile(cachedFile));
+                }
+            });
+            return cachedImage;
+        }
+        final Image image = new Image(url, THUMBNAIL_SIZE, THUMBNAIL_SIZE, true, false, true);
+        whenLoaded(image, () -> executorService.execute(() -> save(image, cachedFile)));
+        return image;
+    }
+
+    File getCachedFile(final String url) {
+        final String key = THUMBNAIL_SIZE + "|" + url;
+        return new File(versionFolder, Hashing.sha256().hashString(key, StandardCharsets.UTF_8) + ".png");
+    }
+
+    /**
+     * Runs the action once the image is successfully loaded.
+     */
+    static void whenLoaded(final Image image, final Runnable action) {
+        if (image.getProgress() >= 1) {
+            if (!image.isError()) {
+                action.run();
+            }
+            return;
+        }
+        image.progressProperty().addListener((observable, oldValue, progress) -> {
+            if (progress.doubleValue() >= 1 && !image.isError()) {
+                action.run();
+            }
+        });
+    }
+
+    private void save(final Image image, final File cachedFile) {
+        if (otherVersionsDeleted.compareAndSet(false, true)) {
+            deleteOtherVersions();
+        }
+        File temporaryFile = null;
+        try {
+            Files.createDirectories(versionFolder.toPath());
+            // written aside, so that an interrupted launch does not leave a truncated thumbnail
+            temporaryFile = File.createTempFile("thumbnail", ".png", versionFolder);
+            ImageIO.write(SwingFXUtils.fromFXImage(image, null), "png", temporaryFile);
+            Files.move(temporaryFile.toPath(), cachedFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            log.warn("Failed to save thumbnail {}", cachedFile, e);
+            if (temporaryFile != null) {
+                deleteCachedFile(temporaryFile);
+            }
+        }
+    }
+
+    /**
+     * Deletes the thumbnails cached by the other versions of GazePlay.
+     */
+    private void deleteOtherVersions() {
+        final File[] files = cacheFolder.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (final File file : files) {
+            if (!file.equals(versionFolder)) {
+                log.info("Deleting the cached thumbnails {}", file);
+                FileUtils.deleteQuietly(file);
+            }
+        }
+    }
+
+    private static void deleteCachedFile(final File cachedFile) {
+        try {
+            Files.deleteIfExists(cachedFile.toPath());
+        } catch (final IOException e) {
+            log.warn("Failed to delete cached thumbnail {}", cachedFile, e);
+        }
+    }
+
+}
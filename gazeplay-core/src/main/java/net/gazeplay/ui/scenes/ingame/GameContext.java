@@ -18,7 +18,6 @@ import javafx.scene.layout.Priority;
 import javafx.stage.Stage;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.GamePanelDimensionProvider;
@@ -62,9 +61,6 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
     long endTime = 0;
     boolean limiteUsed =false;
 
-    @Setter
-    private static boolean runAsynchronousStatsPersist = false;
-
     @Getter
     private final Translator translator;
 
@@ -279,20 +275,10 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
 
         soundManager.clear();
         soundManager.destroy();
+        // the sound effects of the next game are not the same
+        ForegroundSoundsUtils.releaseSounds();
 
-        Runnable asynchronousStatsPersistTask = () -> {
-            try {
-                stats.saveStats();
-            } catch (IOException e) {
-                log.error("Failed to save stats file", e);
-            }
-        };
-
-        if (runAsynchronousStatsPersist) {
-            AsyncUiTaskExecutor.getInstance().getExecutorService().execute(asynchronousStatsPersistTask);
-        } else {
-            asynchronousStatsPersistTask.run();
-        }
+        persistStats(stats);
 
         StatsContext statsContext = StatsContextFactory.newInstance(gazePlay, stats);
 
@@ -301,6 +287,17 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
         gazePlay.onDisplayStats(statsContext);
     }
 
+    /**
+     * Captures the stats on the JavaFX thread, their files are then written in the background
+     */
+    private static void persistStats(Stats stats) {
+        try {
+            stats.saveStats();
+        } catch (IOException e) {
+            log.error("Failed to save stats file", e);
+        }
+    }
+
     @Override
     public @NonNull Configuration getConfiguration() {
         return ActiveConfigurationContext.getInstance();
@@ -327,19 +324,7 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
     public void showRoundStats(Stats stats, GameLifeCycle currentGame) {
         stats.stop();
 
-        Runnable asynchronousStatsPersistTask = () -> {
-            try {
-                stats.saveStats();
-            } catch (IOException e) {
-                log.error("Failed to save stats file", e);
-            }
-        };
-
-        if (runAsynchronousStatsPersist) {
-            AsyncUiTaskExecutor.getInstance().getExecutorService().execute(asynchronousStatsPersistTask);
-        } else {
-            asynchronousStatsPersistTask.run();
-        }
+        persistStats(stats);
 
         Dimension2D screenDimension = getGazePlay().getCurrentScreenDimensionSupplier().get();
 
@@ -1,9 +1,5 @@
 package net.gazeplay.ui.scenes.stats;
 
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.Event;
 import javafx.event.EventHandler;
@@ -14,20 +10,18 @@ import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
+import javafx.scene.control.Slider;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.scene.media.MediaView;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.shape.Line;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Shape;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GazePlay;
 import net.gazeplay.commons.configuration.ActiveConfigurationContext;
@@ -50,7 +44,7 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
 
     private final List<CoordinatesTracker> movementHistory;
     private final Label timeLabel;
-    private Timeline clock;
+    private final MovementReplay replay;
     private MediaPlayer player;
     private final List<AreaOfInterestProps> allAOIList;
     private List<CoordinatesTracker> areaOfInterestList;
@@ -82,10 +76,10 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
     private Double previousInfoBoxY;
     private final ArrayList<InitialAreaOfInterestProps> combinedAreaList;
     private final int[] areaMap;
-    private boolean playing = false;
+    private boolean replayStarted = false;
 
     private double highestFixationTime = 0;
-    private int intereatorAOI = 0;
+    private int displayedAOI = -1;
 
     public AreaOfInterest(final GazePlay gazePlay, final Stats stats) {
         super(gazePlay, new BorderPane());
@@ -103,6 +97,10 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         this.dataTreatment();
         calculateAreaOfInterest(0, stats.getStartTime());
 
+        replay = new MovementReplay(movementHistory, graphicsPane);
+        replay.setOnSampleReached(this::displayAreaOfInterest);
+        replay.setOnFinished(this::stopReplay);
+
         areaMap = new int[allAOIList.size()];
         Arrays.fill(areaMap, -1);
         combinedAreaList = computeConnectedArea();
@@ -122,37 +120,7 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         if (stats.getTargetAOIList() != null) {
             final ArrayList<TargetAOI> targetAOIArrayList = stats.getTargetAOIList();
             calculateTargetAOI(targetAOIArrayList);
-
-            long timeTargetAreaStart;
-            long timeTargetAreaEnd;
-            score = 0;
-            int targetAOIIterator = 0;
-
-            for (final AreaOfInterestProps areaOfInterestProps : allAOIList) {
-
-                final long timeAreaStart = areaOfInterestProps.getAreaStartTime();
-                final long timeAreaEnd = areaOfInterestProps.getAreaEndTime();
-                double maxScore = 0;
-                for (targetAOIIterator = 0; targetAOIIterator < targetAOIArrayList.size(); targetAOIIterator++) {
-
-                    timeTargetAreaStart = targetAOIArrayList.get(targetAOIIterator).getTimeStarted();
-                    timeTargetAreaEnd = targetAOIArrayList.get(targetAOIIterator).getTimeEnded();
-
-                    if (timeTargetAreaStart <= timeAreaStart && timeAreaStart <= timeTargetAreaEnd) {
-                        final Shape intersect = Shape.intersect(targetAOIArrayList.get(targetAOIIterator).getPolygon(),
-                            areaOfInterestProps.getAreaOfInterest());
-                        if (intersect.getBoundsInLocal().getWidth() != -1) {
-                            if (intersect.getBoundsInLocal().getWidth()
-                                / (areaOfInterestProps.getAreaOfInterest().getBoundsInLocal().getWidth() - 1)
-                                > maxScore)
-                                maxScore = intersect.getBoundsInLocal().getWidth()
-                                    / (areaOfInterestProps.getAreaOfInterest().getBoundsInLocal().getWidth() - 1);
-                        }
-                    }
-                }
-                score += maxScore;
-            }
-            score /= allAOIList.size();
+            score = calculateScore(allAOIList, targetAOIArrayList);
         }
         final StackPane stackPane = new StackPane();
 
@@ -186,7 +154,7 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
             final SavedStatsInfo savedStatsInfo = stats.getSavedStatsInfo();
             final javafx.scene.image.ImageView screenshot = new javafx.scene.image.ImageView();
             screenshot.setPreserveRatio(true);
-            screenshot.setImage(new Image(savedStatsInfo.getScreenshotFile().toURI().toString()));
+            StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getScreenshotFile(), screenshot);
         }
 
         final GridPane grid = new GridPane();
@@ -205,6 +173,25 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         timeLabel.setTextFill(Color.web("#FFFFFF"));
         timeLabel.setMinSize(100, 0);
         timeLabel.setTextFill(Color.GREEN);
+        replay.positionProperty().addListener((observable, oldValue, position) -> {
+            if (replayStarted) {
+                timeLabel.setText(TimeUnit.MILLISECONDS.toSeconds(position.longValue()) + "");
+            }
+        });
+
+        final Slider progressSlider = new Slider(0, replay.getDuration(), 0);
+        progressSlider.setPrefWidth(300);
+        HBox.setHgrow(progressSlider, Priority.SOMETIMES);
+        replay.positionProperty().addListener((observable, oldValue, position) -> {
+            if (!progressSlider.isValueChanging()) {
+                progressSlider.setValue(position.doubleValue());
+            }
+        });
+        progressSlider.valueProperty().addListener((observable, oldValue, value) -> {
+            if (progressSlider.isValueChanging() || progressSlider.isPressed()) {
+                seekReplay(value.doubleValue());
+            }
+        });
 
         final Label scoreLabel = new Label();
         scoreLabel.setTextFill(Color.WHITE);
@@ -217,9 +204,9 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
 
         final HBox buttonBox = createButtonBox();
         if (stats.getTargetAOIList() != null) {
-            topPane = new HBox(scoreLabel, timeLabel, region2, buttonBox);
+            topPane = new HBox(scoreLabel, timeLabel, progressSlider, region2, buttonBox);
         } else {
-            topPane = new HBox(timeLabel, region2, buttonBox);
+            topPane = new HBox(timeLabel, progressSlider, region2, buttonBox);
         }
 
         topPane.setPadding(new Insets(15, 15, 0, 15));
@@ -264,9 +251,11 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         final Button slowBtn8 = new Button("8X Slow ");
         final Button slowBtn5 = new Button("5X Slow ");
         final Button playBtn = new Button("Play ");
+        final Button pauseBtn = new Button("Pause ");
         final Button cancelBtn = new Button("Cancel ");
 
         playBtn.setPrefSize(100, 20);
+        pauseBtn.setPrefSize(100, 20);
         slowBtn5.setPrefSize(100, 20);
         slowBtn8.setPrefSize(100, 20);
         slowBtn10.setPrefSize(100, 20);
@@ -286,15 +275,23 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         slowBtn10.setOnAction(e -> {
             playButtonPressed(baseProgressRate * 10);
         });
+        pauseBtn.setOnAction(e -> {
+            if (replay.isPlaying()) {
+                replay.pause();
+                if (config.isVideoRecordingEnabled()) {
+                    player.pause();
+                }
+            } else if (replayStarted) {
+                resumeReplay();
+            }
+        });
         cancelBtn.setOnAction(e -> {
-            if (playing) {
-                playing = false;
+            if (replayStarted) {
+                stopReplay();
             }
-            graphicsPane.getChildren().removeAll();
-            addAllInitialArea();
         });
 
-        final HBox buttonBox = new HBox(cancelBtn, playBtn, slowBtn5, slowBtn8, slowBtn10);
+        final HBox buttonBox = new HBox(cancelBtn, playBtn, pauseBtn, slowBtn5, slowBtn8, slowBtn10);
         buttonBox.setSpacing(10);
         buttonBox.setFillHeight(true);
         buttonBox.setPadding(new Insets(10, 10, 10, 10));
@@ -318,9 +315,13 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         }
     }
 
+    /**
+     * @param progressRate the duration of the replay relative to the duration of the session
+     */
     private void playButtonPressed(final double progressRate) {
-        if (!playing) {
-            playing = true;
+        replay.setSpeed(1 / progressRate);
+        if (!replayStarted) {
+            replayStarted = true;
             for (final InitialAreaOfInterestProps areaOfInterestProps : combinedAreaList) {
                 graphicsPane.getChildren().remove(areaOfInterestProps.getAreaOfInterest());
             }
@@ -330,73 +331,70 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
                 player.stop();
                 player.play();
             }
-            intereatorAOI = 0;
-            plotMovement(0, graphicsPane, progressRate);
-            final long startTime = System.currentTimeMillis();
-            clock = new Timeline(new KeyFrame(Duration.ZERO, f -> {
-                final long theTime = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTime);
-                timeLabel.setText(theTime + "");
-            }), new KeyFrame(Duration.seconds(1)));
-            clock.setCycleCount(Animation.INDEFINITE);
-            clock.play();
+            replay.play();
+            displayAreaOfInterest(replay.getCursor() - 1);
+        } else if (!replay.isPlaying()) {
+            resumeReplay();
         }
     }
 
-    private void plotMovement(final int movementIndex, final Pane graphicsPane, final double progressRate) {
-        new Timer().schedule(new TimerTask() {
-            @Override
-            public void run() {
-                final CoordinatesTracker coordinatesTracker = movementHistory.get(movementIndex);
-                final Circle circle;
-                if (movementHistory.get(movementIndex).getIntervalTime() > 11
-                    && movementHistory.get(movementIndex).getDistance() < 20) {
-                    circle = new Circle(coordinatesTracker.getXValue(), coordinatesTracker.getYValue(), 4);
-                    circle.setStroke(Color.LIGHTYELLOW);
-                    circle.setFill(Color.ORANGERED);
-                } else {
-                    circle = new Circle(coordinatesTracker.getXValue(), coordinatesTracker.getYValue(), 3);
-                    circle.setStroke(Color.LIGHTGREEN);
-                    circle.setFill(Color.GREEN);
-                }
+    private void resumeReplay() {
+        if (config.isVideoRecordingEnabled()) {
+            player.play();
+        }
+        replay.play();
+    }
 
-                Platform.runLater(() -> {
-                    if (intereatorAOI < allAOIList.size()) {
-                        if (movementIndex == allAOIList.get(intereatorAOI).getStartingIndex()) {
-                            currentInfoBox = allAOIList.get(intereatorAOI).getInfoBoxProps().getInfoBox();
-                            currentAreaDisplay = allAOIList.get(intereatorAOI).getAreaOfInterest();
-                            currentLineToInfoBox = allAOIList.get(intereatorAOI).getInfoBoxProps().getLineToInfoBox();
-                            graphicsPane.getChildren().add(currentAreaDisplay);
-                            graphicsPane.getChildren().add(currentInfoBox);
-                            graphicsPane.getChildren().add(currentLineToInfoBox);
-                        }
-                        if (movementIndex == allAOIList.get(intereatorAOI).getEndingIndex()) {
-                            graphicsPane.getChildren().remove(currentAreaDisplay);
-                            graphicsPane.getChildren().remove(currentInfoBox);
-                            graphicsPane.getChildren().remove(currentLineToInfoBox);
-                            intereatorAOI++;
-                        }
-                    }
+    private void seekReplay(final double positionMillis) {
+        replay.seek(positionMillis);
+        if (replayStarted) {
+            displayAreaOfInterest(replay.getCursor() - 1);
+        }
+    }
 
-                    graphicsPane.getChildren().add(circle);
-                    new Timer().schedule(new TimerTask() {
-                        @Override
-                        public void run() {
-                            Platform.runLater(() -> graphicsPane.getChildren().remove(circle));
-                        }
-                    }, 2000);
+    /**
+     * Resets the view to how it was before playback started.
+     */
+    private void stopReplay() {
+        replay.stop();
+        hideAreaOfInterest();
+        replayStarted = false;
+        timeLabel.setText("");
+        addAllInitialArea();
+    }
 
-                    if (movementIndex < movementHistory.size() - 1 && playing) {
-                        plotMovement(movementIndex + 1, graphicsPane, progressRate);
-                    } else {
-                        clock.stop();
-                        timeLabel.setText("");
-                        playing = false;
-                        graphicsPane.getChildren().removeAll(); // Reset the view to how it was before playback started.
-                        addAllInitialArea();
-                    }
-                });
+    /**
+     * Displays the area of interest being built at the given movement, if any.
+     */
+    private void displayAreaOfInterest(final int movementIndex) {
+        if (displayedAOI >= 0 && !isInAreaOfInterest(movementIndex, allAOIList.get(displayedAOI))) {
+            hideAreaOfInterest();
+        }
+        if (displayedAOI >= 0) {
+            return;
+        }
+        for (int i = 0; i < allAOIList.size(); i++) {
+            if (isInAreaOfInterest(movementIndex, allAOIList.get(i))) {
+                displayedAOI = i;
+                currentInfoBox = allAOIList.get(i).getInfoBoxProps().getInfoBox();
+                currentAreaDisplay = allAOIList.get(i).getAreaOfInterest();
+                currentLineToInfoBox = allAOIList.get(i).getInfoBoxProps().getLineToInfoBox();
+                // below the markers of the replay
+                graphicsPane.getChildren().addAll(0, List.of(currentAreaDisplay, currentInfoBox, currentLineToInfoBox));
+                return;
             }
-        }, (long) (movementHistory.get(movementIndex).getIntervalTime() * progressRate));
+        }
+    }
+
+    private static boolean isInAreaOfInterest(final int movementIndex, final AreaOfInterestProps areaOfInterestProps) {
+        return areaOfInterestProps.getStartingIndex() <= movementIndex && movementIndex < areaOfInterestProps.getEndingIndex();
+    }
+
+    private void hideAreaOfInterest() {
+        if (displayedAOI >= 0) {
+            graphicsPane.getChildren().removeAll(currentAreaDisplay, currentInfoBox, currentLineToInfoBox);
+            displayedAOI = -1;
+        }
     }
 
     void addAllInitialArea() {
@@ -686,38 +684,78 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         return infoBox;
     }
 
-    private ArrayList<InitialAreaOfInterestProps> computeConnectedArea() {
-        for (int i = 0; i < allAOIList.size(); i++) {
-            AreaOfInterestProps currentAOI = allAOIList.get(i);
+    /**
+     * Scores how well the areas of interest match the targets shown while they were looked at : for each area, the
+     * best ratio between the width of its intersection with a target and its own width, averaged over the areas.
+     */
+    static double calculateScore(final List<AreaOfInterestProps> areasOfInterest, final List<TargetAOI> targetAOIArrayList) {
+        final double[][] targetPolygons = new double[targetAOIArrayList.size()][];
+        final double[][] targetBounds = new double[targetAOIArrayList.size()][];
+        for (int i = 0; i < targetPolygons.length; i++) {
+            targetPolygons[i] = AreaOfInterestGeometry.toArray(targetAOIArrayList.get(i).getPolygon().getPoints());
+            targetBounds[i] = AreaOfInterestGeometry.bounds(targetPolygons[i]);
+        }
 
-            final double areaSize =
-                currentAOI.getAreaOfInterest().getBoundsInLocal().getWidth() *
-                    currentAOI.getAreaOfInterest().getBoundsInLocal().getHeight();
-
-            for (int j = 0; j < allAOIList.size(); j++) {
-                if (allAOIList.get(j).getAreaOfInterest() != currentAOI.getAreaOfInterest()) {
-                    final Shape intersect = Shape.intersect(currentAOI.getAreaOfInterest(),
-                        allAOIList.get(j).getAreaOfInterest());
-
-                    if (intersect.getBoundsInLocal().getWidth() != -1) {
-                        final double toCompareAreaSize =
-                            intersect.getBoundsInLocal().getWidth() *
-                                intersect.getBoundsInLocal().getHeight();
-                        final double combinationThreshHold = 0.70;
-
-                        if ((toCompareAreaSize / areaSize) > combinationThreshHold) {
-                            if (areaMap[j] != -1) {
-                                areaMap[i] = areaMap[j];
-                            } else {
-                                areaMap[i] = i;
-                                areaMap[j] = i;
-                            }
-                            break; // We break here as we have finished calculating this pair of areas.
-                        }
+        double score = 0;
+        for (final AreaOfInterestProps areaOfInterestProps : areasOfInterest) {
+            final long timeAreaStart = areaOfInterestProps.getAreaStartTime();
+            final double[] polygon = AreaOfInterestGeometry.toArray(areaOfInterestProps.getConvexPoints());
+            final double[] bounds = AreaOfInterestGeometry.bounds(polygon);
+            final double width = bounds[2] - bounds[0];
+            double maxScore = 0;
+            for (int i = 0; i < targetPolygons.length; i++) {
+                final TargetAOI targetAOI = targetAOIArrayList.get(i);
+                if (targetAOI.getTimeStarted() <= timeAreaStart && timeAreaStart <= targetAOI.getTimeEnded()
+                    && width > 0 && AreaOfInterestGeometry.boundsOverlap(bounds, targetBounds[i])) {
+                    final double[] intersection = AreaOfInterestGeometry.intersection(polygon, targetPolygons[i]);
+                    if (intersection.length > 0) {
+                        final double[] intersectionBounds = AreaOfInterestGeometry.bounds(intersection);
+                        maxScore = Math.max(maxScore, (intersectionBounds[2] - intersectionBounds[0]) / width);
                     }
                 }
             }
+            score += maxScore;
         }
+        return score / areasOfInterest.size();
+    }
+
+    /**
+     * Maps each area of interest to the first area of the group of areas it is combined with, or -1 if it is not
+     * combined : two areas are combined when 70% of the surface of one of them is covered by the other.
+     */
+    static void combineAreas(final List<AreaOfInterestProps> areasOfInterest, final int[] areaMap) {
+        final double combinationThreshHold = 0.70;
+        final List<double[]> polygons = new ArrayList<>(areasOfInterest.size());
+        for (final AreaOfInterestProps areaOfInterestProps : areasOfInterest) {
+            polygons.add(AreaOfInterestGeometry.toArray(areaOfInterestProps.getConvexPoints()));
+        }
+        // only the areas whose bounds overlap can intersect
+        final int[][] neighbours = AreaOfInterestGeometry.overlappingBounds(polygons);
+
+        for (int i = 0; i < polygons.size(); i++) {
+            final double areaSize = AreaOfInterestGeometry.area(polygons.get(i));
+            if (areaSize == 0) {
+                continue;
+            }
+            for (final int j : neighbours[i]) {
+                final double toCompareAreaSize = AreaOfInterestGeometry.area(
+                    AreaOfInterestGeometry.intersection(polygons.get(i), polygons.get(j)));
+
+                if ((toCompareAreaSize / areaSize) > combinationThreshHold) {
+                    if (areaMap[j] != -1) {
+                        areaMap[i] = areaMap[j];
+                    } else {
+                        areaMap[i] = i;
+                        areaMap[j] = i;
+                    }
+                    break; // We break here as we have finished calculating this pair of areas.
+                }
+            }
+        }
+    }
+
+    private ArrayList<InitialAreaOfInterestProps> computeConnectedArea() {
+        combineAreas(allAOIList, areaMap);
 
         final ArrayList<InitialAreaOfInterestProps> listOfCombinedPolygons = new ArrayList<>();
 
@@ -759,7 +797,7 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
                 final int finalI = i;
 
                 tempPolygon.setOnMouseEntered(event -> {
-                    if (!playing) {
+                    if (!replayStarted) {
                         if (areaMap[finalI] == -1) {
                             finalTempPolygon.setFill(Color.rgb(255, 0, 0, allAOIList.get(finalI).getPriority() + 0.15));
                         } else {
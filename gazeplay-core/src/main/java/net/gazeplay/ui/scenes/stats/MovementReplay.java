@@ -0,0 +1,255 @@
+package net.gazeplay.ui.scenes.stats;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import lombok.Getter;
+import lombok.Setter;
+import net.gazeplay.commons.utils.stats.CoordinatesTracker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Replays the movements recorded during a session, as a trail of markers following the gaze.
+ * <p>
+ * The replay is driven by the pulses of JavaFX : each pulse advances the position in the session by the elapsed time
+ * multiplied by the speed, then displays the samples reached. The markers are taken from a fixed pool and recycled,
+ * so that the replay of a long session creates neither threads nor nodes.
+ */
+class MovementReplay {
+
+    /**
+     * how long a marker stays displayed, in the time of the viewer
+     */
+    static final double TRAIL_DURATION_MILLIS = 2000;
+
+    static final int MAX_MARKERS = 512;
+
+    private final List<CoordinatesTracker> movementHistory;
+
+    /**
+     * the time of each sample since the start of the replay, in the time of the session
+     */
+    private final long[] sampleTimes;
+
+    private final Circle[] markers = new Circle[MAX_MARKERS];
+
+    /**
+     * the sample displayed by each marker, -1 when the marker is hidden
+     */
+    private final int[] markerSamples = new int[MAX_MARKERS];
+
+    private final Pane graphicsPane;
+
+    private final AnimationTimer timer;
+
+    private final ReadOnlyDoubleWrapper position = new ReadOnlyDoubleWrapper();
+
+    private final ReadOnlyBooleanWrapper playing = new ReadOnlyBooleanWrapper();
+
+    /**
+     * the index of the next sample to display
+     */
+    @Getter
+    private int cursor;
+
+    private int nextMarker;
+
+    private long lastPulseNanos = -1;
+
+    @Getter
+    @Setter
+    private double speed = 1;
+
+    /**
+     * called with the index of the last sample displayed, once by pulse
+     */
+    @Setter
+    private IntConsumer onSampleReached = index -> {
+    };
+
+    @Setter
+    private Runnable onFinished = () -> {
+    };
+
+    MovementReplay(final List<CoordinatesTracker> movementHistory, final Pane graphicsPane) {
+        this.movementHistory = movementHistory;
+        this.graphicsPane = graphicsPane;
+        this.sampleTimes = new long[movementHistory.size()];
+        long time = 0;
+        for (int i = 0; i < sampleTimes.length; i++) {
+            time += movementHistory.get(i).getIntervalTime();
+            sampleTimes[i] = time;
+        }
+        for (int i = 0; i < MAX_MARKERS; i++) {
+            markers[i] = new Circle();
+            markers[i].setMouseTransparent(true);
+            markers[i].setVisible(false);
+        }
+        Arrays.fill(markerSamples, -1);
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(final long now) {
+                if (lastPulseNanos >= 0) {
+                    advance((now - lastPulseNanos) / 1_000_000d);
+                }
+                lastPulseNanos = now;
+            }
+        };
+    }
+
+    /**
+     * @return the duration of the session, in milliseconds
+     */
+    double getDuration() {
+        return sampleTimes.length == 0 ? 0 : sampleTimes[sampleTimes.length - 1];
+    }
+
+    /**
+     * @return the position of the replay in the session, in milliseconds
+     */
+    ReadOnlyDoubleProperty positionProperty() {
+        return position.getReadOnlyProperty();
+    }
+
+    ReadOnlyBooleanProperty playingProperty() {
+        return playing.getReadOnlyProperty();
+    }
+
+    boolean isPlaying() {
+        return playing.get();
+    }
+
+    void play() {
+        if (playing.get()) {
+            return;
+        }
+        if (cursor >= sampleTimes.length) {
+            seek(0);
+        }
+        if (!graphicsPane.getChildren().contains(markers[0])) {
+            graphicsPane.getChildren().addAll(markers);
+        }
+        playing.set(true);
+        lastPulseNanos = -1;
+        timer.start();
+    }
+
+    void pause() {
+        timer.stop();
+        playing.set(false);
+    }
+
+    /**
+     * Stops the replay, and removes the markers.
+     */
+    void stop() {
+        pause();
+        seek(0);
+        graphicsPane.getChildren().removeAll(Arrays.asList(markers));
+    }
+
+    /**
+     * Moves the replay to the given position in the session, in milliseconds. The trail is cleared, and the samples
+     * are displayed from there.
+     */
+    void seek(final double positionMillis) {
+        final double newPosition = Math.max(0, Math.min(positionMillis, getDuration()));
+        for (int i = 0; i < MAX_MARKERS; i++) {
+            hideMarker(i);
+        }
+        position.set(newPosition);
+        cursor = firstSampleAfter(newPosition);
+    }
+
+    /**
+     * @return the index of the first sample whose time is strictly after the position
+     */
+    private int firstSampleAfter(final double positionMillis) {
+        int low = 0;
+        int high = sampleTimes.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sampleTimes[middle] <= positionMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Advances the replay by the time elapsed for the viewer, displaying the samples reached.
+     */
+    void advance(final double elapsedMillis) {
+        final double newPosition = Math.min(position.get() + elapsedMillis * speed, getDuration());
+        final double trailStart = newPosition - TRAIL_DURATION_MILLIS * speed;
+
+        final int firstReached = cursor;
+        while (cursor < sampleTimes.length && sampleTimes[cursor] <= newPosition) {
+            // samples which would already have faded are skipped, when a pulse is late or the speed is high
+            if (sampleTimes[cursor] > trailStart) {
+                showMarker(cursor);
+            }
+            cursor++;
+        }
+        for (int i = 0; i < MAX_MARKERS; i++) {
+            if (markerSamples[i] >= 0 && sampleTimes[markerSamples[i]] <= trailStart) {
+                hideMarker(i);
+            }
+        }
+        position.set(newPosition);
+
+        if (cursor > firstReached) {
+            onSampleReached.accept(cursor - 1);
+        }
+        if (cursor >= sampleTimes.length) {
+            pause();
+            onFinished.run();
+        }
+    }
+
+    private void showMarker(final int sampleIndex) {
+        // when the pool is exhausted, the oldest marker is recycled
+        final Circle marker = markers[nextMarker];
+        final CoordinatesTracker coordinatesTracker = movementHistory.get(sampleIndex);
+        marker.setCenterX(coordinatesTracker.getXValue());
+        marker.setCenterY(coordinatesTracker.getYValue());
+        if (coordinatesTracker.getIntervalTime() > 11 && coordinatesTracker.getDistance() < 20) {
+            marker.setRadius(4);
+            marker.setStroke(Color.LIGHTYELLOW);
+            marker.setFill(Color.ORANGERED);
+        } else {
+            marker.setRadius(3);
+            marker.setStroke(Color.LIGHTGREEN);
+            marker.setFill(Color.GREEN);
+        }
+        marker.setVisible(true);
+        markerSamples[nextMarker] = sampleIndex;
+        nextMarker = (nextMarker + 1) % MAX_MARKERS;
+    }
+
+    private void hideMarker(final int markerIndex) {
+        markers[markerIndex].setVisible(false);
+        markerSamples[markerIndex] = -1;
+    }
+
+    int getVisibleMarkerCount() {
+        int count = 0;
+        for (final int sample : markerSamples) {
+            if (sample >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
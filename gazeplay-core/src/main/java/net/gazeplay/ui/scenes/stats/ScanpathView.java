@@ -5,7 +5,6 @@ import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.geometry.Dimension2D;
 import javafx.scene.Node;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.BorderPane;
@@ -24,6 +23,7 @@ import net.gazeplay.commons.utils.FixationPoint;
 import net.gazeplay.commons.utils.FixationSequence;
 import net.gazeplay.commons.utils.HomeButton;
 import net.gazeplay.commons.utils.stats.SavedStatsInfo;
+import net.gazeplay.commons.utils.stats.StatDisplayUtils;
 import net.gazeplay.commons.utils.stats.Stats;
 import net.gazeplay.ui.GraphicalContext;
 
@@ -60,7 +60,8 @@ public class ScanpathView extends GraphicalContext<BorderPane> {
         final Pane center = new Pane();
 
         SavedStatsInfo savedStatsInfo = stats.getSavedStatsInfo();
-        ImageView scanPathView = new ImageView(new Image(savedStatsInfo.getGazeMetricsFileMouseAndGaze().toURI().toString()));
+        ImageView scanPathView = new ImageView();
+        StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouseAndGaze(), scanPathView);
         center.getChildren().add(scanPathView);
 
         final List<Circle> pointsMouse = initFixationSequenceCircleList(stats, center, FixationSequence.MOUSE_FIXATION_SEQUENCE);
@@ -74,7 +75,7 @@ public class ScanpathView extends GraphicalContext<BorderPane> {
             center.getChildren().removeAll(pointsMouse);
             center.getChildren().removeAll(pointsGaze);
             center.getChildren().addAll(pointsMouse);
-            scanPathView.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouse().toURI().toString()));
+            StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouse(), scanPathView);
         });
 
         I18NButton displayGazeButton = new I18NButton(getGazePlay().getTranslator(), "Gaze");
@@ -82,7 +83,7 @@ public class ScanpathView extends GraphicalContext<BorderPane> {
             center.getChildren().removeAll(pointsMouse);
             center.getChildren().removeAll(pointsGaze);
             center.getChildren().addAll(pointsGaze);
-            scanPathView.setImage(new Image(savedStatsInfo.getGazeMetricsFileGaze().toURI().toString()));
+            StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileGaze(), scanPathView);
         });
 
         I18NButton displayMouseAndGazeButton = new I18NButton(getGazePlay().getTranslator(), "MouseAndGaze");
@@ -91,7 +92,7 @@ public class ScanpathView extends GraphicalContext<BorderPane> {
             center.getChildren().removeAll(pointsGaze);
             center.getChildren().addAll(pointsMouse);
             center.getChildren().addAll(pointsGaze);
-            scanPathView.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouseAndGaze().toURI().toString()));
+            StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouseAndGaze(), scanPathView);
         });
 
         HBox buttonSwitchMetrics = new HBox(displayMouseButton, displayGazeButton, displayMouseAndGazeButton);
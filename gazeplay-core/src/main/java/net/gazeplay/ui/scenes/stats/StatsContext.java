@@ -11,7 +11,6 @@ import javafx.scene.Node;
 import javafx.scene.chart.AreaChart;
 import javafx.scene.chart.LineChart;
 import javafx.scene.control.RadioButton;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
@@ -148,13 +147,13 @@ public class StatsContext extends GraphicalContext<BorderPane> {
             SavedStatsInfo savedStatsInfo = stats.getSavedStatsInfo();
             switch (buttonName) {
                 case "Mouse":
-                    metrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouse().toURI().toString()));
+                    StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouse(), metrics);
                     break;
                 case "Gaze":
-                    metrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileGaze().toURI().toString()));
+                    StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileGaze(), metrics);
                     break;
                 default: // "MouseAndGaze"
-                    metrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouseAndGaze().toURI().toString()));
+                    StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouseAndGaze(), metrics);
                     break;
             }
         });
@@ -0,0 +1,47 @@
+package net.gazeplay;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StartupTimingReportTest {
+
+    private final AtomicLong clock = new AtomicLong(1000);
+
+    private final StartupTimingReport report = new StartupTimingReport(0, clock::get);
+
+    @Test
+    void shouldReportTheDurationOfEachPhase() {
+        report.mark(StartupTimingReport.Phase.SPRING_CONTEXT);
+        clock.set(1200);
+        report.mark(StartupTimingReport.Phase.GAME_LIST);
+        clock.set(1500);
+        report.mark(StartupTimingReport.Phase.FIRST_FRAME);
+
+        assertEquals("JVM start -> Spring context +1000 ms -> game list +200 ms -> first frame +300 ms, first frame 1500 ms after JVM start",
+            report.toString());
+    }
+
+    @Test
+    void shouldReportThePendingPhases() {
+        report.mark(StartupTimingReport.Phase.SPRING_CONTEXT);
+        clock.set(1500);
+        report.mark(StartupTimingReport.Phase.FIRST_FRAME);
+
+        assertEquals("JVM start -> Spring context +1000 ms -> game list pending -> first frame +500 ms, first frame 1500 ms after JVM start",
+            report.toString());
+        assertEquals(-1, report.getElapsedMillis(StartupTimingReport.Phase.GAME_LIST));
+    }
+
+    @Test
+    void shouldKeepTheFirstTimeAPhaseIsReached() {
+        report.mark(StartupTimingReport.Phase.SPRING_CONTEXT);
+        clock.set(2000);
+        report.mark(StartupTimingReport.Phase.SPRING_CONTEXT);
+
+        assertEquals(1000, report.getElapsedMillis(StartupTimingReport.Phase.SPRING_CONTEXT));
+    }
+
+}
@@ -14,6 +14,7 @@ import javafx.scene.input.PickResult;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import net.gazeplay.GazePlay;
+import net.gazeplay.TestingUtils;
 import net.gazeplay.commons.utils.FixationPoint;
 import net.gazeplay.commons.utils.HomeButton;
 import net.gazeplay.commons.utils.screen.ScreenDimensionSupplier;
@@ -242,6 +243,8 @@ class StatDisplayUtilsTest {
         final File mockFile = new File("bear.jpg");
         final SavedStatsInfo mockSavedStatsInfo = new SavedStatsInfo(mockFile, mockFile, mockFile, mockFile, mockFile, mockFile);
 
+        mockSavedStatsInfo.notifyFilesReady();
+
         when(mockStats.getSavedStatsInfo()).thenReturn(mockSavedStatsInfo);
 
         final ImageView imageView = StatDisplayUtils.buildGazeMetrics(mockStats, mockRegion);
@@ -249,6 +252,40 @@ class StatDisplayUtilsTest {
         assertTrue(imageView.getImage().getUrl().contains("bear.jpg"));
     }
 
+    @Test
+    void shouldDisplayTheGazeMetricsOnceWritten() throws InterruptedException {
+        final File mockFile = new File("bear.jpg");
+        final SavedStatsInfo mockSavedStatsInfo = new SavedStatsInfo(mockFile, new File("mouse.png"), new File("gaze.png"), mockFile,
+            new File("screenshot.png"), new File("colorBands.png"));
+
+        when(mockStats.getSavedStatsInfo()).thenReturn(mockSavedStatsInfo);
+
+        final ImageView imageView = StatDisplayUtils.buildGazeMetrics(mockStats, mockRegion);
+        assertNull(imageView.getImage());
+
+        mockSavedStatsInfo.notifyFileReady(new File("gaze.png"));
+        TestingUtils.waitForRunLater();
+        assertNull(imageView.getImage());
+
+        mockSavedStatsInfo.notifyFileReady(mockFile);
+        TestingUtils.waitForRunLater();
+        assertTrue(imageView.getImage().getUrl().contains("bear.jpg"));
+    }
+
+    @Test
+    void shouldDisplayOnlyTheLastRequestedFile() throws InterruptedException {
+        final SavedStatsInfo savedStatsInfo = new SavedStatsInfo(new File("heatmap.csv"), new File("bear.jpg"), new File("bear.png"),
+            new File("mouseAndGaze.png"), new File("screenshot.png"), new File("colorBands.png"));
+        final ImageView imageView = new ImageView();
+
+        StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouse(), imageView);
+        StatDisplayUtils.displayWhenReady(savedStatsInfo, savedStatsInfo.getGazeMetricsFileGaze(), imageView);
+        savedStatsInfo.notifyFilesReady();
+        TestingUtils.waitForRunLater();
+
+        assertTrue(imageView.getImage().getUrl().contains("bear.png"));
+    }
+
     @Test
     void shouldZoomInToGazeMetrics() {
         final File mockFile = new File("bear.jpg");
@@ -0,0 +1,81 @@
+package net.gazeplay.gameslocator;
+
+import net.gazeplay.GameSpec;
+import net.gazeplay.commons.ui.Translator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingGamesLocatorTest {
+
+    @Mock
+    private GamesLocator mockDelegate;
+
+    @Mock
+    private Translator mockTranslator;
+
+    @Mock
+    private GameSpec mockGameSpec;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    void shouldListTheGamesOnce() {
+        when(mockDelegate.listGames(mockTranslator)).thenReturn(List.of(mockGameSpec));
+        CachingGamesLocator gamesLocator = new CachingGamesLocator(mockDelegate);
+
+        List<GameSpec> first = gamesLocator.listGames(mockTranslator);
+        List<GameSpec> second = gamesLocator.listGames(mockTranslator);
+
+        assertEquals(List.of(mockGameSpec), first);
+        assertSame(first, second);
+        verify(mockDelegate, times(1)).listGames(mockTranslator);
+    }
+
+    @Test
+    void shouldWaitForTheGamesListedInBackground() {
+        when(mockDelegate.listGames(mockTranslator)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return List.of(mockGameSpec);
+        });
+        CachingGamesLocator gamesLocator = new CachingGamesLocator(mockDelegate);
+
+        gamesLocator.listGamesInBackground(mockTranslator);
+        List<GameSpec> result = gamesLocator.listGames(mockTranslator);
+
+        assertEquals(List.of(mockGameSpec), result);
+        verify(mockDelegate, times(1)).listGames(mockTranslator);
+    }
+
+    @Test
+    void shouldRethrowTheFailureOfTheDelegate() {
+        when(mockDelegate.listGames(mockTranslator)).thenThrow(new IllegalStateException("no catalog"));
+        CachingGamesLocator gamesLocator = new CachingGamesLocator(mockDelegate);
+
+        assertThrows(IllegalStateException.class, () -> gamesLocator.listGames(mockTranslator));
+    }
+
+    @Test
+    void shouldListTheGamesAgainAfterAFailure() {
+        when(mockDelegate.listGames(mockTranslator))
+            .thenThrow(new IllegalStateException("no catalog"))
+            .thenReturn(List.of(mockGameSpec));
+        CachingGamesLocator gamesLocator = new CachingGamesLocator(mockDelegate);
+
+        assertThrows(IllegalStateException.class, () -> gamesLocator.listGames(mockTranslator));
+        List<GameSpec> result = gamesLocator.listGames(mockTranslator);
+
+        assertEquals(List.of(mockGameSpec), result);
+        verify(mockDelegate, times(2)).listGames(mockTranslator);
+    }
+
+}
@@ -23,6 +23,7 @@ import net.gazeplay.GazePlay;
 import net.gazeplay.TestingUtils;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.EyeTracker;
+import net.gazeplay.commons.gaze.devicemanager.GazeFilterType;
 import net.gazeplay.commons.themes.BuiltInUiTheme;
 import net.gazeplay.commons.ui.I18NText;
 import net.gazeplay.commons.ui.Translator;
@@ -431,6 +432,23 @@ class ConfigurationContextTest {
         assertEquals("eyetribe", eyeTrackerProperty.getValue());
     }
 
+    @Test
+    void shouldBuildGazeFilterChooser() {
+        ObjectProperty<GazeFilterType> gazeFilterProperty = new SimpleObjectProperty<>(GazeFilterType.NONE);
+
+        when(mockConfig.getGazeFilter()).thenReturn(gazeFilterProperty.getValue());
+        when(mockConfig.getGazeFilterProperty()).thenReturn(gazeFilterProperty);
+
+        ChoiceBox<GazeFilterType> result = ConfigurationContext.buildGazeFilterChooser(mockConfig);
+
+        assertEquals(GazeFilterType.values().length, result.getItems().size());
+        assertEquals(GazeFilterType.NONE, result.getValue());
+
+        result.setValue(GazeFilterType.ONE_EURO);
+
+        assertEquals(GazeFilterType.ONE_EURO, gazeFilterProperty.getValue());
+    }
+
     @Test
     void shouldBuildCheckBox() throws InterruptedException {
         BooleanProperty testProperty = new SimpleBooleanProperty(true);
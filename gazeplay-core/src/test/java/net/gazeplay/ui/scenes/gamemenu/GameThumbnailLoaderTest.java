@@ -0,0 +1,80 @@
+package net.gazeplay.ui.scenes.gamemenu;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+class GameThumbnailLoaderTest {
+
+    private static final String THUMBNAIL = "data/common/images/bravo.png";
+
+    private static void waitForLoading(final Image image) throws TimeoutException {
+        WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> image.getProgress() >= 1);
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
+    @Test
+    void shouldScaleTheThumbnail(@TempDir final Path cacheFolder) throws TimeoutException {
+        final GameThumbnailLoader loader = new GameThumbnailLoader(cacheFolder.toFile(), "1.0");
+
+        final Image thumbnail = loader.loadThumbnail(THUMBNAIL);
+        waitForLoading(thumbnail);
+
+        assertFalse(thumbnail.isError());
+        assertEquals(GameThumbnailLoader.THUMBNAIL_SIZE, thumbnail.getWidth());
+        assertSame(thumbnail, loader.loadThumbnail(THUMBNAIL));
+    }
+
+    @Test
+    void shouldLoadTheCachedThumbnailOnNextLaunch(@TempDir final Path cacheFolder) throws TimeoutException {
+        final GameThumbnailLoader loader = new GameThumbnailLoader(cacheFolder.toFile(), "1.0");
+        final File cachedFile = loader.getCachedFile(THUMBNAIL);
+        waitForLoading(loader.loadThumbnail(THUMBNAIL));
+        WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, cachedFile::isFile);
+
+        final GameThumbnailLoader nextLaunchLoader = new GameThumbnailLoader(cacheFolder.toFile(), "1.0");
+        final Image thumbnail = nextLaunchLoader.loadThumbnail(THUMBNAIL);
+        waitForLoading(thumbnail);
+
+        assertEquals(cachedFile.toURI().toString(), thumbnail.getUrl());
+        assertEquals(GameThumbnailLoader.THUMBNAIL_SIZE, thumbnail.getWidth());
+    }
+
+    @Test
+    void shouldNotShareTheCacheBetweenVersions(@TempDir final Path cacheFolder) {
+        final GameThumbnailLoader loader = new GameThumbnailLoader(cacheFolder.toFile(), "1.0");
+        final GameThumbnailLoader otherVersionLoader = new GameThumbnailLoader(cacheFolder.toFile(), "1.1");
+
+        assertNotEquals(loader.getCachedFile(THUMBNAIL), otherVersionLoader.getCachedFile(THUMBNAIL));
+    }
+
+    @Test
+    void shouldDeleteTheThumbnailsOfOtherVersions(@TempDir final Path cacheFolder) throws IOException, TimeoutException {
+        final GameThumbnailLoader otherVersionLoader = new GameThumbnailLoader(cacheFolder.toFile(), "1.0");
+        final File otherVersionFile = otherVersionLoader.getCachedFile(THUMBNAIL);
+        Files.createDirectories(otherVersionFile.getParentFile().toPath());
+        Files.createFile(otherVersionFile.toPath());
+
+        final GameThumbnailLoader loader = new GameThumbnailLoader(cacheFolder.toFile(), "1.1");
+        final File cachedFile = loader.getCachedFile(THUMBNAIL);
+        waitForLoading(loader.loadThumbnail(THUMBNAIL));
+        WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, cachedFile::isFile);
+
+        assertFalse(otherVersionFile.getParentFile().exists());
+        assertEquals(cacheFolder.toFile(), cachedFile.getParentFile().getParentFile());
+    }
+
+}
@@ -67,7 +67,7 @@ class AreaOfInterestTest {
 
         HBox result = areaOfInterest.createButtonBox();
 
-        assertEquals(5, result.getChildren().size());
+        assertEquals(6, result.getChildren().size());
     }
 
     @Test
@@ -196,4 +196,39 @@ class AreaOfInterestTest {
         assertEquals(6, result1.getRowCount());
         assertEquals(5, result2.getRowCount());
     }
+
+    private static AreaOfInterestProps createAreaOfInterest(final long startTime, final Double... convexPoints) {
+        return new AreaOfInterestProps(List.of(new CoordinatesTracker(0, 0, 10, startTime)), 0, 0, convexPoints,
+            new Point2D[0], 0, 1, new Polygon(), null, startTime, startTime + 10);
+    }
+
+    @Test
+    void shouldCombineOverlappingAreas() {
+        List<AreaOfInterestProps> areas = List.of(
+            createAreaOfInterest(0, 0d, 0d, 100d, 0d, 100d, 100d, 0d, 100d),
+            createAreaOfInterest(0, 500d, 500d, 600d, 500d, 600d, 600d),
+            createAreaOfInterest(0, 10d, 10d, 100d, 10d, 100d, 100d, 10d, 100d),
+            createAreaOfInterest(0, 50d, 50d, 200d, 50d, 200d, 200d, 50d, 200d)
+        );
+        int[] areaMap = {-1, -1, -1, -1};
+
+        AreaOfInterest.combineAreas(areas, areaMap);
+
+        assertArrayEquals(new int[]{0, -1, 0, -1}, areaMap);
+    }
+
+    @Test
+    void shouldCalculateScore() {
+        TargetAOI target = new TargetAOI(500, 500, 300, 1000);
+        target.setTimeEnded(2000);
+        AreaOfInterest.calculateTargetAOI(new ArrayList<>(List.of(target)));
+
+        List<AreaOfInterestProps> areas = List.of(
+            createAreaOfInterest(1500, 700d, 300d, 900d, 300d, 900d, 400d, 700d, 400d),
+            createAreaOfInterest(3000, 700d, 300d, 900d, 300d, 900d, 400d, 700d, 400d)
+        );
+
+        // the first area is half in the target, the second one is looked at after the target
+        assertEquals(0.5 * (115d / 200d), AreaOfInterest.calculateScore(areas, List.of(target)), 1e-9);
+    }
 }
@@ -0,0 +1,130 @@
+package net.gazeplay.ui.scenes.stats;
+
+import javafx.scene.layout.Pane;
+import net.gazeplay.commons.utils.stats.CoordinatesTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+class MovementReplayTest {
+
+    private Pane graphicsPane;
+
+    @BeforeEach
+    void setup() {
+        graphicsPane = new Pane();
+    }
+
+    /**
+     * @return a history of samples taken every 10 ms
+     */
+    private static List<CoordinatesTracker> createHistory(final int size) {
+        final List<CoordinatesTracker> history = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            history.add(new CoordinatesTracker(i % 1000, i % 500, 10, i * 10L));
+        }
+        return history;
+    }
+
+    @Test
+    void shouldDisplayTheSamplesReached() {
+        final MovementReplay replay = new MovementReplay(createHistory(100), graphicsPane);
+        final AtomicInteger lastSample = new AtomicInteger(-1);
+        replay.setOnSampleReached(lastSample::set);
+
+        replay.advance(55);
+
+        assertEquals(5, replay.getCursor());
+        assertEquals(4, lastSample.get());
+        assertEquals(5, replay.getVisibleMarkerCount());
+        assertEquals(55, replay.positionProperty().get());
+    }
+
+    @Test
+    void shouldApplyTheSpeed() {
+        final MovementReplay replay = new MovementReplay(createHistory(100), graphicsPane);
+        replay.setSpeed(2);
+
+        replay.advance(50);
+
+        assertEquals(10, replay.getCursor());
+    }
+
+    @Test
+    void shouldHideTheMarkersAfterTheTrailDuration() {
+        final MovementReplay replay = new MovementReplay(createHistory(1000), graphicsPane);
+
+        replay.advance(100);
+        replay.advance(MovementReplay.TRAIL_DURATION_MILLIS);
+
+        assertEquals(200, replay.getVisibleMarkerCount());
+    }
+
+    @Test
+    void shouldRecycleABoundedNumberOfMarkers() {
+        final MovementReplay replay = new MovementReplay(createHistory(200_000), graphicsPane);
+        replay.setSpeed(100);
+        replay.play();
+
+        for (int i = 0; i < 100; i++) {
+            replay.advance(16);
+        }
+
+        assertEquals(MovementReplay.MAX_MARKERS, graphicsPane.getChildren().size());
+        assertTrue(replay.getVisibleMarkerCount() <= MovementReplay.MAX_MARKERS);
+        assertEquals(16_000, replay.getCursor());
+        replay.stop();
+    }
+
+    @Test
+    void shouldSeek() {
+        final MovementReplay replay = new MovementReplay(createHistory(100), graphicsPane);
+        replay.advance(500);
+
+        replay.seek(205);
+
+        assertEquals(20, replay.getCursor());
+        assertEquals(0, replay.getVisibleMarkerCount());
+
+        replay.seek(-10);
+        assertEquals(0, replay.getCursor());
+    }
+
+    @Test
+    void shouldFinishAtTheEndOfTheSession() {
+        final MovementReplay replay = new MovementReplay(createHistory(100), graphicsPane);
+        final AtomicBoolean finished = new AtomicBoolean();
+        replay.setOnFinished(() -> finished.set(true));
+        replay.play();
+
+        replay.advance(999);
+        assertFalse(finished.get());
+        replay.advance(10);
+
+        assertTrue(finished.get());
+        assertFalse(replay.isPlaying());
+        assertEquals(1000, replay.positionProperty().get());
+    }
+
+    @Test
+    void shouldRemoveTheMarkersOnStop() {
+        final MovementReplay replay = new MovementReplay(createHistory(100), graphicsPane);
+        replay.play();
+        replay.advance(100);
+
+        replay.stop();
+
+        assertTrue(graphicsPane.getChildren().isEmpty());
+        assertEquals(0, replay.getCursor());
+    }
+
+}
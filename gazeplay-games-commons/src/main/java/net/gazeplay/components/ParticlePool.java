@@ -0,0 +1,152 @@
+package net.gazeplay.components;
+
+import javafx.animation.Interpolator;
+import javafx.animation.Transition;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Circle;
+import javafx.util.Duration;
+import lombok.Setter;
+import net.gazeplay.commons.random.ReplayablePseudoRandom;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of particles, for the explosion effects of the games.
+ * <p>
+ * The particles and their animations are allocated once : an explosion takes the next idle burst of particles and
+ * replays its animation from the new position, so that a sustained play does not allocate anything for its effects.
+ * When all the bursts are playing, the oldest one is restarted.
+ */
+public class ParticlePool {
+
+    private final ObservableList<Node> layer;
+
+    private final Burst[] bursts;
+
+    private final ReplayablePseudoRandom random = new ReplayablePseudoRandom();
+
+    private int nextBurst;
+
+    @Setter
+    private Interpolator horizontalInterpolator = Interpolator.EASE_OUT;
+
+    @Setter
+    private Interpolator verticalInterpolator = Interpolator.EASE_OUT;
+
+    /**
+     * @param layer        the children list to which the particles are added, on their first explosion
+     * @param burstCount   the maximal number of explosions playing at the same time
+     * @param fillSupplier the fill of each particle, called once by particle
+     */
+    public ParticlePool(final ObservableList<Node> layer, final int burstCount, final int particlesByBurst,
+                        final double particleRadius, final Supplier<Paint> fillSupplier, final Duration duration) {
+        this.layer = layer;
+        this.bursts = new Burst[burstCount];
+        for (int i = 0; i < burstCount; i++) {
+            final Circle[] particles = new Circle[particlesByBurst];
+            for (int j = 0; j < particlesByBurst; j++) {
+                particles[j] = new Circle(particleRadius, fillSupplier.get());
+                particles[j].setMouseTransparent(true);
+                particles[j].setVisible(false);
+            }
+            bursts[i] = new Burst(particles, duration);
+        }
+    }
+
+    /**
+     * Explodes a burst of particles from the given center, each particle going to a random destination in the given
+     * bounds while fading out.
+     */
+    public void explode(final double centerX, final double centerY,
+                        final double minX, final double minY, final double maxX, final double maxY) {
+        final Burst burst = nextBurst();
+        burst.stop();
+        if (!layer.contains(burst.particles[0])) {
+            layer.addAll(burst.particles);
+        }
+        for (int i = 0; i < burst.particles.length; i++) {
+            burst.fromX[i] = centerX;
+            burst.fromY[i] = centerY;
+            burst.toX[i] = minX + random.nextDouble() * (maxX - minX);
+            burst.toY[i] = minY + random.nextDouble() * (maxY - minY);
+        }
+        burst.playFromStart();
+    }
+
+    private Burst nextBurst() {
+        for (int i = 0; i < bursts.length; i++) {
+            final Burst burst = bursts[(nextBurst + i) % bursts.length];
+            if (burst.getStatus() != Transition.Status.RUNNING) {
+                nextBurst = (nextBurst + i + 1) % bursts.length;
+                return burst;
+            }
+        }
+        // all the bursts are playing, the next one in turn is the oldest
+        final Burst oldest = bursts[nextBurst];
+        nextBurst = (nextBurst + 1) % bursts.length;
+        return oldest;
+    }
+
+    /**
+     * Stops the explosions and removes the particles from the layer.
+     */
+    public void clear() {
+        for (final Burst burst : bursts) {
+            burst.stop();
+            burst.hide();
+            layer.removeAll(Arrays.asList(burst.particles));
+        }
+    }
+
+    int getBurstCount() {
+        return bursts.length;
+    }
+
+    Circle[] getParticles(final int burstIndex) {
+        return bursts[burstIndex].particles;
+    }
+
+    private class Burst extends Transition {
+
+        private final Circle[] particles;
+
+        private final double[] fromX;
+
+        private final double[] fromY;
+
+        private final double[] toX;
+
+        private final double[] toY;
+
+        Burst(final Circle[] particles, final Duration duration) {
+            this.particles = particles;
+            this.fromX = new double[particles.length];
+            this.fromY = new double[particles.length];
+            this.toX = new double[particles.length];
+            this.toY = new double[particles.length];
+            setCycleDuration(duration);
+            setInterpolator(Interpolator.LINEAR);
+            setOnFinished(actionEvent -> hide());
+        }
+
+        @Override
+        protected void interpolate(final double frac) {
+            for (int i = 0; i < particles.length; i++) {
+                particles[i].setCenterX(horizontalInterpolator.interpolate(fromX[i], toX[i], frac));
+                particles[i].setCenterY(verticalInterpolator.interpolate(fromY[i], toY[i], frac));
+                particles[i].setOpacity(1 - frac);
+                particles[i].setVisible(true);
+            }
+        }
+
+        void hide() {
+            for (final Circle particle : particles) {
+                particle.setVisible(false);
+            }
+        }
+    }
+
+}
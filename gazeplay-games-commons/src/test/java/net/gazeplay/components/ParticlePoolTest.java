@@ -0,0 +1,85 @@
+package net.gazeplay.components;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.util.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+class ParticlePoolTest {
+
+    private ObservableList<Node> layer;
+
+    private ParticlePool pool;
+
+    @BeforeEach
+    void setup() {
+        layer = FXCollections.observableArrayList();
+        pool = new ParticlePool(layer, 2, 5, 2, () -> Color.RED, Duration.seconds(10));
+    }
+
+    @Test
+    void shouldAddTheParticlesOnTheirFirstExplosion() {
+        assertTrue(layer.isEmpty());
+
+        pool.explode(100, 100, 0, 0, 200, 200);
+
+        assertEquals(5, layer.size());
+        assertTrue(layer.containsAll(Arrays.asList(pool.getParticles(0))));
+    }
+
+    @Test
+    void shouldReuseTheParticles() {
+        for (int i = 0; i < 10; i++) {
+            pool.explode(100, 100, 0, 0, 200, 200);
+        }
+
+        assertEquals(10, layer.size());
+        assertEquals(10, new HashSet<>(layer).size());
+    }
+
+    @Test
+    void shouldUseAnIdleBurstFirst() {
+        pool.explode(100, 100, 0, 0, 200, 200);
+        pool.explode(100, 100, 0, 0, 200, 200);
+
+        final Set<Node> particles = new HashSet<>(Arrays.asList(pool.getParticles(0)));
+        particles.addAll(Arrays.asList(pool.getParticles(1)));
+        assertEquals(new HashSet<>(layer), particles);
+    }
+
+    @Test
+    void shouldRemoveTheParticlesOnClear() {
+        pool.explode(100, 100, 0, 0, 200, 200);
+
+        pool.clear();
+
+        assertTrue(layer.isEmpty());
+        for (final Circle particle : pool.getParticles(0)) {
+            assertFalse(particle.isVisible());
+        }
+    }
+
+    @Test
+    void shouldAddTheParticlesAgainAfterTheLayerIsCleared() {
+        pool.explode(100, 100, 0, 0, 200, 200);
+        layer.clear();
+
+        pool.explode(100, 100, 0, 0, 200, 200);
+
+        assertEquals(5, layer.size());
+    }
+
+}
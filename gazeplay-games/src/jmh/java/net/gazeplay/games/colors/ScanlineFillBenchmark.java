@@ -0,0 +1,125 @@
+package net.gazeplay.games.colors;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Cost of a fill of the Colors game on a 4K colouring page, made of a grid of 4x4 zones.
+ * <p>
+ * {@code colorByColorFill} reproduces the former behaviour (a {@link Color} read and written by pixel through the
+ * {@link PixelReader} and {@link PixelWriter} of the image), {@code scanlineFill} goes through the
+ * {@link ScanlineFillEngine} and copies the dirty rectangle to the image.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(java.util.concurrent.TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScanlineFillBenchmark {
+
+    private static final int WIDTH = 3840;
+
+    private static final int HEIGHT = 2160;
+
+    private static final int ZONES = 4;
+
+    private static final int LINE_WIDTH = 4;
+
+    private static final double COLOR_EQUALITY_THRESHOLD = 10d / 255d;
+
+    private static final int[] COLORS = {0xFFFF0000, 0xFF0000FF};
+
+    private WritableImage image;
+
+    private ScanlineFillEngine engine;
+
+    private int fillCount;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] pixels = new int[WIDTH * HEIGHT];
+        Arrays.fill(pixels, 0xFFFFFFFF);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                if (x % (WIDTH / ZONES) < LINE_WIDTH || y % (HEIGHT / ZONES) < LINE_WIDTH) {
+                    pixels[y * WIDTH + x] = 0xFF000000;
+                }
+            }
+        }
+        image = new WritableImage(WIDTH, HEIGHT);
+        image.getPixelWriter().setPixels(0, 0, WIDTH, HEIGHT, PixelFormat.getIntArgbInstance(), pixels, 0, WIDTH);
+        engine = new ScanlineFillEngine(WIDTH, HEIGHT, pixels);
+    }
+
+    @Benchmark
+    public int scanlineFill() {
+        final int filled = engine.fill(WIDTH / 2 + LINE_WIDTH, HEIGHT / 2 + LINE_WIDTH, COLORS[fillCount++ % 2], 10);
+        final int minX = engine.getDirtyMinX();
+        final int minY = engine.getDirtyMinY();
+        image.getPixelWriter().setPixels(minX, minY, engine.getDirtyMaxX() - minX + 1, engine.getDirtyMaxY() - minY + 1,
+            PixelFormat.getIntArgbInstance(), engine.getPixels(), minY * WIDTH + minX, WIDTH);
+        return filled;
+    }
+
+    @Benchmark
+    public int colorByColorFill() {
+        final PixelReader pixelReader = image.getPixelReader();
+        final PixelWriter pixelWriter = image.getPixelWriter();
+        final int x = WIDTH / 2 + LINE_WIDTH;
+        final int y = HEIGHT / 2 + LINE_WIDTH;
+        final int argb = COLORS[fillCount++ % 2];
+        final Color newColor = Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF);
+        final Color oldColor = pixelReader.getColor(x, y);
+
+        final Deque<int[]> zones = new ArrayDeque<>();
+        zones.add(new int[]{
+            legacyFloodInLine(pixelWriter, pixelReader, newColor, x, y, true, oldColor),
+            legacyFloodInLine(pixelWriter, pixelReader, newColor, x, y, false, oldColor),
+            y});
+        int zoneCount = 0;
+        while (!zones.isEmpty()) {
+            final int[] zone = zones.pop();
+            zoneCount++;
+            final int leftX = legacyFloodInLine(pixelWriter, pixelReader, newColor, zone[0], zone[2], true, oldColor);
+            final int rightX = legacyFloodInLine(pixelWriter, pixelReader, newColor, zone[1], zone[2], false, oldColor);
+            for (int i = leftX; i <= rightX; ++i) {
+                for (int neighbourY = zone[2] - 1; neighbourY <= zone[2] + 1; neighbourY += 2) {
+                    if (neighbourY >= 0 && neighbourY < HEIGHT && isEqualColors(pixelReader.getColor(i, neighbourY), oldColor)) {
+                        zones.add(new int[]{
+                            legacyFloodInLine(pixelWriter, pixelReader, newColor, i, neighbourY, true, oldColor),
+                            legacyFloodInLine(pixelWriter, pixelReader, newColor, i, neighbourY, false, oldColor),
+                            neighbourY});
+                    }
+                }
+            }
+        }
+        return zoneCount;
+    }
+
+    private static int legacyFloodInLine(final PixelWriter pixelWriter, final PixelReader pixelReader, final Color newColor,
+                                         final int x, final int y, final boolean isLeftFill, final Color oldColor) {
+        int currentX = x;
+        do {
+            pixelWriter.setColor(currentX, y, newColor);
+            currentX += isLeftFill ? -1 : 1;
+        } while (currentX >= 0 && currentX < WIDTH - 1 && isEqualColors(pixelReader.getColor(currentX, y), oldColor));
+        return isLeftFill ? currentX + 1 : currentX - 1;
+    }
+
+    private static boolean isEqualColors(final Color color1, final Color color2) {
+        final double dist = Math.sqrt(
+            Math.pow(color1.getRed() - color2.getRed(), 2) + Math.pow(color1.getGreen() - color2.getGreen(), 2)
+                + Math.pow(color1.getBlue() - color2.getBlue(), 2));
+        return dist <= COLOR_EQUALITY_THRESHOLD;
+    }
+
+}
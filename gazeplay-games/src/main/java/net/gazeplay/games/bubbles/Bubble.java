@@ -21,9 +21,7 @@ import net.gazeplay.commons.utils.games.ImageLibrary;
 import net.gazeplay.commons.utils.games.ImageUtils;
 import net.gazeplay.commons.utils.games.Utils;
 import net.gazeplay.commons.utils.stats.Stats;
-
-import java.util.ArrayList;
-import java.util.List;
+import net.gazeplay.components.ParticlePool;
 
 /**
  * Created by schwab on 28/08/2016.
@@ -44,6 +42,11 @@ public class Bubble extends Parent implements GameLifeCycle {
 
     private static final int nbFragments = 10; // number of little circles after explosion
 
+    private static final int nbExplosions = 4; // number of explosions playing at the same time
+
+    private static final String LARGE_BUBBLE_SOUND = "data/bubble/sounds/Large-Bubble-SoundBible.com-1084083477.mp3";
+    private static final String BLOP_SOUND = "data/bubble/sounds/Blop-Mark_DiAngelo-79054334.mp3";
+
     private final IGameContext gameContext;
 
     private final BubbleType type;
@@ -52,7 +55,7 @@ public class Bubble extends Parent implements GameLifeCycle {
 
     private final ImageLibrary imageLibrary;
 
-    private List<Circle> fragments;
+    private ParticlePool fragments;
 
     private EventHandler<Event> enterEvent;
 
@@ -65,6 +68,7 @@ public class Bubble extends Parent implements GameLifeCycle {
         this.direction = direction;
         gameContext.startTimeLimiter();
         gameContext.startScoreLimiter();
+        gameContext.getSoundManager().preload(LARGE_BUBBLE_SOUND, BLOP_SOUND);
 
         imageLibrary = ImageUtils.createImageLibrary(Utils.getImagesSubdirectory("portraits"));
     }
@@ -101,8 +105,6 @@ public class Bubble extends Parent implements GameLifeCycle {
 
         this.fragments = buildFragments(type);
 
-        this.getChildren().addAll(fragments);
-
         enterEvent = e -> {
 
             if (e.getEventType() == MouseEvent.MOUSE_ENTERED || e.getEventType() == GazeEvent.GAZE_ENTERED) {
@@ -117,20 +119,6 @@ public class Bubble extends Parent implements GameLifeCycle {
             newCircle();
         }
 
-
-        this.fragments = buildFragments(type);
-
-        this.getChildren().addAll(fragments);
-
-        enterEvent = e -> {
-
-            if (e.getEventType() == MouseEvent.MOUSE_ENTERED || e.getEventType() == GazeEvent.GAZE_ENTERED) {
-
-                enter((Circle) e.getTarget());
-            }
-        };
-
-
         stats.notifyNewRoundReady();
         gameContext.getGazeDeviceManager().addStats(stats);
     }
@@ -139,73 +127,34 @@ public class Bubble extends Parent implements GameLifeCycle {
     public void dispose() {
         enterEvent = e -> {
         };
+        if (fragments != null) {
+            fragments.clear();
+        }
         this.getChildren().clear();
     }
 
-    private List<Circle> buildFragments(final BubbleType bubbleType) {
-        final List<Circle> fragments = new ArrayList<>(nbFragments);
-
-        for (int i = 0; i < nbFragments; i++) {
-
-            final Circle fragment = new Circle();
-            fragment.setOpacity(1);
-            fragment.setRadius(20);
-            fragment.setVisible(true);
-            fragment.setCenterX(-100);
-            fragment.setCenterY(-100);
-
+    private ParticlePool buildFragments(final BubbleType bubbleType) {
+        final ParticlePool fragments = new ParticlePool(this.getChildren(), nbExplosions, nbFragments, 20, () -> {
             if (bubbleType == BubbleType.COLOR) {
-                fragment.setFill(new Color(Math.random(), Math.random(), Math.random(), 1));
+                return new Color(Math.random(), Math.random(), Math.random(), 1);
             } else {
-                fragment.setFill(new ImagePattern(imageLibrary.pickRandomImage(), 0, 0, 1, 1, true));
+                return new ImagePattern(imageLibrary.pickRandomImage(), 0, 0, 1, 1, true);
             }
-
-            fragments.add(fragment);
-        }
+        }, Duration.millis(1000));
+        fragments.setHorizontalInterpolator(Interpolator.LINEAR);
 
         return fragments;
     }
 
     public void explose(final double centerX, final double centerY) {
 
-        final Timeline goToCenterTimeline = new Timeline();
-        final Timeline timeline = new Timeline();
-
-        for (int i = 0; i < nbFragments; i++) {
-
-            final Circle fragment = fragments.get(i);
-
-            fragment.setCenterX(centerX);
-            fragment.setCenterY(centerY);
-            fragment.setOpacity(1);
-
-            goToCenterTimeline.getKeyFrames().add(new KeyFrame(new Duration(1),
-                new KeyValue(fragment.centerXProperty(), centerX, Interpolator.LINEAR)));
-            goToCenterTimeline.getKeyFrames().add(new KeyFrame(new Duration(1),
-                new KeyValue(fragment.centerYProperty(), centerY, Interpolator.EASE_OUT)));
-            goToCenterTimeline.getKeyFrames().add(new KeyFrame(new Duration(1), new KeyValue(fragment.opacityProperty(), 1)));
-
-            final Dimension2D screenDimension = gameContext.getCurrentScreenDimensionSupplier().get();
-            final double endXValue = Math.random() * screenDimension.getWidth();
-            final double endYValue = Math.random() * screenDimension.getHeight();
-
-            timeline.getKeyFrames().add(new KeyFrame(new Duration(1000),
-                new KeyValue(fragment.centerXProperty(), endXValue, Interpolator.LINEAR)));
-            timeline.getKeyFrames().add(new KeyFrame(new Duration(1000),
-                new KeyValue(fragment.centerYProperty(), endYValue, Interpolator.EASE_OUT)));
-            timeline.getKeyFrames().add(new KeyFrame(new Duration(1000), new KeyValue(fragment.opacityProperty(), 0)));
-        }
-
-        final SequentialTransition sequence = new SequentialTransition();
-        sequence.getChildren().addAll(goToCenterTimeline, timeline);
-        sequence.play();
+        final Dimension2D screenDimension = gameContext.getCurrentScreenDimensionSupplier().get();
+        fragments.explode(centerX, centerY, 0, 0, screenDimension.getWidth(), screenDimension.getHeight());
 
         if (Math.random() > 0.5) {
-            final String soundResource = "data/bubble/sounds/Large-Bubble-SoundBible.com-1084083477.mp3";
-            gameContext.getSoundManager().add(soundResource);
+            gameContext.getSoundManager().add(LARGE_BUBBLE_SOUND);
         } else {
-            final String soundResource = "data/bubble/sounds/Blop-Mark_DiAngelo-79054334.mp3";
-            gameContext.getSoundManager().add(soundResource);
+            gameContext.getSoundManager().add(BLOP_SOUND);
         }
     }
 
@@ -7,6 +7,7 @@ import javafx.beans.value.ObservableValue;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.PixelReader;
 import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
@@ -28,8 +29,6 @@ import net.gazeplay.components.GazeFollowerIndicator;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.ArrayDeque;
-import java.util.Deque;
 
 /**
  * Game where you select a color in order to colorize a white and black draw.
@@ -45,10 +44,12 @@ public class ColorsGame implements GameLifeCycle {
     public static final double GAZE_INDICATOR_DISTANCE = 5;
 
     /**
-     * On a [0, 1] scale, used to determine the threshold in the difference between two colors to consider that they are
+     * On a [0, 255] scale, used to determine the threshold in the difference between two colors to consider that they are
      * equals.
      */
-    private static final double COLOR_EQUALITY_THRESHOLD = 10d / 255d;
+    private static final int COLOR_EQUALITY_THRESHOLD = 10;
+
+    private static final int BLACK_ARGB = 0xFF000000;
 
     /**
      * Distance in pixel between two gaze event to consider that the gaze is moving.
@@ -74,8 +75,6 @@ public class ColorsGame implements GameLifeCycle {
 
     private final ColorsGamesStats stats;
 
-    private final Deque<HorizontalZone> horiZones = new ArrayDeque<>();
-
     /**
      * The tool box object.
      */
@@ -87,17 +86,17 @@ public class ColorsGame implements GameLifeCycle {
     private GazeIndicator gazeProgressIndicator;
 
     /**
-     * The pixel writer to into wich we modify pixels
+     * The pixel writer to into wich we copy the modified pixels
      */
     private PixelWriter pixelWriter;
 
     /**
-     * The pixel reader into wich we read pixels
+     * The pixels of the drawing, which are filled
      */
-    private PixelReader pixelReader;
+    private ScanlineFillEngine fillEngine;
 
     /**
-     * The image linked to the pixelReader and pixelWriter
+     * The image linked to the pixelWriter
      */
     @Getter
     private WritableImage writableImg;
@@ -138,17 +137,19 @@ public class ColorsGame implements GameLifeCycle {
     /**
      * Detect if a color is close enough to another one to be considered the same.
      *
-     * @param color1 The first color to compare
-     * @param color2 The second color to compare
+     * @param argb1 The first color to compare
+     * @param argb2 The second color to compare
      * @return true if considered same, false otherwise.
      */
-    private static boolean isEqualColors(final Color color1, final Color color2) {
-        // Scalar distance calculation
-        final double dist = Math.sqrt(
-            Math.pow(color1.getRed() - color2.getRed(), 2) + Math.pow(color1.getGreen() - color2.getGreen(), 2)
-                + Math.pow(color1.getBlue() - color2.getBlue(), 2));
+    private static boolean isEqualColors(final int argb1, final int argb2) {
+        return ScanlineFillEngine.isSimilar(argb1, argb2, COLOR_EQUALITY_THRESHOLD);
+    }
 
-        return dist <= COLOR_EQUALITY_THRESHOLD;
+    static int toArgb(final Color color) {
+        return (int) Math.round(color.getOpacity() * 255) << 24
+            | (int) Math.round(color.getRed() * 255) << 16
+            | (int) Math.round(color.getGreen() * 255) << 8
+            | (int) Math.round(color.getBlue() * 255);
     }
 
     @Override
@@ -321,9 +322,14 @@ public class ColorsGame implements GameLifeCycle {
 
         rectangle.setFill(this.createImagePattern(image, rectangle));
 
-        writableImg = new WritableImage(tmpPixelReader, (int) image.getWidth(), (int) image.getHeight());
+        final int width = (int) image.getWidth();
+        final int height = (int) image.getHeight();
+        final int[] pixels = new int[width * height];
+        tmpPixelReader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+
+        writableImg = new WritableImage(width, height);
         pixelWriter = writableImg.getPixelWriter();
-        pixelReader = writableImg.getPixelReader();
+        fillEngine = new ScanlineFillEngine(width, height, pixels);
 
 
         /*
@@ -361,36 +367,25 @@ public class ColorsGame implements GameLifeCycle {
         toBlackAndWhite();
     }
 
-    private double getAvgThresholdValue() {
-        double sum = 0;
-        for (int i = 0; i < writableImg.getWidth(); ++i) {
-            for (int j = 0; j < writableImg.getHeight(); ++j) {
-                final Color pixCol = pixelReader.getColor(i, j);
-                sum = sum + (pixCol.getRed() + pixCol.getGreen() + pixCol.getBlue()) / 3;
-            }
-        }
-        sum = sum / (writableImg.getWidth() * writableImg.getHeight());
-        return 3 * sum / 4;
-    }
-
     private void toBlackAndWhite() {
 
+        fillEngine.toBlackAndWhite();
+        writeDirtyRectangle();
 
-        final double avgThresholdValue = getAvgThresholdValue();
-
-        for (int i = 0; i < writableImg.getWidth(); ++i) {
-            for (int j = 0; j < writableImg.getHeight(); ++j) {
+        updateRectangle();
 
-                final Color pixCol = pixelReader.getColor(i, j);
-                final double avg = (pixCol.getRed() + pixCol.getGreen() + pixCol.getBlue()) / 3;
+    }
 
-                final Color newCol = avg > avgThresholdValue ? Color.WHITE : Color.BLACK;
-                pixelWriter.setColor(i, j, newCol);
-            }
+    /**
+     * Copy the pixels modified by the last operation of the fill engine to the displayed image.
+     */
+    private void writeDirtyRectangle() {
+        if (fillEngine.hasDirtyRectangle()) {
+            final int minX = fillEngine.getDirtyMinX();
+            final int minY = fillEngine.getDirtyMinY();
+            pixelWriter.setPixels(minX, minY, fillEngine.getDirtyMaxX() - minX + 1, fillEngine.getDirtyMaxY() - minY + 1,
+                PixelFormat.getIntArgbInstance(), fillEngine.getPixels(), minY * fillEngine.getWidth() + minX, fillEngine.getWidth());
         }
-
-        updateRectangle();
-
     }
 
     /**
@@ -405,133 +400,35 @@ public class ColorsGame implements GameLifeCycle {
         final int pixelY = (int) ((y - rectangle.getY()) * writableImg.getHeight() / rectangle.getHeight());
         // log.info("pixel at x= {}, y = {}", pixelX, pixelY);
 
-        final Color color = pixelReader.getColor(pixelX, pixelY);
-        // log.info("R = {}, G = {}, B = {}, A = {}", color.getRed(), color.getGreen(), color.getBlue(),
-        // color.getOpacity());
+        if (pixelX < 0 || pixelX >= fillEngine.getWidth() || pixelY < 0 || pixelY >= fillEngine.getHeight()) {
+            return;
+        }
+
+        final int color = fillEngine.getArgb(pixelX, pixelY);
+        final int newColor = toArgb(colorToolBox.getSelectedColorBox().getColor());
 
         /*
          * Don't fill the zone if the pixel selected is already of the same color. Also don't fill black zones
          */
-        if (!isEqualColors(color, colorToolBox.getSelectedColorBox().getColor()) && !isEqualColors(color, Color.BLACK)
+        if (!isEqualColors(color, newColor) && !isEqualColors(color, BLACK_ARGB)
             && drawingEnable.getValue()) {
-            javaFXFloodFill(pixelWriter, pixelReader, colorToolBox.getSelectedColorBox().getColor(), pixelX, pixelY,
-                (int) writableImg.getWidth(), (int) writableImg.getHeight());
-            rectangle.setFill(this.createImagePattern(writableImg, rectangle));
+            fillEngine.fill(pixelX, pixelY, newColor, COLOR_EQUALITY_THRESHOLD);
+            // the image pattern of the rectangle is updated with the image
+            writeDirtyRectangle();
             rectangle.toBack();
 
             stats.incrementNumberOfGoalsReached();
         }
     }
 
-    private void javaFXFloodFill(final PixelWriter pixelWriter, final PixelReader pixelReader, final Color newColor, final int x,
-                                 final int y, final int width, final int height) {
-
-        final Color oldColor = pixelReader.getColor(x, y);
-
-        // floodInColumnAndLineRec(pixelWriter, pixelReader, newColor, x, y, width, height, oldColor);
-        floodInColumnAndLine(pixelWriter, pixelReader, newColor, x, y, width, height, oldColor);
-    }
-
     public ImagePattern createImagePattern(final Image img, final Rectangle r) {
         return new ImagePattern(img, 0, 0, 1, 1, true);
     }
 
-    private void floodInColumnAndLine(final PixelWriter pixelWriter, final PixelReader pixelReader,
-                                      final Color newColor, final int x, final int y, final int width, final int height, final Color oldColor) {
-
-        final int leftX = floodInLine(pixelWriter, pixelReader, newColor, x, y, width, true, oldColor);
-        final int rightX = floodInLine(pixelWriter, pixelReader, newColor, x, y, width, false, oldColor);
-
-        final HorizontalZone firstZone = new HorizontalZone(leftX, rightX, y);
-        searchZone(firstZone, oldColor, pixelReader, pixelWriter, newColor, width, height);
-
-        while (horiZones.size() > 0) {
-
-            final HorizontalZone zone = horiZones.pop();
-            // log.info("zone : {}", zone.toString());
-            searchZone(zone, oldColor, pixelReader, pixelWriter, newColor, width, height);
-        }
-    }
-
-    private void searchZone(final HorizontalZone zone, final Color oldColor, final PixelReader pixelReader,
-                            final PixelWriter pixelWriter, final Color newColor, final int width, final int height) {
-
-        // Search for left and right of the zone
-        final int leftX = floodInLine(pixelWriter, pixelReader, newColor, zone.leftX, zone.y, width, true, oldColor);
-        final int rightX = floodInLine(pixelWriter, pixelReader, newColor, zone.rightX, zone.y, width, false, oldColor);
-
-        for (int i = leftX; i <= rightX; ++i) {
-
-            // Search for available zone to colorize upward
-            if (zone.y > 0 && isEqualColors(pixelReader.getColor(i, zone.y - 1), oldColor)) {
-
-                final int newLeftX = floodInLine(pixelWriter, pixelReader, newColor, i, zone.y - 1, width, true, oldColor);
-                final int newRightX = floodInLine(pixelWriter, pixelReader, newColor, i, zone.y - 1, width, false, oldColor);
-
-                horiZones.add(new HorizontalZone(newLeftX, newRightX, zone.y - 1));
-            }
-            // Search for available zone to colorize downward
-            if (zone.y < height - 1 && isEqualColors(pixelReader.getColor(i, zone.y + 1), oldColor)) {
-
-                final int newLeftX = floodInLine(pixelWriter, pixelReader, newColor, i, zone.y + 1, width, true, oldColor);
-                final int newRightX = floodInLine(pixelWriter, pixelReader, newColor, i, zone.y + 1, width, false, oldColor);
-
-                horiZones.add(new HorizontalZone(newLeftX, newRightX, zone.y + 1));
-            }
-        }
-    }
-
-    private int floodInLine(final PixelWriter pixelWriter, final PixelReader pixelReader, final Color newColor,
-                            final int x, final int y, final int width, final boolean isLeftFIll, final Color oldColor) {
-
-        int currentX = x;
-
-        // fill
-        do {
-
-            pixelWriter.setColor(currentX, y, newColor);
-
-            if (isLeftFIll) {
-                currentX--;
-            } else {
-                currentX++;
-            }
-        } while (currentX >= 0 && currentX < width - 1 && isEqualColors(pixelReader.getColor(currentX, y), oldColor));
-
-        if (isLeftFIll) {
-            currentX++;
-        } else {
-
-            currentX--;
-        }
-
-        return currentX;
-    }
-
     void setEnableColorization(final boolean enable) {
         this.drawingEnable.setValue(enable);
     }
 
-    /**
-     * Objects used internally that represents a horizontal line of pixels
-     */
-    private static class HorizontalZone {
-        final int leftX;
-        final int rightX;
-        final int y;
-
-        HorizontalZone(final int lX, final int rX, final int y) {
-            this.leftX = lX;
-            this.rightX = rX;
-            this.y = y;
-        }
-
-        @Override
-        public String toString() {
-            return "HorizontalZone{" + "leftX=" + leftX + ", rightX=" + rightX + ", y=" + y + '}';
-        }
-    }
-
     private class CustomEventHandler {
 
         private Double gazeXOrigin = 0.;
@@ -0,0 +1,177 @@
+package net.gazeplay.games.colors;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Fills the zones of a drawing held in a buffer of ARGB pixels.
+ * <p>
+ * A zone is filled span by span : each pixel is read once, and the spans of the rows above and below are queued
+ * only once. The bounds of the pixels modified by the last operation are kept, so that only this dirty rectangle has
+ * to be copied to the displayed image.
+ */
+class ScanlineFillEngine {
+
+    private static final int BLACK = 0xFF000000;
+
+    private static final int WHITE = 0xFFFFFFFF;
+
+    @Getter
+    private final int width;
+
+    @Getter
+    private final int height;
+
+    /**
+     * the pixels, row by row, in the IntArgb format of {@link javafx.scene.image.PixelFormat#getIntArgbInstance()}
+     */
+    @Getter
+    private final int[] pixels;
+
+    @Getter
+    private int dirtyMinX;
+
+    @Getter
+    private int dirtyMinY;
+
+    @Getter
+    private int dirtyMaxX = -1;
+
+    @Getter
+    private int dirtyMaxY = -1;
+
+    private final BitSet visited;
+
+    private int[] seeds = new int[256];
+
+    ScanlineFillEngine(final int width, final int height, final int[] pixels) {
+        if (pixels.length != width * height) {
+            throw new IllegalArgumentException("Expected " + width * height + " pixels, got " + pixels.length);
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+        this.visited = new BitSet(pixels.length);
+    }
+
+    int getArgb(final int x, final int y) {
+        return pixels[y * width + x];
+    }
+
+    boolean hasDirtyRectangle() {
+        return dirtyMaxX >= dirtyMinX && dirtyMaxY >= dirtyMinY;
+    }
+
+    /**
+     * @param tolerance the maximal distance between the RGB components of both colors, on a [0, 255] scale
+     * @return true if both colors are close enough to be considered the same
+     */
+    static boolean isSimilar(final int argb1, final int argb2, final int tolerance) {
+        final int red = ((argb1 >> 16) & 0xFF) - ((argb2 >> 16) & 0xFF);
+        final int green = ((argb1 >> 8) & 0xFF) - ((argb2 >> 8) & 0xFF);
+        final int blue = (argb1 & 0xFF) - (argb2 & 0xFF);
+        return red * red + green * green + blue * blue <= tolerance * tolerance;
+    }
+
+    /**
+     * Converts the drawing to black and white, a pixel being white when it is lighter than 3/4 of the average
+     * lightness of the drawing.
+     */
+    void toBlackAndWhite() {
+        long sum = 0;
+        for (final int argb : pixels) {
+            sum += componentsSum(argb);
+        }
+        final double threshold = pixels.length == 0 ? 0 : 0.75 * sum / pixels.length;
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = componentsSum(pixels[i]) > threshold ? WHITE : BLACK;
+        }
+        setDirtyRectangle(0, 0, width - 1, height - 1);
+    }
+
+    private static int componentsSum(final int argb) {
+        return ((argb >> 16) & 0xFF) + ((argb >> 8) & 0xFF) + (argb & 0xFF);
+    }
+
+    /**
+     * Fills the zone of the pixel at the given position, made of the connected pixels similar to it.
+     *
+     * @return the number of pixels filled
+     */
+    int fill(final int x, final int y, final int newArgb, final int tolerance) {
+        setDirtyRectangle(width, height, -1, -1);
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return 0;
+        }
+        final int oldArgb = getArgb(x, y);
+        visited.clear();
+        int filled = 0;
+        int seedCount = 0;
+        seeds = push(seeds, seedCount++, y * width + x);
+
+        while (seedCount > 0) {
+            final int seed = seeds[--seedCount];
+            if (visited.get(seed) || !isSimilar(pixels[seed], oldArgb, tolerance)) {
+                continue;
+            }
+            final int row = seed / width;
+            final int rowStart = row * width;
+
+            // extends the span to the left and to the right
+            int left = seed;
+            while (left > rowStart && !visited.get(left - 1) && isSimilar(pixels[left - 1], oldArgb, tolerance)) {
+                left--;
+            }
+            int right = seed;
+            while (right < rowStart + width - 1 && !visited.get(right + 1) && isSimilar(pixels[right + 1], oldArgb, tolerance)) {
+                right++;
+            }
+            visited.set(left, right + 1);
+            for (int i = left; i <= right; i++) {
+                pixels[i] = newArgb;
+            }
+            filled += right - left + 1;
+            extendDirtyRectangle(left - rowStart, right - rowStart, row);
+
+            // queues one seed by run of similar pixels, in the rows above and below
+            for (int neighbourRow = row - 1; neighbourRow <= row + 1; neighbourRow += 2) {
+                if (neighbourRow < 0 || neighbourRow >= height) {
+                    continue;
+                }
+                final int offset = (neighbourRow - row) * width;
+                boolean inRun = false;
+                for (int i = left + offset; i <= right + offset; i++) {
+                    final boolean candidate = !visited.get(i) && isSimilar(pixels[i], oldArgb, tolerance);
+                    if (candidate && !inRun) {
+                        seeds = push(seeds, seedCount++, i);
+                    }
+                    inRun = candidate;
+                }
+            }
+        }
+        return filled;
+    }
+
+    private static int[] push(final int[] stack, final int index, final int value) {
+        final int[] result = index < stack.length ? stack : Arrays.copyOf(stack, stack.length * 2);
+        result[index] = value;
+        return result;
+    }
+
+    private void setDirtyRectangle(final int minX, final int minY, final int maxX, final int maxY) {
+        dirtyMinX = minX;
+        dirtyMinY = minY;
+        dirtyMaxX = maxX;
+        dirtyMaxY = maxY;
+    }
+
+    private void extendDirtyRectangle(final int minX, final int maxX, final int y) {
+        dirtyMinX = Math.min(dirtyMinX, minX);
+        dirtyMaxX = Math.max(dirtyMaxX, maxX);
+        dirtyMinY = Math.min(dirtyMinY, y);
+        dirtyMaxY = Math.max(dirtyMaxY, y);
+    }
+
+}
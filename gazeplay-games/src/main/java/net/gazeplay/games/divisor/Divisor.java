@@ -2,8 +2,12 @@ package net.gazeplay.games.divisor;
 
 import javafx.geometry.Dimension2D;
 import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.IGameContext;
@@ -12,6 +16,7 @@ import net.gazeplay.commons.utils.games.ImageLibrary;
 import net.gazeplay.commons.utils.games.ImageUtils;
 import net.gazeplay.commons.utils.games.Utils;
 import net.gazeplay.commons.utils.stats.Stats;
+import net.gazeplay.components.ParticlePool;
 
 /**
  * Created by givaudan on 15/02/2018.
@@ -22,11 +27,16 @@ public class Divisor implements GameLifeCycle {
     private final Stats stats;
     private final boolean isRabbit;
 
+    @Getter(AccessLevel.PACKAGE)
+    private final ParticlePool particlePool;
+
     public Divisor(final IGameContext gameContext, final Stats stats, final boolean isRabbit) {
         super();
         this.gameContext = gameContext;
         this.stats = stats;
         this.isRabbit = isRabbit;
+        this.particlePool = new ParticlePool(gameContext.getChildren(), 4, 30, 2,
+            () -> Color.color(Math.random(), Math.random(), Math.random()), Duration.millis(1000));
         this.gameContext.startTimeLimiter();
     }
 
@@ -87,6 +97,7 @@ public class Divisor implements GameLifeCycle {
 
     @Override
     public void dispose() {
+        particlePool.clear();
         this.gameContext.clear();
     }
 
@@ -1,8 +1,6 @@
 package net.gazeplay.games.divisor;
 
-import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.event.Event;
@@ -26,8 +24,6 @@ import net.gazeplay.commons.utils.games.ImageLibrary;
 import net.gazeplay.commons.utils.stats.Stats;
 import net.gazeplay.components.Position;
 
-import java.util.ArrayList;
-
 /**
  * @author vincent
  */
@@ -143,31 +139,9 @@ class Target extends Parent {
     }
 
     private void explodeAnimation(final double x, final double y) {
-        final double particleRadius = 2;
-        final ArrayList<Circle> particles = new ArrayList<>();
-        final Timeline timelineParticle = new Timeline();
-        for (int i = 0; i < 30; i++) {
-            final Circle particle = new Circle(x, y, particleRadius);
-            particle.setFill(Color.color(Math.random(), Math.random(), Math.random()));
-
-            particles.add(particle);
-            this.gameContext.getChildren().add(particle);
-            final Position particleDestination = randomPosWithRange(this.pos, this.radius * 1.5, particleRadius);
-            timelineParticle.getKeyFrames()
-                .add(new KeyFrame(new Duration(1000), new KeyValue(particles.get(i).centerXProperty(),
-                    particleDestination.getX(), Interpolator.EASE_OUT)));
-            timelineParticle.getKeyFrames()
-                .add(new KeyFrame(new Duration(1000), new KeyValue(particles.get(i).centerYProperty(),
-                    particleDestination.getY(), Interpolator.EASE_OUT)));
-            timelineParticle.getKeyFrames()
-                .add(new KeyFrame(new Duration(1000), new KeyValue(particles.get(i).opacityProperty(), 0.0)));
-        }
-
-        timelineParticle.setOnFinished(actionEvent -> {
-            Target.this.gameContext.getChildren().removeAll(particles);
-
-        });
-        timelineParticle.play();
+        final double range = this.radius * 1.5;
+        gameInstance.getParticlePool().explode(x, y, x - range, y - range,
+            Math.min(x + range, dimension.getWidth()), Math.min(y + range, dimension.getHeight()));
 
         if (stats.getNbGoalsReached() == stats.getNbGoalsToReach()) {
             final long totalTime = (System.currentTimeMillis() - startTime) / 1000;
@@ -218,27 +192,6 @@ class Target extends Parent {
         return x;
     }
 
-    private Position randomPosWithRange(final Position start, final double range, final double radius) {
-        final ReplayablePseudoRandom random = new ReplayablePseudoRandom();
-
-        final double minX = (start.getX() - range);
-        final double minY = (start.getY() - range);
-        final double maxX = (start.getX() + range);
-        final double maxY = (start.getY() + range);
-
-        double positionX = random.nextInt((int) (maxX - minX)) + minX;
-        double positionY = random.nextInt((int) (maxY - minY)) + minY;
-
-        if (positionX > this.dimension.getWidth()) {
-            positionX = this.dimension.getWidth() - radius;
-        }
-        if (positionY > this.dimension.getHeight()) {
-            positionY = this.dimension.getHeight() - radius;
-        }
-
-        return new Position((int) positionX, (int) positionY);
-    }
-
     private void addEvent() {
         this.addEventFilter(MouseEvent.ANY, enterEvent);
         this.addEventFilter(GazeEvent.ANY, enterEvent);
@@ -21,6 +21,7 @@ import net.gazeplay.GameLifeCycle;
 import net.gazeplay.IGameContext;
 import net.gazeplay.commons.configuration.BackgroundStyleVisitor;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.commons.utils.games.ImageUtils;
 import net.gazeplay.commons.utils.stats.Stats;
 
 @Slf4j
@@ -78,14 +79,14 @@ public class Race extends Parent implements GameLifeCycle {
         dimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
         hand = new StackPane();
 
-        blue = new Image("data/" + gameType + "/images/Blue.png");
-        green = new Image("data/" + gameType + "/images/Green.png");
-        yellow = new Image("data/" + gameType + "/images/Yellow.png");
-        orange = new Image("data/" + gameType + "/images/Orange.png");
-        red = new Image("data/" + gameType + "/images/Red.png");
-        racer = new Image("data/" + gameType + "/images/frogJump.gif");
-        flash = new Image("data/" + gameType + "/images/Flash.png");
-        cage = new ImageView(new Image("data/" + gameType + "/images/Cage.png"));
+        blue = ImageUtils.loadImage("data/" + gameType + "/images/Blue.png");
+        green = ImageUtils.loadImage("data/" + gameType + "/images/Green.png");
+        yellow = ImageUtils.loadImage("data/" + gameType + "/images/Yellow.png");
+        orange = ImageUtils.loadImage("data/" + gameType + "/images/Orange.png");
+        red = ImageUtils.loadImage("data/" + gameType + "/images/Red.png");
+        racer = ImageUtils.loadImage("data/" + gameType + "/images/frogJump.gif");
+        flash = ImageUtils.loadImage("data/" + gameType + "/images/Flash.png");
+        cage = new ImageView(ImageUtils.loadImage("data/" + gameType + "/images/Cage.png"));
 
 
     }
@@ -94,7 +95,7 @@ public class Race extends Parent implements GameLifeCycle {
         Rectangle imageRectangle = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
         imageRectangle.widthProperty().bind(gameContext.getRoot().widthProperty());
         imageRectangle.heightProperty().bind(gameContext.getRoot().heightProperty());
-        imageRectangle.setFill(new ImagePattern(new Image("data/" + gameType + "/images/Background.jpg")));
+        imageRectangle.setFill(new ImagePattern(ImageUtils.loadImage("data/" + gameType + "/images/Background.jpg")));
 
         double backgroundStyleCoef = gameContext.getConfiguration().getBackgroundStyle().accept(new BackgroundStyleVisitor<Double>() {
             @Override
@@ -268,8 +269,8 @@ public class Race extends Parent implements GameLifeCycle {
         sc.setText(cst);
         sc.setTextFill(Color.WHITE);
         dimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
-        final ImageView iv1 = new ImageView(new Image("data/" + gameType + "/images/hand.png"));
-        final ImageView iv2 = new ImageView(new Image("data/" + gameType + "/images/handShot.png"));
+        final ImageView iv1 = new ImageView(ImageUtils.loadImage("data/" + gameType + "/images/hand.png"));
+        final ImageView iv2 = new ImageView(ImageUtils.loadImage("data/" + gameType + "/images/handShot.png"));
 
         final StackPane iv = new StackPane();
         final double x = dimension2D.getHeight();
@@ -85,6 +85,10 @@ public class Shooter extends Parent implements GameLifeCycle {
 
         box = new ImageView(new Image("data/" + gameType + "/images/Cage.png"));
 
+        this.gameContext.getSoundManager().preload(
+            "data/" + gameType + "/sounds/hand_sound1.mp3",
+            "data/" + gameType + "/sounds/hand_sound2.mp3",
+            "data/" + gameType + "/sounds/hand_sound3.mp3");
     }
 
     private Rectangle createBackground() {
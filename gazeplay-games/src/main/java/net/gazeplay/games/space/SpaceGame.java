@@ -220,17 +220,17 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
         final Rectangle backgroundImage = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
         backgroundImage.widthProperty().bind(gameContext.getRoot().widthProperty());
         backgroundImage.heightProperty().bind(gameContext.getRoot().heightProperty());
-        backgroundImage.setFill(new ImagePattern(new Image("data/space/background/space_img.png")));
+        backgroundImage.setFill(new ImagePattern(ImageUtils.loadImage("data/space/background/space_img.png")));
 
         final Rectangle backgroundImage2 = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
         backgroundImage2.widthProperty().bind(gameContext.getRoot().widthProperty());
         backgroundImage2.heightProperty().bind(gameContext.getRoot().heightProperty());
-        backgroundImage2.setFill(new ImagePattern(new Image("data/space/background/space_img.png")));
+        backgroundImage2.setFill(new ImagePattern(ImageUtils.loadImage("data/space/background/space_img.png")));
 
         final Rectangle backgroundImage3 = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
         backgroundImage3.widthProperty().bind(gameContext.getRoot().widthProperty());
         backgroundImage3.heightProperty().bind(gameContext.getRoot().heightProperty());
-        backgroundImage3.setFill(new ImagePattern(new Image("data/space/background/space_img.png")));
+        backgroundImage3.setFill(new ImagePattern(ImageUtils.loadImage("data/space/background/space_img.png")));
 
         backgroundImage.setOpacity(0.08);
         backgroundImage2.setOpacity(0.08);
@@ -490,7 +490,7 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
     private void createBoss(final double x, final double y) {
         final Boss boss;
         boss = new Boss(x, y, bossWidth, bossHeight, null, dimension2D.getWidth(), getGameSpeed(), 0, 0, 0, 0);
-        boss.setFill(new ImagePattern(new Image("data/space/enemy/boss.gif")));
+        boss.setFill(new ImagePattern(ImageUtils.loadImage("data/space/enemy/boss.gif")));
         bosses.add(boss);
         backgroundLayer.getChildren().add(boss);
         final FadeTransition bossAppear = new FadeTransition(Duration.seconds(1), boss);
@@ -530,7 +530,7 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
 
             final Rectangle bulletRec = new Rectangle(spaceship.getX() + spaceship.getWidth() / 2,
                 spaceship.getY() - spaceship.getHeight() / 3, 10, 20);
-            bulletRec.setFill(new ImagePattern(new Image("data/space/bullet/laserBlue01.png")));
+            bulletRec.setFill(new ImagePattern(ImageUtils.loadImage("data/space/bullet/laserBlue01.png")));
             middleLayer.getChildren().add(bulletRec);
             bulletListRec.add(bulletRec);
 
@@ -666,7 +666,7 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
             final int bibouleShoot = random.nextInt(1500);
 
             final Rectangle bulletBibouleRec = new Rectangle(b.getX() + b.getWidth() / 2, b.getY(), 10, 20);
-            bulletBibouleRec.setFill(new ImagePattern(new Image("data/space/bullet/laserRed01.png")));
+            bulletBibouleRec.setFill(new ImagePattern(ImageUtils.loadImage("data/space/bullet/laserRed01.png")));
 
             if (bibouleShoot == 1) {
                 backgroundLayer.getChildren().add(bulletBibouleRec);
@@ -717,7 +717,7 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
             final int bossShoot = random.nextInt(240);
 
             final Rectangle bulletBossRec = new Rectangle(b.getX() + b.getWidth() / 2, b.getY(), 15, 30);
-            bulletBossRec.setFill(new ImagePattern(new Image("data/space/bullet/laserRed01.png")));
+            bulletBossRec.setFill(new ImagePattern(ImageUtils.loadImage("data/space/bullet/laserRed01.png")));
 
             if (bossShoot == 1) {
                 backgroundLayer.getChildren().add(bulletBossRec);
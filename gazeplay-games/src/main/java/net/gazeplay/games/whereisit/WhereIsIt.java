@@ -22,6 +22,7 @@ import net.gazeplay.commons.configuration.BackgroundStyleVisitor;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gamevariants.difficulty.SourceSet;
 import net.gazeplay.commons.random.ReplayablePseudoRandom;
+import net.gazeplay.commons.soundsmanager.SoundPriority;
 import net.gazeplay.commons.utils.games.ResourceFileManager;
 import net.gazeplay.commons.utils.games.WhereIsItVaildator;
 import net.gazeplay.commons.utils.multilinguism.Multilinguism;
@@ -211,7 +212,8 @@ public class WhereIsIt implements GameLifeCycle {
 
     void playQuestionSound() {
         String soundResource = currentRoundDetails.getQuestionSoundPath();
-        gameContext.getSoundManager().add(soundResource);
+        // a question asked again replaces the one not played yet
+        gameContext.getSoundManager().addLatest(soundResource, SoundPriority.HIGH);
     }
 
     /**
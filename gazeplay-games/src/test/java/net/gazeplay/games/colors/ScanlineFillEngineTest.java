@@ -0,0 +1,116 @@
+package net.gazeplay.games.colors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanlineFillEngineTest {
+
+    private static final int BLACK = 0xFF000000;
+
+    private static final int WHITE = 0xFFFFFFFF;
+
+    private static final int RED = 0xFFFF0000;
+
+    /**
+     * A white drawing of 10x10 pixels, split by a black vertical line at x = 4.
+     */
+    private static ScanlineFillEngine createSplitDrawing() {
+        final int[] pixels = new int[100];
+        Arrays.fill(pixels, WHITE);
+        for (int y = 0; y < 10; y++) {
+            pixels[y * 10 + 4] = BLACK;
+        }
+        return new ScanlineFillEngine(10, 10, pixels);
+    }
+
+    @Test
+    void shouldFillTheZoneUpToTheBorders() {
+        final ScanlineFillEngine engine = createSplitDrawing();
+
+        assertEquals(40, engine.fill(1, 1, RED, 10));
+
+        assertEquals(RED, engine.getArgb(0, 0));
+        assertEquals(RED, engine.getArgb(3, 9));
+        assertEquals(BLACK, engine.getArgb(4, 5));
+        assertEquals(WHITE, engine.getArgb(5, 5));
+    }
+
+    @Test
+    void shouldKeepTheBoundsOfTheFilledPixels() {
+        final ScanlineFillEngine engine = createSplitDrawing();
+
+        engine.fill(7, 2, RED, 10);
+
+        assertTrue(engine.hasDirtyRectangle());
+        assertEquals(5, engine.getDirtyMinX());
+        assertEquals(0, engine.getDirtyMinY());
+        assertEquals(9, engine.getDirtyMaxX());
+        assertEquals(9, engine.getDirtyMaxY());
+    }
+
+    @Test
+    void shouldNotFillOutsideTheDrawing() {
+        final ScanlineFillEngine engine = createSplitDrawing();
+
+        assertEquals(0, engine.fill(10, 2, RED, 10));
+        assertFalse(engine.hasDirtyRectangle());
+    }
+
+    @Test
+    void shouldFillTheSimilarColors() {
+        final ScanlineFillEngine engine = createSplitDrawing();
+        final int almostWhite = 0xFFFAFAFA;
+        engine.getPixels()[12] = almostWhite;
+
+        engine.fill(0, 0, RED, 10);
+        assertEquals(RED, engine.getArgb(2, 1));
+
+        final ScanlineFillEngine strictEngine = createSplitDrawing();
+        strictEngine.getPixels()[12] = almostWhite;
+
+        strictEngine.fill(0, 0, RED, 0);
+        assertEquals(almostWhite, strictEngine.getArgb(2, 1));
+    }
+
+    @Test
+    void shouldTerminateWhenTheNewColorIsSimilar() {
+        final ScanlineFillEngine engine = createSplitDrawing();
+
+        assertEquals(40, engine.fill(0, 0, 0xFFFEFEFE, 10));
+        assertEquals(0xFFFEFEFE, engine.getArgb(3, 9));
+    }
+
+    @Test
+    void shouldFillAroundTheHoles() {
+        final int[] pixels = new int[25];
+        Arrays.fill(pixels, WHITE);
+        // a black square ring around the center pixel
+        for (final int i : new int[]{6, 7, 8, 11, 13, 16, 17, 18}) {
+            pixels[i] = BLACK;
+        }
+        final ScanlineFillEngine engine = new ScanlineFillEngine(5, 5, pixels);
+
+        assertEquals(16, engine.fill(0, 0, RED, 10));
+        assertEquals(WHITE, engine.getArgb(2, 2));
+    }
+
+    @Test
+    void shouldConvertToBlackAndWhite() {
+        final ScanlineFillEngine engine = new ScanlineFillEngine(2, 2, new int[]{0xFF101010, 0xFFF0F0F0, 0xFFE0E0E0, 0x80202020});
+
+        engine.toBlackAndWhite();
+
+        assertArrayEquals(new int[]{BLACK, WHITE, WHITE, BLACK}, engine.getPixels());
+        assertEquals(1, engine.getDirtyMaxX());
+        assertEquals(1, engine.getDirtyMaxY());
+    }
+
+    @Test
+    void shouldRejectInconsistentSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new ScanlineFillEngine(10, 10, new int[99]));
+    }
+
+}